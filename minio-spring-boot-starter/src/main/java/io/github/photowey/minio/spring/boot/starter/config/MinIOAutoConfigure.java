@@ -31,6 +31,9 @@ import org.springframework.context.annotation.Import;
 @Import(value = {
     MinIOConditionConfigure.class,
     AbstractMinIOPropertyConfigure.PropertyConfigure.class,
+    MinIOMetricsConfigure.class,
+    MinIOReactiveConfigure.class,
+    MinIOTenantRegistrar.class,
 })
 @ConditionalOnClass(AutoConfiguration.class)
 public class MinIOAutoConfigure extends AbstractMinIOConfigure {}
@@ -31,6 +31,9 @@ import org.springframework.context.annotation.Import;
 @Import(value = {
     MinIOConditionConfigure.class,
     AbstractMinIOPropertyConfigure.PropertyConfigure.class,
+    MinIOMetricsConfigure.class,
+    MinIOReactiveConfigure.class,
+    MinIOTenantRegistrar.class,
 })
 @ConditionalOnMissingClass("org.springframework.boot.autoconfigure.AutoConfiguration")
 public class MinIOConfigure extends AbstractMinIOConfigure {}
@@ -0,0 +1,229 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.starter.config;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.balancer.LoadBalancer;
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.DiskCacheDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.MetadataCacheDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.coalesce.CoalescingDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.executor.CompletionExecutors;
+import io.github.photowey.minio.spring.boot.autoconfigure.hedge.HedgeDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.http.OkHttpClients;
+import io.github.photowey.minio.spring.boot.autoconfigure.limits.LimitsDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.metrics.AdmissionControlMetrics;
+import io.github.photowey.minio.spring.boot.autoconfigure.metrics.BufferPoolMetrics;
+import io.github.photowey.minio.spring.boot.autoconfigure.metrics.CoalescerMetrics;
+import io.github.photowey.minio.spring.boot.autoconfigure.metrics.DiskCacheMetrics;
+import io.github.photowey.minio.spring.boot.autoconfigure.metrics.HedgerMetrics;
+import io.github.photowey.minio.spring.boot.autoconfigure.metrics.LoadBalancerMetrics;
+import io.github.photowey.minio.spring.boot.autoconfigure.metrics.MetadataCacheMetrics;
+import io.github.photowey.minio.spring.boot.autoconfigure.metrics.MinioMetricsDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.metrics.OkHttpClientMetrics;
+import io.github.photowey.minio.spring.boot.autoconfigure.metrics.RetryMetrics;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.retry.RetryDecorator;
+import io.github.photowey.minio.spring.boot.core.buffer.BufferPool;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * {@code MinIOMetricsConfigure}
+ * <p>
+ * Micrometer instrumentation, only when Micrometer is on the classpath and {@code spring.minio.metrics.enabled}
+ * isn't {@code false}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+@Configuration
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnExpression("${spring.minio.metrics.enabled:true}")
+public class MinIOMetricsConfigure {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public MinioMetricsDecorator minioMetricsDecorator(
+        ObjectProvider<MeterRegistry> registry,
+        MinIOProperties properties) {
+        return new MinioMetricsDecorator(registry, properties);
+    }
+
+    /**
+     * {@link OkHttpClientMetrics}
+     * <p>
+     * Bound to the {@link MeterRegistry} by Spring Boot Actuator.
+     *
+     * @param httpClient {@link OkHttpClient}
+     * @return {@link OkHttpClientMetrics}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public OkHttpClientMetrics minioHttpClientMetrics(
+        @Qualifier(OkHttpClients.MINIO_HTTP_CLIENT_BEAN_NAME) OkHttpClient httpClient) {
+        return new OkHttpClientMetrics(httpClient);
+    }
+
+    /**
+     * {@link BufferPoolMetrics}
+     *
+     * @param pool {@link BufferPool}
+     * @return {@link MeterBinder}
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "minioBufferPoolMetrics")
+    public MeterBinder minioBufferPoolMetrics(ObjectProvider<BufferPool> pool) {
+        return (registry) -> pool.ifAvailable((it) -> new BufferPoolMetrics(it).bindTo(registry));
+    }
+
+    /**
+     * {@link MetadataCacheMetrics}
+     * <p>
+     * Binds nothing unless {@code spring.minio.cache.metadata.enabled} is {@code true}.
+     *
+     * @param decorator {@link MetadataCacheDecorator}
+     * @return {@link MeterBinder}
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "minioMetadataCacheMetrics")
+    public MeterBinder minioMetadataCacheMetrics(ObjectProvider<MetadataCacheDecorator> decorator) {
+        return (registry) -> decorator.ifAvailable(
+            (cache) -> new MetadataCacheMetrics(cache.cache()).bindTo(registry));
+    }
+
+    /**
+     * {@link DiskCacheMetrics}
+     * <p>
+     * Binds nothing unless {@code spring.minio.cache.disk.enabled} is {@code true}.
+     *
+     * @param decorator {@link DiskCacheDecorator}
+     * @return {@link MeterBinder}
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "minioDiskCacheMetrics")
+    public MeterBinder minioDiskCacheMetrics(ObjectProvider<DiskCacheDecorator> decorator) {
+        return (registry) -> decorator.ifAvailable(
+            (cache) -> new DiskCacheMetrics(cache.cache()).bindTo(registry));
+    }
+
+    /**
+     * {@link CoalescerMetrics}
+     * <p>
+     * Binds nothing unless {@code spring.minio.coalesce.enabled} is {@code true}.
+     *
+     * @param decorator {@link CoalescingDecorator}
+     * @return {@link MeterBinder}
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "minioCoalescerMetrics")
+    public MeterBinder minioCoalescerMetrics(ObjectProvider<CoalescingDecorator> decorator) {
+        return (registry) -> decorator.ifAvailable(
+            (it) -> new CoalescerMetrics(it.coalescer()).bindTo(registry));
+    }
+
+    /**
+     * {@link AdmissionControlMetrics}
+     * <p>
+     * Binds nothing unless {@code spring.minio.limits.enabled} is {@code true}.
+     *
+     * @param decorator {@link LimitsDecorator}
+     * @return {@link MeterBinder}
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "minioLimitsMetrics")
+    public MeterBinder minioLimitsMetrics(ObjectProvider<LimitsDecorator> decorator) {
+        return (registry) -> decorator.ifAvailable(
+            (limits) -> new AdmissionControlMetrics(limits.control()).bindTo(registry));
+    }
+
+    /**
+     * {@link RetryMetrics}
+     * <p>
+     * Binds nothing unless {@code spring.minio.retry.enabled} is {@code true}.
+     *
+     * @param decorator {@link RetryDecorator}
+     * @return {@link MeterBinder}
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "minioRetryMetrics")
+    public MeterBinder minioRetryMetrics(ObjectProvider<RetryDecorator> decorator) {
+        return (registry) -> decorator.ifAvailable(
+            (retry) -> new RetryMetrics(retry.retrier()).bindTo(registry));
+    }
+
+    /**
+     * {@link HedgerMetrics}
+     * <p>
+     * Binds nothing unless {@code spring.minio.hedge.enabled} is {@code true}.
+     *
+     * @param decorator {@link HedgeDecorator}
+     * @return {@link MeterBinder}
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "minioHedgeMetrics")
+    public MeterBinder minioHedgeMetrics(ObjectProvider<HedgeDecorator> decorator) {
+        return (registry) -> decorator.ifAvailable(
+            (hedge) -> new HedgerMetrics(hedge.hedger()).bindTo(registry));
+    }
+
+    /**
+     * {@link LoadBalancerMetrics}
+     * <p>
+     * Binds nothing unless {@code spring.minio.endpoints} is set.
+     *
+     * @param balancer {@link LoadBalancer}
+     * @return {@link MeterBinder}
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "minioLoadBalancerMetrics")
+    public MeterBinder minioLoadBalancerMetrics(ObjectProvider<LoadBalancer> balancer) {
+        return (registry) -> balancer.ifAvailable(
+            (it) -> new LoadBalancerMetrics(it).bindTo(registry));
+    }
+
+    /**
+     * {@link ExecutorServiceMetrics} of the {@code minioCompletionExecutor}, named {@code minio.completion}
+     * ({@code executor.queued}, {@code executor.active}, ...).
+     * <p>
+     * Binds nothing unless the executor is an {@link ExecutorService}.
+     *
+     * @param completionExecutor {@link Executor}
+     * @return {@link MeterBinder}
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "minioCompletionExecutorMetrics")
+    public MeterBinder minioCompletionExecutorMetrics(
+        @Qualifier(CompletionExecutors.MINIO_COMPLETION_EXECUTOR_BEAN_NAME) ObjectProvider<Executor> completionExecutor) {
+        return (registry) -> completionExecutor.ifAvailable((executor) -> {
+            if (executor instanceof ExecutorService) {
+                new ExecutorServiceMetrics((ExecutorService) executor, "minio.completion", Tags.empty()).bindTo(registry);
+            }
+        });
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.starter.config;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.client.MinioClients;
+import io.github.photowey.minio.spring.boot.autoconfigure.http.OkHttpClients;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.reactive.DefaultReactiveMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.reactive.ReactiveMinioTemplate;
+import io.minio.MinioAsyncClient;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code MinIOReactiveConfigure}
+ * <p>
+ * The {@link ReactiveMinioTemplate}, only when Reactor is on the classpath and {@code spring.minio.reactive.enabled}
+ * isn't {@code false}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+@Configuration
+@ConditionalOnClass(name = "reactor.core.publisher.Flux")
+@ConditionalOnExpression("${spring.minio.reactive.enabled:true}")
+public class MinIOReactiveConfigure {
+
+    /**
+     * {@link ReactiveMinioTemplate}
+     * <p>
+     * Runs on the {@link MinioAsyncClient} bean, or on a private one sharing the {@link OkHttpClient}
+     * if the async mode is disabled.
+     *
+     * @param properties       {@link MinIOProperties}
+     * @param minioAsyncClient {@link MinioAsyncClient}
+     * @param httpClient       {@link OkHttpClient}
+     * @return {@link ReactiveMinioTemplate}
+     */
+    @Bean(ReactiveMinioTemplate.MINIO_TEMPLATE_BEAN_NAME)
+    @ConditionalOnMissingBean
+    public ReactiveMinioTemplate reactiveMinioTemplate(
+        MinIOProperties properties,
+        ObjectProvider<MinioAsyncClient> minioAsyncClient,
+        @Qualifier(OkHttpClients.MINIO_HTTP_CLIENT_BEAN_NAME) OkHttpClient httpClient) {
+        MinioAsyncClient minioClient = minioAsyncClient.getIfAvailable(() -> MinioClients.async(properties, httpClient));
+
+        return new DefaultReactiveMinioTemplate(minioClient, properties);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.starter.config;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * {@code OnMinIOEndpointsCondition}
+ * <p>
+ * Matches if {@code spring.minio.endpoints} lists at least one endpoint, as a list or a comma-separated value.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class OnMinIOEndpointsCondition implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        return Binder.get(context.getEnvironment())
+            .bind(MinIOProperties.getPrefix() + ".endpoints", Bindable.listOf(String.class))
+            .map((endpoints) -> !endpoints.isEmpty())
+            .orElse(false);
+    }
+}
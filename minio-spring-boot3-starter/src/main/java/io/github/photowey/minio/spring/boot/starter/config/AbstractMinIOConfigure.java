@@ -15,18 +15,45 @@
  */
 package io.github.photowey.minio.spring.boot.starter.config;
 
+import io.github.photowey.minio.spring.boot.autoconfigure.balancer.BalancedAsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.balancer.BalancedSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.balancer.LoadBalancer;
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.DiskCacheDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.MetadataCacheDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.client.MinioClients;
+import io.github.photowey.minio.spring.boot.autoconfigure.coalesce.CoalescingDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.executor.CompletionExecutors;
+import io.github.photowey.minio.spring.boot.autoconfigure.hedge.HedgeDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.http.OkHttpClients;
+import io.github.photowey.minio.spring.boot.autoconfigure.limits.LimitsDecorator;
 import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.retry.RetryDecorator;
 import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
 import io.github.photowey.minio.spring.boot.autoconfigure.template.DefaultAsyncMinioTemplate;
 import io.github.photowey.minio.spring.boot.autoconfigure.template.DefaultSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.MinioTemplateDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.MinioTemplateDecorators;
 import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.tenant.MinioTemplateRegistry;
+import io.github.photowey.minio.spring.boot.core.async.VirtualThreads;
+import io.github.photowey.minio.spring.boot.core.buffer.BufferPool;
 import io.minio.MinioAsyncClient;
 import io.minio.MinioClient;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
-import org.springframework.util.StringUtils;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Primary;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
 
 /**
  * {@code AbstractMinIOConfigure}
@@ -35,77 +62,303 @@ import org.springframework.util.StringUtils;
  * @version 1.0.0
  * @since 2024/10/06
  */
-public abstract class AbstractMinIOConfigure {
+public abstract class AbstractMinIOConfigure implements DisposableBean {
+
+    private static final String VIRTUAL_THREAD_NAME_PREFIX = "OkHttp MinIO virtual-";
 
     @Autowired
     private MinIOProperties properties;
 
+    /**
+     * The {@link OkHttpClient} created by {@link #minioHttpClient()}, {@code null} if the application defines its own.
+     */
+    private volatile OkHttpClient httpClient;
+
+    /**
+     * {@link OkHttpClient}
+     * <p>
+     * Shared by {@link MinioClient} and {@link MinioAsyncClient}, configured by {@code spring.minio.http.*}.
+     * Its dispatcher threads and idle connections are released with the context, see {@link #destroy()}.
+     * With {@code spring.minio.sync.virtual-threads}, the dispatcher starts a virtual thread per call, for the sync
+     * and the async clients alike. {@code OkHttp} 4.12 blocks inside {@code synchronized} sections, so those calls
+     * still pin their carrier thread before Java 24.
+     *
+     * @return {@link OkHttpClient}
+     */
+    @Bean(OkHttpClients.MINIO_HTTP_CLIENT_BEAN_NAME)
+    @ConditionalOnMissingBean(name = OkHttpClients.MINIO_HTTP_CLIENT_BEAN_NAME)
+    public OkHttpClient minioHttpClient() {
+        return this.httpClient = httpClient(properties);
+    }
+
+    @Override
+    public void destroy() {
+        OkHttpClient httpClient = this.httpClient;
+        if (httpClient != null) {
+            OkHttpClients.close(httpClient);
+        }
+    }
+
     /**
      * {@link MinioClient }
      * <p>
      * {@literal @}ConditionalOnExpression("#{'true'.equals(environment['spring.minio.sync.enabled'])}")
      *
+     * @param httpClient {@link OkHttpClient}
      * @return {@link MinioClient}
      */
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnExpression("${spring.minio.sync.enabled:true}") // ?
-    public MinioClient minioSyncClient() {
-        MinioClient.Builder builder = MinioClient.builder()
-            .endpoint(properties.getEndpoint())
-            .credentials(properties.getAccessKey(), properties.getSecretKey());
-
-        if (StringUtils.hasText(properties.getRegion())) {
-            builder.region(properties.getRegion());
-        }
-
-        return builder.build();
+    public MinioClient minioSyncClient(
+        @Qualifier(OkHttpClients.MINIO_HTTP_CLIENT_BEAN_NAME) OkHttpClient httpClient) {
+        return MinioClients.sync(properties, httpClient);
     }
 
     /**
      * {@link MinioAsyncClient}
      *
+     * @param httpClient {@link OkHttpClient}
      * @return {@link MinioAsyncClient}
      * {@literal @}ConditionalOnExpression("#{'true'.equals(environment['spring.minio.async.enabled'])}")
      */
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnExpression("${spring.minio.async.enabled:false}")
-    public MinioAsyncClient minioAsyncClient() {
-        MinioAsyncClient.Builder builder = MinioAsyncClient.builder()
-            .endpoint(properties.getEndpoint())
-            .credentials(properties.getAccessKey(), properties.getSecretKey());
+    public MinioAsyncClient minioAsyncClient(
+        @Qualifier(OkHttpClients.MINIO_HTTP_CLIENT_BEAN_NAME) OkHttpClient httpClient) {
+        return MinioClients.async(properties, httpClient);
+    }
 
-        if (StringUtils.hasText(properties.getRegion())) {
-            builder.region(properties.getRegion());
-        }
+    /**
+     * The completion {@link Executor} of the {@link AsyncMinioTemplate} futures.
+     * <p>
+     * {@literal @}ConditionalOnExpression("#{'true'.equals(environment['spring.minio.async.executor.enabled'])}")
+     *
+     * @return {@link ThreadPoolExecutor}
+     */
+    @Bean(name = CompletionExecutors.MINIO_COMPLETION_EXECUTOR_BEAN_NAME, destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = CompletionExecutors.MINIO_COMPLETION_EXECUTOR_BEAN_NAME)
+    @ConditionalOnExpression("${spring.minio.async.enabled:false} && ${spring.minio.async.executor.enabled:false}")
+    public ThreadPoolExecutor minioCompletionExecutor() {
+        return CompletionExecutors.create(properties.getAsync().getExecutor());
+    }
 
-        return builder.build();
+    /**
+     * The shared {@link BufferPool}, the templates copy bodies through its direct buffers.
+     *
+     * @return {@link BufferPool}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public BufferPool minioBufferPool() {
+        BufferPool pool = BufferPool.shared();
+        pool.leakDetection(properties.getBuffers().isLeakDetection());
+
+        return pool;
+    }
+
+    /**
+     * {@link LoadBalancer} over {@code spring.minio.endpoints}, each endpoint with its own clients sharing the
+     * {@link OkHttpClient}.
+     *
+     * @param httpClient         {@link OkHttpClient}
+     * @param completionExecutor {@link Executor}
+     * @return {@link LoadBalancer}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @Conditional(OnMinIOEndpointsCondition.class)
+    public LoadBalancer minioLoadBalancer(
+        @Qualifier(OkHttpClients.MINIO_HTTP_CLIENT_BEAN_NAME) OkHttpClient httpClient,
+        @Qualifier(CompletionExecutors.MINIO_COMPLETION_EXECUTOR_BEAN_NAME) ObjectProvider<Executor> completionExecutor) {
+        return new LoadBalancer(properties, httpClient, completionExecutor.getIfAvailable());
+    }
+
+    /**
+     * {@link MetadataCacheDecorator}
+     * <p>
+     * {@literal @}ConditionalOnExpression("#{'true'.equals(environment['spring.minio.cache.metadata.enabled'])}")
+     *
+     * @return {@link MetadataCacheDecorator}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression("${spring.minio.cache.metadata.enabled:false}")
+    public MetadataCacheDecorator minioMetadataCacheDecorator() {
+        return MinioTemplateDecorators.metadataCache(properties);
+    }
+
+    /**
+     * {@link DiskCacheDecorator}
+     * <p>
+     * {@literal @}ConditionalOnExpression("#{'true'.equals(environment['spring.minio.cache.disk.enabled'])}")
+     *
+     * @return {@link DiskCacheDecorator}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression("${spring.minio.cache.disk.enabled:false}")
+    public DiskCacheDecorator minioDiskCacheDecorator() {
+        return MinioTemplateDecorators.diskCache(properties);
+    }
+
+    /**
+     * {@link CoalescingDecorator}
+     * <p>
+     * {@literal @}ConditionalOnExpression("#{'true'.equals(environment['spring.minio.coalesce.enabled'])}")
+     *
+     * @return {@link CoalescingDecorator}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression("${spring.minio.coalesce.enabled:false}")
+    public CoalescingDecorator minioCoalescingDecorator() {
+        return MinioTemplateDecorators.coalescing(properties);
+    }
+
+    /**
+     * {@link LimitsDecorator}
+     * <p>
+     * Calls admitted late start on the {@code minioCompletionExecutor} bean, if any, else on the common pool.
+     * {@literal @}ConditionalOnExpression("#{'true'.equals(environment['spring.minio.limits.enabled'])}")
+     *
+     * @param completionExecutor {@link Executor}
+     * @return {@link LimitsDecorator}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression("${spring.minio.limits.enabled:false}")
+    public LimitsDecorator minioLimitsDecorator(
+        @Qualifier(CompletionExecutors.MINIO_COMPLETION_EXECUTOR_BEAN_NAME) ObjectProvider<Executor> completionExecutor) {
+        return MinioTemplateDecorators.limits(properties, completionExecutor.getIfAvailable());
+    }
+
+    /**
+     * {@link RetryDecorator}
+     * <p>
+     * {@literal @}ConditionalOnExpression("#{'true'.equals(environment['spring.minio.retry.enabled'])}")
+     *
+     * @param completionExecutor {@link Executor}
+     * @return {@link RetryDecorator}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression("${spring.minio.retry.enabled:false}")
+    public RetryDecorator minioRetryDecorator(
+        @Qualifier(CompletionExecutors.MINIO_COMPLETION_EXECUTOR_BEAN_NAME) ObjectProvider<Executor> completionExecutor) {
+        return MinioTemplateDecorators.retry(properties, completionExecutor.getIfAvailable());
+    }
+
+    /**
+     * {@link HedgeDecorator}
+     * <p>
+     * {@literal @}ConditionalOnExpression("#{'true'.equals(environment['spring.minio.hedge.enabled'])}")
+     *
+     * @return {@link HedgeDecorator}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression("${spring.minio.async.enabled:false} && ${spring.minio.hedge.enabled:false}")
+    public HedgeDecorator minioHedgeDecorator() {
+        return MinioTemplateDecorators.hedge(properties);
+    }
+
+    /**
+     * {@link MinioTemplateRegistry} of {@code spring.minio.tenants.*}, every tenant on its own {@link OkHttpClient}.
+     * Empty without tenants.
+     *
+     * @param completionExecutor {@link Executor}
+     * @param decorators         {@link MinioTemplateDecorator}, applied to the tenants by
+     *                           {@link MinioTemplateDecorator#forTenant(String)}
+     * @return {@link MinioTemplateRegistry}
+     */
+    @Bean(MinioTemplateRegistry.MINIO_TEMPLATE_REGISTRY_BEAN_NAME)
+    @ConditionalOnMissingBean
+    public MinioTemplateRegistry minioTemplateRegistry(
+        @Qualifier(CompletionExecutors.MINIO_COMPLETION_EXECUTOR_BEAN_NAME) ObjectProvider<Executor> completionExecutor,
+        ObjectProvider<MinioTemplateDecorator> decorators) {
+        return new MinioTemplateRegistry(
+            properties.getTenants(), AbstractMinIOConfigure::httpClient, completionExecutor.getIfAvailable(),
+            decorators.orderedStream().collect(Collectors.toList()));
     }
 
     /**
      * {@link SyncMinioTemplate}
+     * <p>
+     * Parallel transfers run on the {@link MinioAsyncClient} bean, or on a private one sharing the
+     * {@link OkHttpClient} if the async mode is disabled.
+     * With {@code spring.minio.endpoints}, calls are spread over the endpoints by the {@link LoadBalancer}.
+     * Primary over the tenant templates.
+     * The template is wrapped by the {@link MinioTemplateDecorator} beans, in order.
      *
-     * @param minioClient {@link MinioClient}
+     * @param minioClient      {@link MinioClient}
+     * @param minioAsyncClient {@link MinioAsyncClient}
+     * @param httpClient       {@link OkHttpClient}
+     * @param balancer         {@link LoadBalancer}
+     * @param decorators       {@link MinioTemplateDecorator}
      * @return {@link SyncMinioTemplate}
      */
     @Bean(SyncMinioTemplate.MINIO_TEMPLATE_BEAN_NAME)
+    @Primary
     @ConditionalOnMissingBean
     @ConditionalOnExpression("${spring.minio.sync.enabled:true}")
-    public SyncMinioTemplate minioTemplate(MinioClient minioClient) {
-        return new DefaultSyncMinioTemplate(minioClient);
+    public SyncMinioTemplate minioTemplate(
+        MinioClient minioClient,
+        ObjectProvider<MinioAsyncClient> minioAsyncClient,
+        @Qualifier(OkHttpClients.MINIO_HTTP_CLIENT_BEAN_NAME) OkHttpClient httpClient,
+        ObjectProvider<LoadBalancer> balancer,
+        ObjectProvider<MinioTemplateDecorator> decorators) {
+        LoadBalancer loadBalancer = balancer.getIfAvailable();
+        SyncMinioTemplate template = loadBalancer != null
+            ? new BalancedSyncMinioTemplate(loadBalancer)
+            : new DefaultSyncMinioTemplate(
+            minioClient, minioAsyncClient.getIfAvailable(() -> MinioClients.async(properties, httpClient)), properties);
+
+        return MinioTemplateDecorators.decorate(template, decorators.orderedStream().collect(Collectors.toList()));
     }
 
     /**
      * {@link AsyncMinioTemplate}
+     * <p>
+     * The futures complete on the {@code minioCompletionExecutor} bean, if any.
+     * With {@code spring.minio.endpoints}, calls are spread over the endpoints by the {@link LoadBalancer}.
+     * Primary over the tenant templates.
+     * The template is wrapped by the {@link MinioTemplateDecorator} beans, in order.
      *
-     * @param minioClient {@link MinioAsyncClient}
+     * @param minioClient        {@link MinioAsyncClient}
+     * @param completionExecutor {@link Executor}
+     * @param balancer           {@link LoadBalancer}
+     * @param decorators         {@link MinioTemplateDecorator}
      * @return {@link AsyncMinioTemplate}
      */
     @Bean(AsyncMinioTemplate.MINIO_TEMPLATE_BEAN_NAME)
+    @Primary
     @ConditionalOnMissingBean
     @ConditionalOnExpression("${spring.minio.async.enabled:false}")
-    public AsyncMinioTemplate asyncMinioTemplate(MinioAsyncClient minioClient) {
-        return new DefaultAsyncMinioTemplate(minioClient);
+    public AsyncMinioTemplate asyncMinioTemplate(
+        MinioAsyncClient minioClient,
+        @Qualifier(CompletionExecutors.MINIO_COMPLETION_EXECUTOR_BEAN_NAME) ObjectProvider<Executor> completionExecutor,
+        ObjectProvider<LoadBalancer> balancer,
+        ObjectProvider<MinioTemplateDecorator> decorators) {
+        LoadBalancer loadBalancer = balancer.getIfAvailable();
+        AsyncMinioTemplate template = loadBalancer != null
+            ? new BalancedAsyncMinioTemplate(loadBalancer)
+            : new DefaultAsyncMinioTemplate(minioClient, properties, completionExecutor.getIfAvailable());
+
+        return MinioTemplateDecorators.decorate(template, decorators.orderedStream().collect(Collectors.toList()));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static OkHttpClient httpClient(MinIOProperties properties) {
+        if (properties.getSync().isVirtualThreads()) {
+            // Keep the OkHttp prefix, DispatcherGuard still guards the dispatcher threads.
+            Dispatcher dispatcher = new Dispatcher(VirtualThreads.newThreadPerTaskExecutor(VIRTUAL_THREAD_NAME_PREFIX));
+
+            return OkHttpClients.create(properties.getHttp(), dispatcher);
+        }
+
+        return OkHttpClients.create(properties.getHttp());
     }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.starter.config;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.tenant.MinioTemplateRegistry;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * {@code MinIOTenantRegistrar}
+ * <p>
+ * Registers the templates of every {@code spring.minio.tenants.<name>} as {@code <name>MinioTemplate} and
+ * {@code <name>AsyncMinioTemplate} beans, made by the {@link MinioTemplateRegistry}.
+ * They are registered after the default templates, which are {@code @Primary}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class MinIOTenantRegistrar implements ImportBeanDefinitionRegistrar, EnvironmentAware {
+
+    private static final String SYNC_TEMPLATE_BEAN_NAME_SUFFIX = "MinioTemplate";
+    private static final String ASYNC_TEMPLATE_BEAN_NAME_SUFFIX = "AsyncMinioTemplate";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void registerBeanDefinitions(AnnotationMetadata metadata, BeanDefinitionRegistry registry) {
+        Map<String, MinIOProperties> tenants = Binder.get(this.environment)
+            .bind(MinIOProperties.getPrefix() + ".tenants", Bindable.mapOf(String.class, MinIOProperties.class))
+            .orElse(Collections.emptyMap());
+
+        tenants.forEach((name, tenant) -> {
+            if (tenant.getSync().isEnabled()) {
+                registry.registerBeanDefinition(name + SYNC_TEMPLATE_BEAN_NAME_SUFFIX, template("sync", name));
+            }
+            if (tenant.getAsync().isEnabled()) {
+                registry.registerBeanDefinition(name + ASYNC_TEMPLATE_BEAN_NAME_SUFFIX, template("async", name));
+            }
+        });
+    }
+
+    private static AbstractBeanDefinition template(String factoryMethod, String tenant) {
+        return BeanDefinitionBuilder.genericBeanDefinition()
+            .setFactoryMethodOnBean(factoryMethod, MinioTemplateRegistry.MINIO_TEMPLATE_REGISTRY_BEAN_NAME)
+            .addConstructorArgValue(tenant)
+            .getBeanDefinition();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.balancer;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.listing.ListOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.listing.ObjectListing;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.ForwardingAsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
+import io.minio.*;
+import io.minio.messages.Bucket;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * {@code BalancedAsyncMinioTemplate}
+ * <p>
+ * Sends each call to the endpoint picked by the {@link LoadBalancer}. Listings and presigned URLs go to a picked
+ * endpoint as well, but aren't counted as calls in flight.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class BalancedAsyncMinioTemplate extends ForwardingAsyncMinioTemplate {
+
+    private final LoadBalancer balancer;
+
+    private BeanFactory beanFactory;
+
+    public BalancedAsyncMinioTemplate(LoadBalancer balancer) {
+        this.balancer = balancer;
+    }
+
+    @Override
+    protected AsyncMinioTemplate delegate() {
+        return this.balancer.pick().async();
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = beanFactory;
+        for (Endpoint endpoint : this.balancer.endpoints()) {
+            endpoint.async().setBeanFactory(beanFactory);
+        }
+    }
+
+    @Override
+    public BeanFactory beanFactory() {
+        return this.beanFactory;
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Override
+    public CompletableFuture<Boolean> bucketExists(String bucket) {
+        return this.balancer.submit((endpoint) -> endpoint.async().bucketExists(bucket));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> createBucket(String bucket) {
+        return this.balancer.submit((endpoint) -> endpoint.async().createBucket(bucket));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> removeBucket(String bucket) {
+        return this.balancer.submit((endpoint) -> endpoint.async().removeBucket(bucket));
+    }
+
+    @Override
+    public CompletableFuture<List<Bucket>> buckets() {
+        return this.balancer.submit((endpoint) -> endpoint.async().buckets());
+    }
+
+    @Override
+    public ObjectListing listObjects(String bucket, ListOptions options) {
+        return this.delegate().listObjects(bucket, options);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<ObjectWriteResponse> putObject(
+        String bucket, String object, String contextType, InputStream in, long size) {
+        return this.balancer.submit((endpoint) -> endpoint.async().putObject(bucket, object, contextType, in, size));
+    }
+
+    @Override
+    public CompletableFuture<ObjectWriteResponse> uploadFile(String bucket, String object, Path file, UploadOptions options) {
+        return this.balancer.submit((endpoint) -> endpoint.async().uploadFile(bucket, object, file, options));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<ObjectWriteResponse>>> putObjects(List<PutObjectArgs> objects) {
+        return this.balancer.submit((endpoint) -> endpoint.async().putObjects(objects));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public <T extends InputStream> CompletableFuture<T> downloadObject(String bucket, String object) {
+        return this.balancer.submit((endpoint) -> endpoint.async().downloadObject(bucket, object));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> downloadObject(DownloadObjectArgs args) {
+        return this.balancer.submit((endpoint) -> endpoint.async().downloadObject(args));
+    }
+
+    @Override
+    public CompletableFuture<StatObjectResponse> downloadFile(String bucket, String object, Path file, DownloadOptions options) {
+        return this.balancer.submit((endpoint) -> endpoint.async().downloadFile(bucket, object, file, options));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<StatObjectResponse> statObject(StatObjectArgs args) {
+        return this.balancer.submit((endpoint) -> endpoint.async().statObject(args));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<StatObjectResponse>>> statObjects(String bucket, List<String> objects) {
+        return this.balancer.submit((endpoint) -> endpoint.async().statObjects(bucket, objects));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<Boolean> removeObject(String bucket, String object) {
+        return this.balancer.submit((endpoint) -> endpoint.async().removeObject(bucket, object));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<Boolean>>> removeObjects(
+        String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult) {
+        return this.balancer.submit((endpoint) -> endpoint.async().removeObjects(bucket, objects, onResult));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public String url(GetPresignedObjectUrlArgs args) {
+        return this.delegate().url(args);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.balancer;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.listing.ListOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.ForwardingSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
+import io.minio.*;
+import io.minio.messages.Bucket;
+import io.minio.messages.Item;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * {@code BalancedSyncMinioTemplate}
+ * <p>
+ * Sends each call to the endpoint picked by the {@link LoadBalancer}. Listings and presigned URLs go to a picked
+ * endpoint as well, but aren't counted as calls in flight.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class BalancedSyncMinioTemplate extends ForwardingSyncMinioTemplate {
+
+    private final LoadBalancer balancer;
+
+    private BeanFactory beanFactory;
+
+    public BalancedSyncMinioTemplate(LoadBalancer balancer) {
+        this.balancer = balancer;
+    }
+
+    @Override
+    protected SyncMinioTemplate delegate() {
+        return this.balancer.pick().sync();
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = beanFactory;
+        for (Endpoint endpoint : this.balancer.endpoints()) {
+            endpoint.sync().setBeanFactory(beanFactory);
+        }
+    }
+
+    @Override
+    public BeanFactory beanFactory() {
+        return this.beanFactory;
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Override
+    public boolean bucketExists(String bucket) {
+        return this.balancer.call((endpoint) -> endpoint.sync().bucketExists(bucket));
+    }
+
+    @Override
+    public boolean createBucket(String bucket) {
+        return this.balancer.call((endpoint) -> endpoint.sync().createBucket(bucket));
+    }
+
+    @Override
+    public boolean removeBucket(String bucket) {
+        return this.balancer.call((endpoint) -> endpoint.sync().removeBucket(bucket));
+    }
+
+    @Override
+    public List<Bucket> buckets() {
+        return this.balancer.call((endpoint) -> endpoint.sync().buckets());
+    }
+
+    @Override
+    public Stream<Item> listObjects(String bucket, ListOptions options) {
+        return this.delegate().listObjects(bucket, options);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public ObjectWriteResponse putObject(String bucket, String object, String contextType, InputStream in, long size) {
+        return this.balancer.call((endpoint) -> endpoint.sync().putObject(bucket, object, contextType, in, size));
+    }
+
+    @Override
+    public ObjectWriteResponse uploadFile(String bucket, String object, Path file, UploadOptions options) {
+        return this.balancer.call((endpoint) -> endpoint.sync().uploadFile(bucket, object, file, options));
+    }
+
+    @Override
+    public List<BatchResult<ObjectWriteResponse>> putObjects(List<PutObjectArgs> objects) {
+        return this.balancer.call((endpoint) -> endpoint.sync().putObjects(objects));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public InputStream downloadObject(String bucket, String object) {
+        return this.balancer.call((endpoint) -> endpoint.sync().downloadObject(bucket, object));
+    }
+
+    @Override
+    public GetObjectResponse downloadObject(GetObjectArgs args) {
+        return this.balancer.call((endpoint) -> endpoint.sync().downloadObject(args));
+    }
+
+    @Override
+    public boolean downloadObject(DownloadObjectArgs args) {
+        return this.balancer.call((endpoint) -> endpoint.sync().downloadObject(args));
+    }
+
+    @Override
+    public StatObjectResponse downloadFile(String bucket, String object, Path file, DownloadOptions options) {
+        return this.balancer.call((endpoint) -> endpoint.sync().downloadFile(bucket, object, file, options));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public StatObjectResponse statObject(StatObjectArgs args) {
+        return this.balancer.call((endpoint) -> endpoint.sync().statObject(args));
+    }
+
+    @Override
+    public List<BatchResult<StatObjectResponse>> statObjects(String bucket, List<String> objects) {
+        return this.balancer.call((endpoint) -> endpoint.sync().statObjects(bucket, objects));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public boolean removeObject(String bucket, String object) {
+        return this.balancer.call((endpoint) -> endpoint.sync().removeObject(bucket, object));
+    }
+
+    @Override
+    public List<BatchResult<Boolean>> removeObjects(
+        String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult) {
+        return this.balancer.call((endpoint) -> endpoint.sync().removeObjects(bucket, objects, onResult));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public String url(GetPresignedObjectUrlArgs args) {
+        return this.delegate().url(args);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.balancer;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.client.MinioClients;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.DefaultAsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.DefaultSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import okhttp3.OkHttpClient;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code Endpoint}
+ * <p>
+ * One node of {@code spring.minio.endpoints}, with its own {@link MinioClient}/{@link MinioAsyncClient}
+ * and templates, and the state the {@link LoadBalancer} routes by.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class Endpoint {
+
+    private final String url;
+    private final MinIOProperties properties;
+    private final MinioClient minioClient;
+    private final MinioAsyncClient minioAsyncClient;
+    private final Executor completionExecutor;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private volatile boolean healthy = true;
+
+    private volatile SyncMinioTemplate sync;
+    private volatile AsyncMinioTemplate async;
+
+    Endpoint(String url, MinIOProperties properties, OkHttpClient httpClient, Executor completionExecutor) {
+        this.url = url;
+        this.properties = properties.forEndpoint(url);
+        this.minioClient = MinioClients.sync(this.properties, httpClient);
+        this.minioAsyncClient = MinioClients.async(this.properties, httpClient);
+        this.completionExecutor = completionExecutor;
+    }
+
+    public String url() {
+        return this.url;
+    }
+
+    public MinioClient minioClient() {
+        return this.minioClient;
+    }
+
+    public MinioAsyncClient minioAsyncClient() {
+        return this.minioAsyncClient;
+    }
+
+    public SyncMinioTemplate sync() {
+        SyncMinioTemplate template = this.sync;
+        if (template == null) {
+            synchronized (this) {
+                if ((template = this.sync) == null) {
+                    this.sync = template = new DefaultSyncMinioTemplate(
+                        this.minioClient, this.minioAsyncClient, this.properties);
+                }
+            }
+        }
+
+        return template;
+    }
+
+    public AsyncMinioTemplate async() {
+        AsyncMinioTemplate template = this.async;
+        if (template == null) {
+            synchronized (this) {
+                if ((template = this.async) == null) {
+                    this.async = template = new DefaultAsyncMinioTemplate(
+                        this.minioAsyncClient, this.properties, this.completionExecutor);
+                }
+            }
+        }
+
+        return template;
+    }
+
+    // ----------------------------------------------------------------
+
+    public boolean isHealthy() {
+        return this.healthy;
+    }
+
+    /**
+     * @return the calls in flight
+     */
+    public int outstanding() {
+        return this.outstanding.get();
+    }
+
+    int start() {
+        return this.outstanding.incrementAndGet();
+    }
+
+    void finish() {
+        this.outstanding.decrementAndGet();
+    }
+
+    /**
+     * @return {@code true} if the endpoint was re-admitted
+     */
+    boolean succeeded() {
+        if (this.failures.get() != 0) {
+            this.failures.set(0);
+        }
+        if (this.healthy) {
+            return false;
+        }
+
+        this.healthy = true;
+
+        return true;
+    }
+
+    /**
+     * @return {@code true} if the endpoint was ejected
+     */
+    boolean failed(int threshold) {
+        if (this.failures.incrementAndGet() < threshold || !this.healthy) {
+            return false;
+        }
+
+        this.healthy = false;
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return this.url;
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.balancer;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.retry.RetryPolicy;
+import io.github.photowey.minio.spring.boot.core.async.SharedTimer;
+import io.minio.http.HttpUtils;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * {@code LoadBalancer}
+ * <p>
+ * Spreads the template calls over the healthy {@code spring.minio.endpoints} by the power of two choices:
+ * of two random endpoints, the one with fewer calls in flight gets the call.
+ * <p>
+ * An endpoint is ejected after {@code spring.minio.balancer.failure-threshold} consecutive transient failures,
+ * of calls or of the background health checks, and re-admitted by its next passing health check.
+ * With every endpoint ejected, calls go to all of them rather than failing outright.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class LoadBalancer implements AutoCloseable {
+
+    private final List<Endpoint> endpoints;
+    private final int failureThreshold;
+    private final String healthCheckPath;
+    private final OkHttpClient healthCheckClient;
+    private final SharedTimer timer;
+    private final ConcurrentHashMap.KeySetView<Endpoint, Boolean> checking = ConcurrentHashMap.newKeySet();
+
+    private volatile Endpoint[] healthy;
+
+    public LoadBalancer(MinIOProperties properties, OkHttpClient httpClient, Executor completionExecutor) {
+        List<Endpoint> endpoints = new ArrayList<>(properties.getEndpoints().size());
+        for (String url : properties.getEndpoints()) {
+            endpoints.add(new Endpoint(url, properties, httpClient, completionExecutor));
+        }
+
+        MinIOProperties.Balancer balancer = properties.getBalancer();
+        this.endpoints = Collections.unmodifiableList(endpoints);
+        this.healthy = endpoints.toArray(new Endpoint[0]);
+        this.failureThreshold = balancer.getFailureThreshold();
+        this.healthCheckPath = balancer.getHealthCheckPath();
+        this.healthCheckClient = httpClient.newBuilder()
+            .callTimeout(balancer.getHealthCheckTimeout())
+            .build();
+        this.timer = SharedTimer.lease();
+
+        long interval = balancer.getHealthCheckInterval().toNanos();
+        this.timer.scheduleWithFixedDelay(this::checkHealth, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Pick an endpoint for a call that isn't tracked, e.g. a lazy listing or a presigned URL.
+     *
+     * @return the endpoint
+     */
+    public Endpoint pick() {
+        Endpoint[] candidates = this.healthy;
+        if (candidates.length == 0) {
+            candidates = this.endpoints.toArray(new Endpoint[0]);
+        }
+        if (candidates.length == 1) {
+            return candidates[0];
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.length);
+        int second = random.nextInt(candidates.length - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        Endpoint a = candidates[first];
+        Endpoint b = candidates[second];
+
+        return a.outstanding() <= b.outstanding() ? a : b;
+    }
+
+    public <T> T call(Function<Endpoint, T> task) {
+        Endpoint endpoint = this.pick();
+        endpoint.start();
+        try {
+            T value = task.apply(endpoint);
+            this.succeeded(endpoint);
+
+            return value;
+        } catch (RuntimeException e) {
+            this.failed(endpoint, e);
+            throw e;
+        } finally {
+            endpoint.finish();
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(Function<Endpoint, CompletableFuture<T>> task) {
+        Endpoint endpoint = this.pick();
+        endpoint.start();
+        CompletableFuture<T> future;
+        try {
+            future = task.apply(endpoint);
+        } catch (RuntimeException e) {
+            endpoint.finish();
+            this.failed(endpoint, e);
+            throw e;
+        }
+
+        future.whenComplete((value, ex) -> {
+            endpoint.finish();
+            if (ex == null) {
+                this.succeeded(endpoint);
+            } else {
+                this.failed(endpoint, ex);
+            }
+        });
+
+        return future;
+    }
+
+    // ----------------------------------------------------------------
+
+    public List<Endpoint> endpoints() {
+        return this.endpoints;
+    }
+
+    @Override
+    public void close() {
+        this.timer.close();
+    }
+
+    // ----------------------------------------------------------------
+
+    private void succeeded(Endpoint endpoint) {
+        if (endpoint.succeeded()) {
+            this.refresh();
+        }
+    }
+
+    private void failed(Endpoint endpoint, Throwable ex) {
+        // A missing object or a bad request says nothing about the endpoint.
+        if (RetryPolicy.isTransient(ex) && endpoint.failed(this.failureThreshold)) {
+            this.refresh();
+        }
+    }
+
+    private synchronized void refresh() {
+        // Serialized, a refresh that read an older health state can't publish it over a later one.
+        // Only run when an endpoint changes state, so the lock isn't on the call path.
+        List<Endpoint> healthy = new ArrayList<>(this.endpoints.size());
+        for (Endpoint endpoint : this.endpoints) {
+            if (endpoint.isHealthy()) {
+                healthy.add(endpoint);
+            }
+        }
+
+        this.healthy = healthy.toArray(new Endpoint[0]);
+    }
+
+    private void checkHealth() {
+        for (Endpoint endpoint : this.endpoints) {
+            // A check still running is already failing by its timeout, don't stack another one.
+            if (!this.checking.add(endpoint)) {
+                continue;
+            }
+
+            HttpUrl url = HttpUtils.getBaseUrl(endpoint.url()).newBuilder()
+                .encodedPath(this.healthCheckPath)
+                .build();
+            this.healthCheckClient.newCall(new Request.Builder().url(url).get().build()).enqueue(new Callback() {
+                @Override
+                public void onResponse(Call call, Response response) {
+                    try (Response ignored = response) {
+                        if (response.isSuccessful()) {
+                            LoadBalancer.this.succeeded(endpoint);
+                        } else {
+                            LoadBalancer.this.checkFailed(endpoint);
+                        }
+                    } finally {
+                        LoadBalancer.this.checking.remove(endpoint);
+                    }
+                }
+
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    LoadBalancer.this.checking.remove(endpoint);
+                    LoadBalancer.this.checkFailed(endpoint);
+                }
+            });
+        }
+    }
+
+    private void checkFailed(Endpoint endpoint) {
+        if (endpoint.failed(this.failureThreshold)) {
+            this.refresh();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.batch;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.client.ExtendedMinioAsyncClient;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.core.async.Futures;
+import io.github.photowey.minio.spring.boot.core.async.ParallelFutures;
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+import io.minio.ObjectWriteResponse;
+import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * {@code BatchOperations}
+ * <p>
+ * Runs many object operations with at most {@code spring.minio.batch.concurrency} requests in flight.
+ * A batch never fails as a whole, every item reports its own {@link BatchResult} in the order of the input.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class BatchOperations {
+
+    /**
+     * The max keys of one S3 multi-delete request.
+     */
+    public static final int MAX_DELETE_KEYS = 1000;
+
+    private final ExtendedMinioAsyncClient minioClient;
+    private final int concurrency;
+
+    public BatchOperations(ExtendedMinioAsyncClient minioClient, MinIOProperties properties) {
+        this.minioClient = minioClient;
+        this.concurrency = properties.getBatch().getConcurrency();
+    }
+
+    /**
+     * Remove objects with multi-delete requests of up to {@link #MAX_DELETE_KEYS} keys each.
+     * The results of a request are reported to {@code onResult} once it completes, before the others are done.
+     *
+     * @param bucket   the bucket
+     * @param objects  the object names
+     * @param onResult the per-object result listener
+     * @return the per-object results
+     */
+    public CompletableFuture<List<BatchResult<Boolean>>> removeObjects(
+        String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < objects.size(); from += MAX_DELETE_KEYS) {
+            chunks.add(objects.subList(from, Math.min(from + MAX_DELETE_KEYS, objects.size())));
+        }
+
+        return ParallelFutures.traverse(chunks, this.concurrency, (chunk) -> this.removeChunk(bucket, chunk, onResult))
+            .thenApply(BatchOperations::flatten);
+    }
+
+    public CompletableFuture<List<BatchResult<StatObjectResponse>>> statObjects(String bucket, List<String> objects) {
+        return ParallelFutures.traverse(objects, this.concurrency, (object) -> attempt(object, () -> {
+            StatObjectArgs args = StatObjectArgs.builder()
+                .bucket(bucket)
+                .object(object)
+                .build();
+
+            return this.minioClient.statObject(args);
+        }));
+    }
+
+    public CompletableFuture<List<BatchResult<ObjectWriteResponse>>> putObjects(List<PutObjectArgs> objects) {
+        return ParallelFutures.traverse(objects, this.concurrency,
+            (args) -> attempt(args.object(), () -> this.minioClient.putObject(args)));
+    }
+
+    // ----------------------------------------------------------------
+
+    private CompletableFuture<List<BatchResult<Boolean>>> removeChunk(
+        String bucket, List<String> chunk, Consumer<BatchResult<Boolean>> onResult) {
+        List<DeleteObject> keys = new ArrayList<>(chunk.size());
+        for (String object : chunk) {
+            keys.add(new DeleteObject(object));
+        }
+
+        CompletableFuture<List<BatchResult<Boolean>>> fx;
+        try {
+            // Quiet mode: the response lists the failed keys only.
+            fx = this.minioClient.deleteObjectsAsync(bucket, null, keys, true, false, null, null)
+                .thenApply(response -> {
+                    Map<String, DeleteError> errors = new HashMap<>();
+                    for (DeleteError error : response.result().errorList()) {
+                        errors.put(error.objectName(), error);
+                    }
+
+                    List<BatchResult<Boolean>> results = new ArrayList<>(chunk.size());
+                    for (String object : chunk) {
+                        DeleteError error = errors.get(object);
+                        results.add(error == null
+                            ? BatchResult.success(object, true)
+                            : BatchResult.failure(object, new MinioException(error.code() + ": " + error.message())));
+                    }
+
+                    return results;
+                });
+        } catch (Exception e) {
+            fx = new CompletableFuture<>();
+            fx.completeExceptionally(e);
+        }
+
+        return fx.exceptionally(ex -> {
+            Throwable cause = Futures.unwrap(ex);
+            List<BatchResult<Boolean>> results = new ArrayList<>(chunk.size());
+            for (String object : chunk) {
+                results.add(BatchResult.failure(object, cause));
+            }
+
+            return results;
+        }).thenApply((results) -> {
+            // One chunk at a time, the listener doesn't have to be thread-safe.
+            synchronized (onResult) {
+                results.forEach(onResult);
+            }
+
+            return results;
+        });
+    }
+
+    private static <T> CompletableFuture<BatchResult<T>> attempt(String object, Callable<CompletableFuture<T>> task) {
+        try {
+            return task.call().handle((value, ex) -> ex == null
+                ? BatchResult.success(object, value)
+                : BatchResult.failure(object, Futures.unwrap(ex)));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(BatchResult.failure(object, e));
+        }
+    }
+
+    private static <T> List<T> flatten(List<List<T>> chunks) {
+        List<T> values = new ArrayList<>();
+        for (List<T> chunk : chunks) {
+            values.addAll(chunk);
+        }
+
+        return values;
+    }
+}
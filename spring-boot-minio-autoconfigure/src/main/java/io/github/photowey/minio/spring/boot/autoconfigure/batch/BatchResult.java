@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.batch;
+
+import lombok.Getter;
+
+/**
+ * {@code BatchResult}
+ * <p>
+ * The outcome of one item of a batch operation, either a {@code value} or an {@code error}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+@Getter
+public final class BatchResult<T> {
+
+    /**
+     * The object name.
+     */
+    private final String object;
+    private final T value;
+    private final Throwable error;
+
+    private BatchResult(String object, T value, Throwable error) {
+        this.object = object;
+        this.value = value;
+        this.error = error;
+    }
+
+    public static <T> BatchResult<T> success(String object, T value) {
+        return new BatchResult<>(object, value, null);
+    }
+
+    public static <T> BatchResult<T> failure(String object, Throwable error) {
+        return new BatchResult<>(object, null, error);
+    }
+
+    public boolean succeeded() {
+        return this.error == null;
+    }
+
+    @Override
+    public String toString() {
+        return this.succeeded()
+            ? "BatchResult(object=" + this.object + ", value=" + this.value + ")"
+            : "BatchResult(object=" + this.object + ", error=" + this.error + ")";
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.cache;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.ForwardingAsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
+import io.minio.ObjectWriteResponse;
+import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * {@code CachingAsyncMinioTemplate}
+ * <p>
+ * Serves {@code bucketExists}/{@code statObject} from a {@link MetadataCache} with completed futures,
+ * writes and removals through this template invalidate the affected entries once they complete.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class CachingAsyncMinioTemplate extends ForwardingAsyncMinioTemplate {
+
+    private final AsyncMinioTemplate delegate;
+    private final MetadataCache cache;
+
+    public CachingAsyncMinioTemplate(AsyncMinioTemplate delegate, MetadataCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    protected AsyncMinioTemplate delegate() {
+        return this.delegate;
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Override
+    public CompletableFuture<Boolean> bucketExists(String bucket) {
+        Boolean exists = this.cache.bucketExists(bucket);
+        if (exists != null) {
+            return CompletableFuture.completedFuture(exists);
+        }
+
+        long stamp = this.cache.bucketStamp();
+
+        return super.bucketExists(bucket)
+            .whenComplete((loaded, ex) -> {
+                if (ex == null) {
+                    this.cache.bucketLoaded(bucket, loaded, stamp);
+                }
+            });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> createBucket(String bucket) {
+        if (Boolean.TRUE.equals(this.cache.bucketExists(bucket))) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return super.createBucket(bucket)
+            .whenComplete((created, ex) -> {
+                if (ex == null) {
+                    this.cache.bucketCreated(bucket);
+                }
+            });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> removeBucket(String bucket) {
+        return this.invalidating(super.removeBucket(bucket), () -> this.cache.invalidateBucket(bucket));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<ObjectWriteResponse> putObject(
+        String bucket, String object, String contextType, InputStream in, long size) {
+        return this.invalidating(
+            super.putObject(bucket, object, contextType, in, size), () -> this.cache.invalidateObject(bucket, object));
+    }
+
+    @Override
+    public CompletableFuture<ObjectWriteResponse> uploadFile(String bucket, String object, Path file, UploadOptions options) {
+        return this.invalidating(
+            super.uploadFile(bucket, object, file, options), () -> this.cache.invalidateObject(bucket, object));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<ObjectWriteResponse>>> putObjects(List<PutObjectArgs> objects) {
+        return this.invalidating(super.putObjects(objects),
+            () -> objects.forEach((args) -> this.cache.invalidateObject(args.bucket(), args.object())));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<StatObjectResponse> statObject(StatObjectArgs args) {
+        if (!MetadataCache.cacheable(args)) {
+            return super.statObject(args);
+        }
+
+        MetadataCache.Stat stat = this.cache.stat(args.bucket(), args.object());
+        if (stat != null) {
+            if (stat.exists()) {
+                return CompletableFuture.completedFuture(stat.response());
+            }
+
+            CompletableFuture<StatObjectResponse> missing = new CompletableFuture<>();
+            missing.completeExceptionally(stat.missing());
+
+            return missing;
+        }
+
+        long stamp = this.cache.objectStamp();
+
+        return super.statObject(args)
+            .whenComplete((response, ex) -> {
+                if (ex == null) {
+                    this.cache.statLoaded(args.bucket(), args.object(), response, stamp);
+                } else {
+                    this.cache.statFailed(args.bucket(), args.object(), ex, stamp);
+                }
+            });
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<Boolean> removeObject(String bucket, String object) {
+        return this.invalidating(super.removeObject(bucket, object), () -> this.cache.invalidateObject(bucket, object));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<Boolean>>> removeObjects(
+        String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult) {
+        CompletableFuture<List<BatchResult<Boolean>>> future = super.removeObjects(bucket, objects, (result) -> {
+            this.cache.invalidateObject(bucket, result.getObject());
+            onResult.accept(result);
+        });
+
+        return this.invalidating(future,
+            () -> objects.forEach((object) -> this.cache.invalidateObject(bucket, object)));
+    }
+
+    // -----------------------------------------------------------------
+
+    private <T> CompletableFuture<T> invalidating(CompletableFuture<T> future, Runnable invalidation) {
+        return future.whenComplete((value, ex) -> invalidation.run());
+    }
+}
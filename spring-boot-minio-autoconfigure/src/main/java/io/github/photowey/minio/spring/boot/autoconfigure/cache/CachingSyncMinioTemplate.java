@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.cache;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.ForwardingSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+import io.minio.ObjectWriteResponse;
+import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@code CachingSyncMinioTemplate}
+ * <p>
+ * Serves {@code bucketExists}/{@code statObject} from a {@link MetadataCache},
+ * writes and removals through this template invalidate the affected entries.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class CachingSyncMinioTemplate extends ForwardingSyncMinioTemplate {
+
+    private final SyncMinioTemplate delegate;
+    private final MetadataCache cache;
+
+    public CachingSyncMinioTemplate(SyncMinioTemplate delegate, MetadataCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    protected SyncMinioTemplate delegate() {
+        return this.delegate;
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Override
+    public boolean bucketExists(String bucket) {
+        Boolean exists = this.cache.bucketExists(bucket);
+        if (exists != null) {
+            return exists;
+        }
+
+        long stamp = this.cache.bucketStamp();
+        boolean loaded = super.bucketExists(bucket);
+        this.cache.bucketLoaded(bucket, loaded, stamp);
+
+        return loaded;
+    }
+
+    @Override
+    public boolean createBucket(String bucket) {
+        if (Boolean.TRUE.equals(this.cache.bucketExists(bucket))) {
+            return false;
+        }
+
+        boolean created = super.createBucket(bucket);
+        this.cache.bucketCreated(bucket);
+
+        return created;
+    }
+
+    @Override
+    public boolean removeBucket(String bucket) {
+        try {
+            return super.removeBucket(bucket);
+        } finally {
+            this.cache.invalidateBucket(bucket);
+        }
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public ObjectWriteResponse putObject(String bucket, String object, String contextType, InputStream in, long size) {
+        try {
+            return super.putObject(bucket, object, contextType, in, size);
+        } finally {
+            this.cache.invalidateObject(bucket, object);
+        }
+    }
+
+    @Override
+    public ObjectWriteResponse uploadFile(String bucket, String object, Path file, UploadOptions options) {
+        try {
+            return super.uploadFile(bucket, object, file, options);
+        } finally {
+            this.cache.invalidateObject(bucket, object);
+        }
+    }
+
+    @Override
+    public List<BatchResult<ObjectWriteResponse>> putObjects(List<PutObjectArgs> objects) {
+        try {
+            return super.putObjects(objects);
+        } finally {
+            objects.forEach((args) -> this.cache.invalidateObject(args.bucket(), args.object()));
+        }
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public StatObjectResponse statObject(StatObjectArgs args) {
+        if (!MetadataCache.cacheable(args)) {
+            return super.statObject(args);
+        }
+
+        MetadataCache.Stat stat = this.cache.stat(args.bucket(), args.object());
+        if (stat != null) {
+            if (stat.exists()) {
+                return stat.response();
+            }
+
+            throw new MinioException(stat.missing());
+        }
+
+        long stamp = this.cache.objectStamp();
+        try {
+            StatObjectResponse response = super.statObject(args);
+            this.cache.statLoaded(args.bucket(), args.object(), response, stamp);
+
+            return response;
+        } catch (MinioException e) {
+            this.cache.statFailed(args.bucket(), args.object(), e, stamp);
+            throw e;
+        }
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public boolean removeObject(String bucket, String object) {
+        try {
+            return super.removeObject(bucket, object);
+        } finally {
+            this.cache.invalidateObject(bucket, object);
+        }
+    }
+
+    @Override
+    public List<BatchResult<Boolean>> removeObjects(
+        String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult) {
+        try {
+            return super.removeObjects(bucket, objects, (result) -> {
+                this.cache.invalidateObject(bucket, result.getObject());
+                onResult.accept(result);
+            });
+        } finally {
+            objects.forEach((object) -> this.cache.invalidateObject(bucket, object));
+        }
+    }
+}
@@ -0,0 +1,560 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.cache;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.http.Responses;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.FileObjectResponse;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.Transfers;
+import io.github.photowey.minio.spring.boot.core.async.Futures;
+import io.github.photowey.minio.spring.boot.core.buffer.BufferPool;
+import io.github.photowey.minio.spring.boot.core.cache.CacheStats;
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import io.minio.errors.ServerException;
+import okhttp3.Headers;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * {@code DiskCache}
+ * <p>
+ * Object bodies on local disk, one file per cached version, least recently used evicted beyond {@code maxSize}.
+ * An entry older than {@code freshFor} is revalidated by a conditional {@code GET}, a {@code 304} keeps it.
+ * Concurrent misses of one object share a single fetch, a fetch overlapping an invalidation of its object
+ * isn't cached.
+ * <p>
+ * The index lives in memory, so the files left by an earlier run are deleted on start. An evicted file is deleted
+ * while it may still be read, which POSIX file systems allow.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class DiskCache implements AutoCloseable {
+
+    private static final String FILE_SUFFIX = ".obj";
+
+    private final Path directory;
+    private final boolean temporary;
+    private final long maxSize;
+    private final long maxObjectSize;
+    private final long freshForNanos;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+    private final ConcurrentMap<String, Load> loads = new ConcurrentHashMap<>();
+    private long size;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+
+    public DiskCache(MinIOProperties.Cache.Disk disk) {
+        try {
+            if (StringUtils.hasText(disk.getDirectory())) {
+                this.directory = Files.createDirectories(Paths.get(disk.getDirectory()));
+                this.temporary = false;
+                this.deleteFiles();
+            } else {
+                this.directory = Files.createTempDirectory("minio-cache");
+                this.temporary = true;
+            }
+        } catch (IOException e) {
+            throw new MinioException("Failed to prepare the disk cache directory", e);
+        }
+
+        this.maxSize = disk.getMaxSize().toBytes();
+        this.maxObjectSize = disk.getMaxObjectSize().toBytes();
+        this.freshForNanos = disk.getFreshFor().toNanos();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Only whole, plain reads are cached, ranged, versioned, conditional, encrypted or customized ones always go to
+     * the server.
+     *
+     * @param args {@link GetObjectArgs}
+     * @return {@code true} if cacheable
+     */
+    public static boolean cacheable(GetObjectArgs args) {
+        return args.region() == null
+            && args.versionId() == null
+            && args.ssec() == null
+            && args.offset() == null
+            && args.length() == null
+            && args.matchETag() == null
+            && args.notMatchETag() == null
+            && args.modifiedSince() == null
+            && args.unmodifiedSince() == null
+            && args.extraHeaders().isEmpty()
+            && args.extraQueryParams().isEmpty();
+    }
+
+    /**
+     * Read an object through the cache, caching it on a miss.
+     * <p>
+     * A hit is a {@link FileObjectResponse} with the headers of the {@code GET} that cached it, which
+     * {@link Transfers} copies with {@link FileChannel#transferTo}. A caller reading it as an {@link InputStream}
+     * gets a plain file stream.
+     *
+     * @param bucket the bucket
+     * @param object the object name
+     * @param fetch  {@code GET}s the object, with {@code If-None-Match} of the {@code ETag} passed unless {@code null}
+     * @return the {@link GetObjectResponse}, its body from disk if cached
+     */
+    public GetObjectResponse read(String bucket, String object, Function<String, GetObjectResponse> fetch) {
+        String key = key(bucket, object);
+        Entry entry = this.lookup(key);
+        if (entry != null && entry.isFresh(this.freshForNanos)) {
+            GetObjectResponse response = entry.open(bucket, object);
+            if (response != null) {
+                this.hits.increment();
+
+                return response;
+            }
+        }
+
+        Loaded loaded = this.load(key, entry, fetch);
+        if (loaded.response != null) {
+            return loaded.response;
+        }
+
+        GetObjectResponse response = loaded.entry != null ? loaded.entry.open(bucket, object) : null;
+
+        // Not cacheable, or evicted already: read it past the cache.
+        return response != null ? response : fetch.apply(null);
+    }
+
+    /**
+     * The cached, revalidated, entry of an object. Objects that aren't cached aren't fetched.
+     *
+     * @param bucket the bucket
+     * @param object the object name
+     * @param fetch  {@code GET}s the object, with {@code If-None-Match} of the {@code ETag} passed
+     * @return the {@link Entry} or {@code null}
+     */
+    public Entry cached(String bucket, String object, Function<String, GetObjectResponse> fetch) {
+        String key = key(bucket, object);
+        Entry entry = this.lookup(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isFresh(this.freshForNanos)) {
+            this.hits.increment();
+
+            return entry;
+        }
+
+        Loaded loaded = this.load(key, entry, fetch);
+        Responses.closeQuietly(loaded.response);
+
+        return loaded.entry;
+    }
+
+    /**
+     * Copy a cached object into {@code file}, with {@link FileChannel#transferTo}. The file is replaced once complete.
+     *
+     * @param entry the {@link Entry}
+     * @param file  the local file
+     * @return {@code false} if the entry was evicted meanwhile
+     */
+    public boolean copy(Entry entry, Path file) {
+        Path partFile = null;
+        try {
+            partFile = Transfers.createPartFile(file);
+            try (FileChannel source = FileChannel.open(entry.file, StandardOpenOption.READ);
+                 FileChannel target = FileChannel.open(partFile, StandardOpenOption.WRITE)) {
+                long position = 0;
+                while (position < entry.size) {
+                    position += source.transferTo(position, entry.size - position, target);
+                }
+            }
+
+            Files.move(partFile, file, StandardCopyOption.REPLACE_EXISTING);
+
+            return true;
+        } catch (NoSuchFileException e) {
+            deleteQuietly(partFile);
+
+            return false;
+        } catch (IOException e) {
+            deleteQuietly(partFile);
+            throw new MinioException(e);
+        }
+    }
+
+    /**
+     * Drop an object, a fetch of it in flight isn't cached either.
+     *
+     * @param bucket the bucket
+     * @param object the object name
+     */
+    public void invalidate(String bucket, String object) {
+        String key = key(bucket, object);
+        Entry removed;
+        synchronized (this) {
+            Load load = this.loads.get(key);
+            if (load != null) {
+                load.invalidated = true;
+            }
+            removed = this.remove(key);
+        }
+
+        if (removed != null) {
+            deleteQuietly(removed.file);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public CacheStats stats() {
+        return new CacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum());
+    }
+
+    /**
+     * @return the hits that took a {@code 304} revalidation
+     */
+    public long revalidations() {
+        return this.revalidations.sum();
+    }
+
+    /**
+     * @return the bytes on disk
+     */
+    public synchronized long size() {
+        return this.size;
+    }
+
+    public synchronized int entries() {
+        return this.entries.size();
+    }
+
+    public Path directory() {
+        return this.directory;
+    }
+
+    @Override
+    public void close() {
+        List<Entry> removed;
+        synchronized (this) {
+            removed = new ArrayList<>(this.entries.values());
+            this.entries.clear();
+            this.size = 0;
+        }
+
+        removed.forEach((entry) -> deleteQuietly(entry.file));
+        if (this.temporary) {
+            deleteQuietly(this.directory);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private Loaded load(String key, Entry stale, Function<String, GetObjectResponse> fetch) {
+        Load load = new Load();
+        Load running = this.loads.putIfAbsent(key, load);
+        if (running != null) {
+            Entry entry = join(running.future);
+            if (entry != null) {
+                this.hits.increment();
+            }
+
+            return new Loaded(entry, null);
+        }
+
+        try {
+            Loaded loaded = this.fetch(key, stale, fetch, load);
+            load.future.complete(loaded.entry);
+
+            return loaded;
+        } catch (RuntimeException e) {
+            load.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.loads.remove(key, load);
+        }
+    }
+
+    private Loaded fetch(String key, Entry stale, Function<String, GetObjectResponse> fetch, Load load) {
+        GetObjectResponse response;
+        try {
+            response = fetch.apply(stale != null ? stale.etag : null);
+        } catch (RuntimeException e) {
+            if (stale != null && isNotModified(e)) {
+                stale.validated = System.nanoTime();
+                this.hits.increment();
+                this.revalidations.increment();
+
+                return new Loaded(stale, null);
+            }
+
+            throw e;
+        }
+
+        this.misses.increment();
+
+        String etag = Responses.trimETag(response.headers().get("ETag"));
+        long length = Responses.contentLength(response.headers());
+        if (etag == null || length < 0 || length > this.maxObjectSize) {
+            this.evict(key);
+
+            return new Loaded(null, response);
+        }
+
+        Path file = this.directory.resolve(UUID.randomUUID() + FILE_SUFFIX);
+        try (ReadableByteChannel source = Channels.newChannel(response);
+             FileChannel target = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long written = BufferPool.shared().copy(source, target);
+            if (written != length) {
+                throw new IOException("Truncated body, got " + written + " of " + length + " bytes");
+            }
+        } catch (IOException e) {
+            // A full disk shouldn't fail the read, the caller reads it past the cache.
+            deleteQuietly(file);
+            this.evict(key);
+
+            return new Loaded(null, null);
+        }
+
+        Entry entry = new Entry(key, etag, length, response.headers(), file);
+        if (!this.put(entry, load)) {
+            // Invalidated meanwhile, this body may be older than the write that invalidated it.
+            deleteQuietly(file);
+
+            return new Loaded(null, null);
+        }
+
+        return new Loaded(entry, null);
+    }
+
+    private synchronized Entry lookup(String key) {
+        return this.entries.get(key);
+    }
+
+    private boolean put(Entry entry, Load load) {
+        List<Entry> removed = new ArrayList<>(1);
+        synchronized (this) {
+            if (load.invalidated) {
+                return false;
+            }
+
+            Entry previous = this.entries.put(entry.key, entry);
+            if (previous != null) {
+                this.size -= previous.size;
+                removed.add(previous);
+            }
+
+            this.size += entry.size;
+            Iterator<Map.Entry<String, Entry>> it = this.entries.entrySet().iterator();
+            while (this.size > this.maxSize && it.hasNext()) {
+                Entry eldest = it.next().getValue();
+                if (eldest == entry) {
+                    continue;
+                }
+
+                it.remove();
+                this.size -= eldest.size;
+                removed.add(eldest);
+                this.evictions.increment();
+            }
+        }
+
+        removed.forEach((it) -> deleteQuietly(it.file));
+
+        return true;
+    }
+
+    private void evict(String key) {
+        Entry removed;
+        synchronized (this) {
+            removed = this.remove(key);
+        }
+
+        if (removed != null) {
+            deleteQuietly(removed.file);
+        }
+    }
+
+    private Entry remove(String key) {
+        Entry removed = this.entries.remove(key);
+        if (removed != null) {
+            this.size -= removed.size;
+        }
+
+        return removed;
+    }
+
+    private void deleteFiles() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory, "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static String key(String bucket, String object) {
+        return bucket + "/" + object;
+    }
+
+    private static Entry join(CompletableFuture<Entry> load) {
+        try {
+            return load.join();
+        } catch (RuntimeException e) {
+            Throwable cause = Futures.unwrap(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new MinioException(cause);
+        }
+    }
+
+    private static boolean isNotModified(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause() != cause ? cause.getCause() : null) {
+            if (cause instanceof ServerException) {
+                return ((ServerException) cause).statusCode() == HttpURLConnection.HTTP_NOT_MODIFIED;
+            }
+            if (cause instanceof ErrorResponseException) {
+                ErrorResponseException e = (ErrorResponseException) cause;
+
+                return e.response() != null && e.response().code() == HttpURLConnection.HTTP_NOT_MODIFIED;
+            }
+        }
+
+        return false;
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // ignored
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * A cached object version.
+     */
+    public static final class Entry {
+
+        private final String key;
+        private final String etag;
+        private final long size;
+        private final Headers headers;
+        private final Path file;
+
+        private volatile long validated = System.nanoTime();
+
+        private Entry(String key, String etag, long size, Headers headers, Path file) {
+            this.key = key;
+            this.etag = etag;
+            this.size = size;
+            this.headers = headers;
+            this.file = file;
+        }
+
+        public String etag() {
+            return this.etag;
+        }
+
+        public long size() {
+            return this.size;
+        }
+
+        /**
+         * @return the headers of the {@code GET} that cached the object
+         */
+        public Headers headers() {
+            return this.headers;
+        }
+
+        private boolean isFresh(long freshForNanos) {
+            return freshForNanos > 0 && System.nanoTime() - this.validated < freshForNanos;
+        }
+
+        private GetObjectResponse open(String bucket, String object) {
+            try {
+                FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ);
+
+                return new FileObjectResponse(this.headers, bucket, null, object, channel);
+            } catch (NoSuchFileException e) {
+                return null;
+            } catch (IOException e) {
+                throw new MinioException(e);
+            }
+        }
+    }
+
+    /**
+     * A fetch in flight, shared by the concurrent misses of its object.
+     */
+    private static final class Load {
+
+        private final CompletableFuture<Entry> future = new CompletableFuture<>();
+
+        /**
+         * Guarded by the {@link DiskCache}.
+         */
+        private boolean invalidated;
+    }
+
+    private static final class Loaded {
+
+        private final Entry entry;
+        private final GetObjectResponse response;
+
+        private Loaded(Entry entry, GetObjectResponse response) {
+            this.entry = entry;
+            this.response = response;
+        }
+    }
+}
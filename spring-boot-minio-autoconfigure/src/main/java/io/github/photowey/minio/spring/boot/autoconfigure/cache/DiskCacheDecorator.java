@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.cache;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.MinioTemplateDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import org.springframework.core.Ordered;
+
+/**
+ * {@code DiskCacheDecorator}
+ * <p>
+ * Wraps the sync template with {@link DiskCachingSyncMinioTemplate}. The async template streams past the cache.
+ * Sits outside the retries, so a miss is fetched with them.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class DiskCacheDecorator implements MinioTemplateDecorator, Ordered, AutoCloseable {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 150;
+
+    private final DiskCache cache;
+
+    public DiskCacheDecorator(DiskCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public SyncMinioTemplate decorate(SyncMinioTemplate template) {
+        return new DiskCachingSyncMinioTemplate(template, this.cache);
+    }
+
+    @Override
+    public AsyncMinioTemplate decorate(AsyncMinioTemplate template) {
+        return template;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    // ----------------------------------------------------------------
+
+    public DiskCache cache() {
+        return this.cache;
+    }
+
+    @Override
+    public void close() {
+        this.cache.close();
+    }
+}
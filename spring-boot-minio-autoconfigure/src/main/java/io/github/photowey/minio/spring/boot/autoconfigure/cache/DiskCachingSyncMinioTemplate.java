@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.cache;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.ForwardingSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.ObjectWriteResponse;
+import io.minio.PutObjectArgs;
+import io.minio.StatObjectResponse;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@code DiskCachingSyncMinioTemplate}
+ * <p>
+ * Reads {@code downloadObject}/{@code downloadFile} through a {@link DiskCache}, and so {@code transferTo}: the
+ * {@link GetObjectArgs} reads are cached when {@link DiskCache#cacheable(GetObjectArgs)}, and {@code downloadFile}
+ * only copies objects cached already.
+ * Writes and removals through this template invalidate the affected entries.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class DiskCachingSyncMinioTemplate extends ForwardingSyncMinioTemplate {
+
+    private final SyncMinioTemplate delegate;
+    private final DiskCache cache;
+
+    public DiskCachingSyncMinioTemplate(SyncMinioTemplate delegate, DiskCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    protected SyncMinioTemplate delegate() {
+        return this.delegate;
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public ObjectWriteResponse putObject(String bucket, String object, String contextType, InputStream in, long size) {
+        try {
+            return super.putObject(bucket, object, contextType, in, size);
+        } finally {
+            this.cache.invalidate(bucket, object);
+        }
+    }
+
+    @Override
+    public ObjectWriteResponse uploadFile(String bucket, String object, Path file, UploadOptions options) {
+        try {
+            return super.uploadFile(bucket, object, file, options);
+        } finally {
+            this.cache.invalidate(bucket, object);
+        }
+    }
+
+    @Override
+    public List<BatchResult<ObjectWriteResponse>> putObjects(List<PutObjectArgs> objects) {
+        try {
+            return super.putObjects(objects);
+        } finally {
+            objects.forEach((args) -> this.cache.invalidate(args.bucket(), args.object()));
+        }
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public InputStream downloadObject(String bucket, String object) {
+        return this.cache.read(bucket, object, (etag) -> this.fetch(bucket, object, etag));
+    }
+
+    @Override
+    public GetObjectResponse downloadObject(GetObjectArgs args) {
+        if (!DiskCache.cacheable(args)) {
+            return super.downloadObject(args);
+        }
+
+        return this.cache.read(args.bucket(), args.object(), (etag) -> this.fetch(args.bucket(), args.object(), etag));
+    }
+
+    @Override
+    public StatObjectResponse downloadFile(String bucket, String object, Path file, DownloadOptions options) {
+        // Only objects cached already, a large file shouldn't be read twice to populate the cache.
+        DiskCache.Entry entry = this.cache.cached(bucket, object, (etag) -> this.fetch(bucket, object, etag));
+        if (entry != null && this.cache.copy(entry, file)) {
+            return new StatObjectResponse(entry.headers(), bucket, null, object);
+        }
+
+        return super.downloadFile(bucket, object, file, options);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public boolean removeObject(String bucket, String object) {
+        try {
+            return super.removeObject(bucket, object);
+        } finally {
+            this.cache.invalidate(bucket, object);
+        }
+    }
+
+    @Override
+    public List<BatchResult<Boolean>> removeObjects(
+        String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult) {
+        try {
+            return super.removeObjects(bucket, objects, (result) -> {
+                this.cache.invalidate(bucket, result.getObject());
+                onResult.accept(result);
+            });
+        } finally {
+            objects.forEach((object) -> this.cache.invalidate(bucket, object));
+        }
+    }
+
+    // -----------------------------------------------------------------
+
+    private GetObjectResponse fetch(String bucket, String object, String etag) {
+        GetObjectArgs.Builder builder = GetObjectArgs.builder()
+            .bucket(bucket)
+            .object(object);
+        if (etag != null) {
+            builder.notMatchETag(etag);
+        }
+
+        return super.downloadObject(builder.build());
+    }
+}
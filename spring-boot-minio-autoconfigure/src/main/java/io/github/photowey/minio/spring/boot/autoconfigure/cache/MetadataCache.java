@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.cache;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.core.cache.CacheStats;
+import io.github.photowey.minio.spring.boot.core.cache.ExpiringLruCache;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code MetadataCache}
+ * <p>
+ * Caches {@code bucketExists} and plain {@code statObject} results, configured by {@code spring.minio.cache.metadata.*}.
+ * Missing objects are cached for {@code negativeTtl}, missing buckets are cached as {@code false} for the same.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class MetadataCache {
+
+    private static final String NO_SUCH_KEY = "NoSuchKey";
+    private static final String NO_SUCH_BUCKET = "NoSuchBucket";
+
+    private final ExpiringLruCache<String, Boolean> buckets;
+    private final ExpiringLruCache<String, Stat> objects;
+
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+
+    public MetadataCache(MinIOProperties.Cache.Metadata metadata) {
+        this.buckets = new ExpiringLruCache<>(metadata.getMaxEntries());
+        this.objects = new ExpiringLruCache<>(metadata.getMaxEntries());
+        this.ttlNanos = metadata.getTtl().toNanos();
+        this.negativeTtlNanos = metadata.getNegativeTtl().toNanos();
+    }
+
+    // ---------------------------------------------------------------- bucket
+
+    public Boolean bucketExists(String bucket) {
+        return this.buckets.get(bucket);
+    }
+
+    public long bucketStamp() {
+        return this.buckets.stamp();
+    }
+
+    public void bucketLoaded(String bucket, boolean exists, long stamp) {
+        long ttl = exists ? this.ttlNanos : this.negativeTtlNanos;
+        if (ttl > 0) {
+            this.buckets.put(bucket, exists, ttl, TimeUnit.NANOSECONDS, stamp);
+        }
+    }
+
+    public void bucketCreated(String bucket) {
+        this.invalidateObjects(bucket);
+        this.buckets.put(bucket, true, this.ttlNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void invalidateBucket(String bucket) {
+        this.buckets.invalidate(bucket);
+        this.invalidateObjects(bucket);
+    }
+
+    // ---------------------------------------------------------------- object
+
+    /**
+     * Only plain lookups are cached, versioned, conditional, encrypted or customized ones always go to the server.
+     *
+     * @param args {@link StatObjectArgs}
+     * @return {@code true} if cacheable
+     */
+    public static boolean cacheable(StatObjectArgs args) {
+        return args.region() == null
+            && args.versionId() == null
+            && args.ssec() == null
+            && args.offset() == null
+            && args.length() == null
+            && args.matchETag() == null
+            && args.notMatchETag() == null
+            && args.modifiedSince() == null
+            && args.unmodifiedSince() == null
+            && args.extraHeaders().isEmpty()
+            && args.extraQueryParams().isEmpty();
+    }
+
+    public Stat stat(String bucket, String object) {
+        return this.objects.get(key(bucket, object));
+    }
+
+    public long objectStamp() {
+        return this.objects.stamp();
+    }
+
+    public void statLoaded(String bucket, String object, StatObjectResponse response, long stamp) {
+        this.objects.put(key(bucket, object), new Stat(response, null), this.ttlNanos, TimeUnit.NANOSECONDS, stamp);
+    }
+
+    /**
+     * Caches a failed lookup if the object is missing.
+     *
+     * @param bucket the bucket
+     * @param object the object
+     * @param ex     the failure
+     * @param stamp  the {@link #objectStamp()} taken before the lookup
+     */
+    public void statFailed(String bucket, String object, Throwable ex, long stamp) {
+        ErrorResponseException missing = missing(ex);
+        if (missing != null && this.negativeTtlNanos > 0) {
+            this.objects.put(key(bucket, object), new Stat(null, missing), this.negativeTtlNanos, TimeUnit.NANOSECONDS, stamp);
+        }
+    }
+
+    public void invalidateObject(String bucket, String object) {
+        this.objects.invalidate(key(bucket, object));
+    }
+
+    public void invalidateObjects(String bucket) {
+        String prefix = bucket + "/";
+        this.objects.invalidateIf((key) -> key.startsWith(prefix));
+    }
+
+    // ----------------------------------------------------------------
+
+    public CacheStats bucketStats() {
+        return this.buckets.stats();
+    }
+
+    public CacheStats objectStats() {
+        return this.objects.stats();
+    }
+
+    public void clear() {
+        this.buckets.clear();
+        this.objects.clear();
+    }
+
+    // ----------------------------------------------------------------
+
+    private static String key(String bucket, String object) {
+        // Bucket names can't contain a '/'.
+        return bucket + "/" + object;
+    }
+
+    private static ErrorResponseException missing(Throwable ex) {
+        Throwable cause = ex;
+        while (cause != null) {
+            if (cause instanceof ErrorResponseException) {
+                String code = ((ErrorResponseException) cause).errorResponse().code();
+                if (NO_SUCH_KEY.equals(code) || NO_SUCH_BUCKET.equals(code)) {
+                    return (ErrorResponseException) cause;
+                }
+
+                return null;
+            }
+
+            cause = cause.getCause();
+        }
+
+        return null;
+    }
+
+    /**
+     * A cached {@code statObject} outcome, either the response or the {@code NoSuchKey}/{@code NoSuchBucket} error.
+     */
+    public static final class Stat {
+
+        private final StatObjectResponse response;
+        private final ErrorResponseException missing;
+
+        private Stat(StatObjectResponse response, ErrorResponseException missing) {
+            this.response = response;
+            this.missing = missing;
+        }
+
+        public StatObjectResponse response() {
+            return this.response;
+        }
+
+        public ErrorResponseException missing() {
+            return this.missing;
+        }
+
+        public boolean exists() {
+            return this.response != null;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.cache;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.MinioTemplateDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.core.cache.CacheStats;
+import org.springframework.core.Ordered;
+
+/**
+ * {@code MetadataCacheDecorator}
+ * <p>
+ * Wraps the templates with {@link CachingSyncMinioTemplate}/{@link CachingAsyncMinioTemplate},
+ * both sharing one {@link MetadataCache}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class MetadataCacheDecorator implements MinioTemplateDecorator, Ordered {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private final MetadataCache cache;
+
+    public MetadataCacheDecorator(MetadataCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public SyncMinioTemplate decorate(SyncMinioTemplate template) {
+        return new CachingSyncMinioTemplate(template, this.cache);
+    }
+
+    @Override
+    public AsyncMinioTemplate decorate(AsyncMinioTemplate template) {
+        return new CachingAsyncMinioTemplate(template, this.cache);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    // ----------------------------------------------------------------
+
+    public MetadataCache cache() {
+        return this.cache;
+    }
+
+    public CacheStats bucketStats() {
+        return this.cache.bucketStats();
+    }
+
+    public CacheStats objectStats() {
+        return this.cache.objectStats();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.checksum;
+
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+
+import java.lang.reflect.Constructor;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.Checksum;
+
+/**
+ * {@code ChecksumAlgorithm}
+ * <p>
+ * {@code CRC32C} is hardware-accelerated by {@code java.util.zip.CRC32C}, looked up reflectively
+ * as it only exists since Java 9.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public enum ChecksumAlgorithm {
+
+    CRC32C("minio-checksum-crc32c") {
+        @Override
+        public boolean isSupported() {
+            return Crc32c.CONSTRUCTOR != null;
+        }
+
+        @Override
+        Hasher newHasher() {
+            if (!this.isSupported()) {
+                throw new MinioException("CRC32C checksums need Java 9 or later");
+            }
+
+            try {
+                return Hasher.of(Crc32c.CONSTRUCTOR.newInstance());
+            } catch (ReflectiveOperationException e) {
+                throw new MinioException(e);
+            }
+        }
+    },
+
+    SHA256("minio-checksum-sha256") {
+        @Override
+        public boolean isSupported() {
+            return true;
+        }
+
+        @Override
+        Hasher newHasher() {
+            try {
+                return Hasher.of(MessageDigest.getInstance("SHA-256"));
+            } catch (NoSuchAlgorithmException e) {
+                throw new MinioException(e);
+            }
+        }
+    };
+
+    private final String metadata;
+
+    ChecksumAlgorithm(String metadata) {
+        this.metadata = metadata;
+    }
+
+    /**
+     * @return the user metadata key storing the checksum
+     */
+    public String metadata() {
+        return this.metadata;
+    }
+
+    public abstract boolean isSupported();
+
+    abstract Hasher newHasher();
+
+    // ----------------------------------------------------------------
+
+    private static final class Crc32c {
+
+        private static final Constructor<? extends Checksum> CONSTRUCTOR;
+
+        static {
+            Constructor<? extends Checksum> constructor = null;
+            try {
+                constructor = Class.forName("java.util.zip.CRC32C").asSubclass(Checksum.class).getConstructor();
+            } catch (ReflectiveOperationException ignored) {
+                // Java < 9
+            }
+
+            CONSTRUCTOR = constructor;
+        }
+    }
+}
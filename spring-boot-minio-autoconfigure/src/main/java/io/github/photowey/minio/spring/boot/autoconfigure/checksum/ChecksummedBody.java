@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.checksum;
+
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * {@code ChecksummedBody}
+ * <p>
+ * An upload body prepared by {@link ObjectChecksums#checksum(InputStream, long, long)}: the stream to upload,
+ * its size and the user metadata carrying its checksum.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class ChecksummedBody {
+
+    private final InputStream body;
+    private final long size;
+    private final Map<String, String> userMetadata;
+
+    ChecksummedBody(InputStream body, long size, Map<String, String> userMetadata) {
+        this.body = body;
+        this.size = size;
+        this.userMetadata = userMetadata;
+    }
+
+    public InputStream body() {
+        return this.body;
+    }
+
+    /**
+     * @return the body size, {@code -1} if unknown
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * @return the checksum metadata, empty if the body isn't checksummed
+     */
+    public Map<String, String> userMetadata() {
+        return this.userMetadata;
+    }
+}
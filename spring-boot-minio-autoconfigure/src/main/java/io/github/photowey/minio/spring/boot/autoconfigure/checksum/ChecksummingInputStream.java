@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.checksum;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@code ChecksummingInputStream}
+ * <p>
+ * Updates the checksum with every byte read, so a download computes it while it's read.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+final class ChecksummingInputStream extends FilterInputStream {
+
+    private final ChecksumAlgorithm algorithm;
+    private final Hasher hasher;
+    private final byte[] single = new byte[1];
+
+    ChecksummingInputStream(InputStream in, ChecksumAlgorithm algorithm) {
+        super(in);
+        this.algorithm = algorithm;
+        this.hasher = algorithm.newHasher();
+    }
+
+    @Override
+    public int read() throws IOException {
+        int n = this.read(this.single, 0, 1);
+
+        return n < 0 ? -1 : this.single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = this.in.read(b, off, len);
+        if (n > 0) {
+            this.hasher.update(b, off, n);
+        }
+
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Skipped bytes are part of the body too.
+        byte[] buffer = new byte[(int) Math.min(n, 8 * 1024)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = this.read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read < 0) {
+                break;
+            }
+            skipped += read;
+        }
+
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        // not supported, the checksum can't be rewound
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    // ----------------------------------------------------------------
+
+    ChecksumAlgorithm algorithm() {
+        return this.algorithm;
+    }
+
+    Hasher hasher() {
+        return this.hasher;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.checksum;
+
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.zip.Checksum;
+
+/**
+ * {@code Hasher}
+ * <p>
+ * A {@link Checksum} or a {@link MessageDigest} behind one interface, its value encoded like the
+ * {@code x-amz-checksum-*} headers: the big-endian bytes in Base64.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+abstract class Hasher {
+
+    abstract void update(byte[] b, int off, int len);
+
+    abstract byte[] digest();
+
+    String value() {
+        return Base64.getEncoder().encodeToString(this.digest());
+    }
+
+    // ----------------------------------------------------------------
+
+    static Hasher of(Checksum checksum) {
+        return new Hasher() {
+            @Override
+            void update(byte[] b, int off, int len) {
+                checksum.update(b, off, len);
+            }
+
+            @Override
+            byte[] digest() {
+                int value = (int) checksum.getValue();
+
+                return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+            }
+        };
+    }
+
+    static Hasher of(MessageDigest digest) {
+        return new Hasher() {
+            @Override
+            void update(byte[] b, int off, int len) {
+                digest.update(b, off, len);
+            }
+
+            @Override
+            byte[] digest() {
+                return digest.digest();
+            }
+        };
+    }
+}
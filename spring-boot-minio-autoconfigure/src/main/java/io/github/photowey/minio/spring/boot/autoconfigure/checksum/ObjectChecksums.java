@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.checksum;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.http.Responses;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * {@code ObjectChecksums}
+ * <p>
+ * End-to-end checksums of the bodies uploaded by {@code putObject}, sent along with them in the
+ * {@code minio-checksum-crc32c} or {@code minio-checksum-sha256} user metadata. Whole-object downloads are verified
+ * against the metadata of their own response while they're read, without another request.
+ * <p>
+ * The metadata goes up before the body, so a body is read ahead to compute its checksum: only bodies of at most one
+ * upload part are checksummed, which the SDK buffers whole anyway. Larger ones are streamed as they are.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class ObjectChecksums {
+
+    private static final int MAX_READ_AHEAD = Integer.MAX_VALUE - 8;
+    private static final int READ_AHEAD_CHUNK = 64 * 1024;
+
+    private final boolean enabled;
+    private final ChecksumAlgorithm algorithm;
+
+    public ObjectChecksums(MinIOProperties.Checksum checksum) {
+        this.enabled = checksum.isEnabled();
+        this.algorithm = checksum.getAlgorithm();
+    }
+
+    // ---------------------------------------------------------------- upload
+
+    /**
+     * Read a body of at most {@code maxSize} bytes ahead and compute its checksum. A body of unknown size that fits
+     * goes up with its size known, one that doesn't is streamed on unchecksummed.
+     *
+     * @param in      the body
+     * @param size    the body size, {@code -1} if unknown
+     * @param maxSize the most bytes read ahead
+     * @return the {@link ChecksummedBody}, {@code in} as it is if disabled
+     * @throws IOException if the body can't be read
+     */
+    public ChecksummedBody checksum(InputStream in, long size, long maxSize) throws IOException {
+        long limit = Math.min(maxSize, MAX_READ_AHEAD);
+        if (!this.enabled || size > limit) {
+            return new ChecksummedBody(in, size, Collections.emptyMap());
+        }
+
+        // One byte past the limit tells a body of unknown size that doesn't fit.
+        long max = size >= 0 ? size : limit + 1;
+        byte[] buffer = new byte[(int) Math.min(max, READ_AHEAD_CHUNK)];
+        int n = 0;
+        while (n < max) {
+            if (n == buffer.length) {
+                buffer = Arrays.copyOf(buffer, (int) Math.min(max, 2L * buffer.length));
+            }
+            int read = in.read(buffer, n, buffer.length - n);
+            if (read < 0) {
+                break;
+            }
+            n += read;
+        }
+
+        InputStream ahead = new ByteArrayInputStream(buffer, 0, n);
+        if (n > limit) {
+            return new ChecksummedBody(new SequenceInputStream(ahead, in), size, Collections.emptyMap());
+        }
+
+        Hasher hasher = this.algorithm.newHasher();
+        hasher.update(buffer, 0, n);
+
+        // A short body of known size keeps its size, for the SDK to report it.
+        return new ChecksummedBody(ahead, size >= 0 ? size : n,
+            Collections.singletonMap(this.algorithm.metadata(), hasher.value()));
+    }
+
+    // ---------------------------------------------------------------- download
+
+    /**
+     * @param args the {@link GetObjectArgs}
+     * @return {@code true} if the download is verified, only whole objects are
+     */
+    public boolean verifiable(GetObjectArgs args) {
+        return this.enabled && args.offset() == null && args.length() == null;
+    }
+
+    /**
+     * Verify a whole-object download against the checksum metadata of its response once it's read to its end.
+     * Objects without one are returned as they are.
+     *
+     * @param args     the {@link GetObjectArgs} of the response
+     * @param response the {@link GetObjectResponse}
+     * @return the verifying {@link GetObjectResponse}
+     */
+    public GetObjectResponse verify(GetObjectArgs args, GetObjectResponse response) {
+        if (!this.verifiable(args)) {
+            return response;
+        }
+
+        for (ChecksumAlgorithm algorithm : ChecksumAlgorithm.values()) {
+            String expected = Responses.userMetadata(response.headers(), algorithm.metadata());
+            if (expected == null) {
+                continue;
+            }
+            if (!algorithm.isSupported()) {
+                Responses.closeQuietly(response);
+                throw new MinioException("object: " + response.object() + " has a " + algorithm
+                    + " checksum this JVM can't verify");
+            }
+
+            return new GetObjectResponse(response.headers(), response.bucket(), response.region(), response.object(),
+                new VerifyingInputStream(response, algorithm, response.object(), expected));
+        }
+
+        return response;
+    }
+
+    public boolean enabled() {
+        return this.enabled;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.checksum;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@code VerifyingInputStream}
+ * <p>
+ * Compares the checksum of the body with the expected one once it's read to its end,
+ * failing that read rather than letting a corrupted body look complete.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+final class VerifyingInputStream extends InputStream {
+
+    private final ChecksummingInputStream in;
+    private final String object;
+    private final String expected;
+
+    private boolean verified;
+
+    VerifyingInputStream(InputStream in, ChecksumAlgorithm algorithm, String object, String expected) {
+        this.in = new ChecksummingInputStream(in, algorithm);
+        this.object = object;
+        this.expected = expected;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = this.in.read();
+        if (b < 0) {
+            this.verify();
+        }
+
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = this.in.read(b, off, len);
+        if (n < 0) {
+            this.verify();
+        }
+
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        return this.in.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return this.in.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    // ----------------------------------------------------------------
+
+    private void verify() throws IOException {
+        if (this.verified) {
+            return;
+        }
+
+        String actual = this.in.hasher().value();
+        if (!this.expected.equals(actual)) {
+            throw new IOException(String.format("object: %s failed its %s check, expected: %s, actual: %s",
+                this.object, this.in.algorithm(), this.expected, actual));
+        }
+
+        this.verified = true;
+    }
+}
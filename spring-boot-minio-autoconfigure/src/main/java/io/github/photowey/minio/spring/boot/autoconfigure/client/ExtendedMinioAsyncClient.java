@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.client;
+
+import com.google.common.collect.Multimap;
+import io.minio.AbortMultipartUploadResponse;
+import io.minio.CreateMultipartUploadResponse;
+import io.minio.DeleteObjectsResponse;
+import io.minio.ListObjectsV2Response;
+import io.minio.MinioAsyncClient;
+import io.minio.ObjectWriteResponse;
+import io.minio.UploadPartResponse;
+import io.minio.errors.InsufficientDataException;
+import io.minio.errors.InternalException;
+import io.minio.errors.XmlParserException;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Part;
+
+import java.io.IOException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code ExtendedMinioAsyncClient}
+ * <p>
+ * Opens up the low-level S3 APIs of {@link MinioAsyncClient}(multipart upload, multi-delete, paged listing, ...),
+ * sharing the {@code OkHttpClient}, credentials and region cache of the wrapped client.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class ExtendedMinioAsyncClient extends MinioAsyncClient {
+
+    public ExtendedMinioAsyncClient(MinioAsyncClient client) {
+        super(client);
+    }
+
+    public static ExtendedMinioAsyncClient of(MinioAsyncClient client) {
+        if (client instanceof ExtendedMinioAsyncClient) {
+            return (ExtendedMinioAsyncClient) client;
+        }
+
+        return new ExtendedMinioAsyncClient(client);
+    }
+
+    // ----------------------------------------------------------------- put
+
+    /**
+     * Put an object held in memory, {@code data} is a {@code byte[]} of which the first {@code length} bytes are sent.
+     */
+    @Override
+    public CompletableFuture<ObjectWriteResponse> putObjectAsync(
+        String bucketName,
+        String region,
+        String objectName,
+        Object data,
+        long length,
+        Multimap<String, String> headers,
+        Multimap<String, String> extraQueryParams)
+        throws InsufficientDataException, InternalException, InvalidKeyException, IOException,
+        NoSuchAlgorithmException, XmlParserException {
+        return super.putObjectAsync(bucketName, region, objectName, data, length, headers, extraQueryParams);
+    }
+
+    // ----------------------------------------------------------------- multipart
+
+    @Override
+    public CompletableFuture<CreateMultipartUploadResponse> createMultipartUploadAsync(
+        String bucketName,
+        String region,
+        String objectName,
+        Multimap<String, String> headers,
+        Multimap<String, String> extraQueryParams)
+        throws InsufficientDataException, InternalException, InvalidKeyException, IOException,
+        NoSuchAlgorithmException, XmlParserException {
+        return super.createMultipartUploadAsync(bucketName, region, objectName, headers, extraQueryParams);
+    }
+
+    @Override
+    public CompletableFuture<UploadPartResponse> uploadPartAsync(
+        String bucketName,
+        String region,
+        String objectName,
+        Object data,
+        long length,
+        String uploadId,
+        int partNumber,
+        Multimap<String, String> extraHeaders,
+        Multimap<String, String> extraQueryParams)
+        throws InsufficientDataException, InternalException, InvalidKeyException, IOException,
+        NoSuchAlgorithmException, XmlParserException {
+        return super.uploadPartAsync(
+            bucketName, region, objectName, data, length, uploadId, partNumber, extraHeaders, extraQueryParams);
+    }
+
+    @Override
+    public CompletableFuture<ObjectWriteResponse> completeMultipartUploadAsync(
+        String bucketName,
+        String region,
+        String objectName,
+        String uploadId,
+        Part[] parts,
+        Multimap<String, String> extraHeaders,
+        Multimap<String, String> extraQueryParams)
+        throws InsufficientDataException, InternalException, InvalidKeyException, IOException,
+        NoSuchAlgorithmException, XmlParserException {
+        return super.completeMultipartUploadAsync(
+            bucketName, region, objectName, uploadId, parts, extraHeaders, extraQueryParams);
+    }
+
+    @Override
+    public CompletableFuture<AbortMultipartUploadResponse> abortMultipartUploadAsync(
+        String bucketName,
+        String region,
+        String objectName,
+        String uploadId,
+        Multimap<String, String> extraHeaders,
+        Multimap<String, String> extraQueryParams)
+        throws InsufficientDataException, InternalException, InvalidKeyException, IOException,
+        NoSuchAlgorithmException, XmlParserException {
+        return super.abortMultipartUploadAsync(
+            bucketName, region, objectName, uploadId, extraHeaders, extraQueryParams);
+    }
+
+    // ----------------------------------------------------------------- delete
+
+    @Override
+    public CompletableFuture<DeleteObjectsResponse> deleteObjectsAsync(
+        String bucketName,
+        String region,
+        List<DeleteObject> objectList,
+        boolean quiet,
+        boolean bypassGovernanceMode,
+        Multimap<String, String> extraHeaders,
+        Multimap<String, String> extraQueryParams)
+        throws InsufficientDataException, InternalException, InvalidKeyException, IOException,
+        NoSuchAlgorithmException, XmlParserException {
+        return super.deleteObjectsAsync(
+            bucketName, region, objectList, quiet, bypassGovernanceMode, extraHeaders, extraQueryParams);
+    }
+
+    // ----------------------------------------------------------------- list
+
+    @Override
+    public CompletableFuture<ListObjectsV2Response> listObjectsV2Async(
+        String bucketName,
+        String region,
+        String delimiter,
+        String encodingType,
+        String startAfter,
+        Integer maxKeys,
+        String prefix,
+        String continuationToken,
+        boolean fetchOwner,
+        boolean includeUserMetadata,
+        Multimap<String, String> extraHeaders,
+        Multimap<String, String> extraQueryParams)
+        throws InsufficientDataException, InternalException, InvalidKeyException, IOException,
+        NoSuchAlgorithmException, XmlParserException {
+        return super.listObjectsV2Async(
+            bucketName, region, delimiter, encodingType, startAfter, maxKeys, prefix, continuationToken,
+            fetchOwner, includeUserMetadata, extraHeaders, extraQueryParams);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.client;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import okhttp3.OkHttpClient;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@code MinioClients}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class MinioClients {
+
+    private MinioClients() {
+        // utility class; can't create
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    public static MinioClient sync(MinIOProperties properties, OkHttpClient httpClient) {
+        MinioClient.Builder builder = MinioClient.builder()
+            .endpoint(properties.getEndpoint())
+            .credentials(properties.getAccessKey(), properties.getSecretKey())
+            .httpClient(httpClient);
+
+        if (StringUtils.hasText(properties.getRegion())) {
+            builder.region(properties.getRegion());
+        }
+
+        return builder.build();
+    }
+
+    public static MinioAsyncClient async(MinIOProperties properties, OkHttpClient httpClient) {
+        MinioAsyncClient.Builder builder = MinioAsyncClient.builder()
+            .endpoint(properties.getEndpoint())
+            .credentials(properties.getAccessKey(), properties.getSecretKey())
+            .httpClient(httpClient);
+
+        if (StringUtils.hasText(properties.getRegion())) {
+            builder.region(properties.getRegion());
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.coalesce;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.http.Responses;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.core.async.SingleFlight;
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+import io.minio.GetObjectResponse;
+import io.minio.StatObjectResponse;
+import okhttp3.Headers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@code Coalescer}
+ * <p>
+ * The in-flight reads shared by the coalescing templates, keyed by bucket and object.
+ * A body is read into memory once and handed out as a copy per caller, a body larger than {@code maxObjectSize}
+ * goes to one caller and the others read it on their own.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class Coalescer {
+
+    private final long maxObjectSize;
+
+    private final SingleFlight<String, Boolean> buckets = new SingleFlight<>();
+    private final SingleFlight<String, StatObjectResponse> stats = new SingleFlight<>();
+    private final SingleFlight<String, Body> bodies = new SingleFlight<>();
+
+    public Coalescer(MinIOProperties.Coalesce coalesce) {
+        this.maxObjectSize = coalesce.getMaxObjectSize().toBytes();
+    }
+
+    // ----------------------------------------------------------------
+
+    public SingleFlight<String, Boolean> buckets() {
+        return this.buckets;
+    }
+
+    public SingleFlight<String, StatObjectResponse> stats() {
+        return this.stats;
+    }
+
+    public SingleFlight<String, Body> bodies() {
+        return this.bodies;
+    }
+
+    /**
+     * Buffer a response body to share it, if small enough.
+     *
+     * @param response the {@link GetObjectResponse}
+     * @return the {@link Body}
+     */
+    public Body share(GetObjectResponse response) {
+        long length = Responses.contentLength(response.headers());
+        if (length < 0 || length > this.maxObjectSize) {
+            return new Body(response, null);
+        }
+
+        byte[] bytes = new byte[(int) length];
+        try (GetObjectResponse in = response) {
+            int offset = 0;
+            while (offset < bytes.length) {
+                int n = in.read(bytes, offset, bytes.length - offset);
+                if (n < 0) {
+                    throw new IOException("Truncated body, got " + offset + " of " + length + " bytes");
+                }
+                offset += n;
+            }
+        } catch (IOException e) {
+            throw new MinioException(e);
+        }
+
+        return new Body(response, bytes);
+    }
+
+    public static String key(String bucket, String object) {
+        return bucket + "/" + object;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * A shared {@code GET}: the buffered body, or the response itself for the first caller to claim it.
+     */
+    public static final class Body {
+
+        private final Headers headers;
+        private final String bucket;
+        private final String region;
+        private final String object;
+        private final byte[] bytes;
+        private final AtomicReference<GetObjectResponse> response;
+
+        private Body(GetObjectResponse response, byte[] bytes) {
+            this.headers = response.headers();
+            this.bucket = response.bucket();
+            this.region = response.region();
+            this.object = response.object();
+            this.bytes = bytes;
+            this.response = new AtomicReference<>(bytes == null ? response : null);
+        }
+
+        /**
+         * A response of its own for the caller.
+         *
+         * @return the {@link GetObjectResponse}, {@code null} if the unbuffered one was claimed already
+         */
+        public GetObjectResponse open() {
+            if (this.bytes != null) {
+                return new GetObjectResponse(
+                    this.headers, this.bucket, this.region, this.object, new ByteArrayInputStream(this.bytes));
+            }
+
+            return this.response.getAndSet(null);
+        }
+    }
+}
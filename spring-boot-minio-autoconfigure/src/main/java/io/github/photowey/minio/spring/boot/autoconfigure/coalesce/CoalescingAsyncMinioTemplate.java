@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.coalesce;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.MetadataCache;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.ForwardingAsyncMinioTemplate;
+import io.minio.GetObjectResponse;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code CoalescingAsyncMinioTemplate}
+ * <p>
+ * Concurrent {@code bucketExists}, plain {@code statObject} and {@code downloadObject(bucket, object)} calls of one
+ * key share a single request through the {@link Coalescer}. A shared body is buffered on the thread completing
+ * the {@code GET}, which is why only bodies up to {@code spring.minio.coalesce.max-object-size} are shared.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class CoalescingAsyncMinioTemplate extends ForwardingAsyncMinioTemplate {
+
+    private final AsyncMinioTemplate delegate;
+    private final Coalescer coalescer;
+
+    public CoalescingAsyncMinioTemplate(AsyncMinioTemplate delegate, Coalescer coalescer) {
+        this.delegate = delegate;
+        this.coalescer = coalescer;
+    }
+
+    @Override
+    protected AsyncMinioTemplate delegate() {
+        return this.delegate;
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Override
+    public CompletableFuture<Boolean> bucketExists(String bucket) {
+        return this.coalescer.buckets().submit(bucket, () -> super.bucketExists(bucket));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends InputStream> CompletableFuture<T> downloadObject(String bucket, String object) {
+        CompletableFuture<Coalescer.Body> body = this.coalescer.bodies().submit(Coalescer.key(bucket, object), () ->
+            super.<GetObjectResponse>downloadObject(bucket, object).thenApply(this.coalescer::share));
+
+        return body.thenCompose((it) -> {
+            GetObjectResponse response = it.open();
+
+            return response != null ? CompletableFuture.completedFuture((T) response) : super.downloadObject(bucket, object);
+        });
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<StatObjectResponse> statObject(StatObjectArgs args) {
+        if (!MetadataCache.cacheable(args)) {
+            return super.statObject(args);
+        }
+
+        return this.coalescer.stats().submit(Coalescer.key(args.bucket(), args.object()), () -> super.statObject(args));
+    }
+}
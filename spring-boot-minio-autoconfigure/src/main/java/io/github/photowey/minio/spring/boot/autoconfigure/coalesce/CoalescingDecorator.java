@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.coalesce;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.MinioTemplateDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import org.springframework.core.Ordered;
+
+/**
+ * {@code CoalescingDecorator}
+ * <p>
+ * Wraps the templates with {@link CoalescingSyncMinioTemplate}/{@link CoalescingAsyncMinioTemplate},
+ * both sharing one {@link Coalescer}.
+ * It sits outside the {@code RetryDecorator}, so a shared read is retried once for all of its callers.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class CoalescingDecorator implements MinioTemplateDecorator, Ordered {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 200;
+
+    private final Coalescer coalescer;
+
+    public CoalescingDecorator(Coalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    @Override
+    public SyncMinioTemplate decorate(SyncMinioTemplate template) {
+        return new CoalescingSyncMinioTemplate(template, this.coalescer);
+    }
+
+    @Override
+    public AsyncMinioTemplate decorate(AsyncMinioTemplate template) {
+        return new CoalescingAsyncMinioTemplate(template, this.coalescer);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    // ----------------------------------------------------------------
+
+    public Coalescer coalescer() {
+        return this.coalescer;
+    }
+}
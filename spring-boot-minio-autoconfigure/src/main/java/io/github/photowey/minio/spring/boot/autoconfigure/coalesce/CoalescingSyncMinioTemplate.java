@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.coalesce;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.MetadataCache;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.ForwardingSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+
+import java.io.InputStream;
+
+/**
+ * {@code CoalescingSyncMinioTemplate}
+ * <p>
+ * Concurrent {@code bucketExists}, plain {@code statObject} and {@code downloadObject(bucket, object)} calls of one
+ * key share a single request through the {@link Coalescer}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class CoalescingSyncMinioTemplate extends ForwardingSyncMinioTemplate {
+
+    private final SyncMinioTemplate delegate;
+    private final Coalescer coalescer;
+
+    public CoalescingSyncMinioTemplate(SyncMinioTemplate delegate, Coalescer coalescer) {
+        this.delegate = delegate;
+        this.coalescer = coalescer;
+    }
+
+    @Override
+    protected SyncMinioTemplate delegate() {
+        return this.delegate;
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Override
+    public boolean bucketExists(String bucket) {
+        return this.coalescer.buckets().call(bucket, () -> super.bucketExists(bucket));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public InputStream downloadObject(String bucket, String object) {
+        Coalescer.Body body = this.coalescer.bodies().call(Coalescer.key(bucket, object), () -> {
+            GetObjectArgs args = GetObjectArgs.builder()
+                .bucket(bucket)
+                .object(object)
+                .build();
+
+            return this.coalescer.share(super.downloadObject(args));
+        });
+
+        GetObjectResponse response = body.open();
+
+        return response != null ? response : super.downloadObject(bucket, object);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public StatObjectResponse statObject(StatObjectArgs args) {
+        if (!MetadataCache.cacheable(args)) {
+            return super.statObject(args);
+        }
+
+        return this.coalescer.stats().call(Coalescer.key(args.bucket(), args.object()), () -> super.statObject(args));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.compress;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterInputStream;
+
+/**
+ * {@code GzipCompressingInputStream}
+ * <p>
+ * Reads {@code in} gzip-compressed: a fixed header, the raw deflate stream of a {@link DeflaterInputStream},
+ * then the CRC-32 and size trailer. Compressed as it's read, so its length needn't be known.
+ * <p>
+ * Closing it releases the native memory of its {@link Deflater}, {@code in} is left open to its owner.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+final class GzipCompressingInputStream extends InputStream {
+
+    private static final byte[] HEADER = {
+        0x1f, (byte) 0x8b, // magic
+        Deflater.DEFLATED, // method
+        0, // flags
+        0, 0, 0, 0, // mtime
+        0, // extra flags
+        (byte) 0xff, // os: unknown
+    };
+
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final CheckedInputStream checked;
+    private final DeflaterInputStream deflated;
+
+    private final byte[] trailer = new byte[8];
+    private int headerPosition;
+    private int trailerPosition = -1;
+
+    GzipCompressingInputStream(InputStream in, int level) {
+        this.deflater = new Deflater(level, true);
+        this.checked = new CheckedInputStream(in, this.crc);
+        this.deflated = new DeflaterInputStream(this.checked, this.deflater, 8 * 1024);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int n = this.read(b, 0, 1);
+
+        return n < 0 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        if (this.headerPosition < HEADER.length) {
+            int n = Math.min(len, HEADER.length - this.headerPosition);
+            System.arraycopy(HEADER, this.headerPosition, b, off, n);
+            this.headerPosition += n;
+
+            return n;
+        }
+
+        if (this.trailerPosition < 0) {
+            int n = this.deflated.read(b, off, len);
+            if (n >= 0) {
+                return n;
+            }
+
+            this.writeTrailer();
+        }
+
+        if (this.trailerPosition == this.trailer.length) {
+            return -1;
+        }
+
+        int n = Math.min(len, this.trailer.length - this.trailerPosition);
+        System.arraycopy(this.trailer, this.trailerPosition, b, off, n);
+        this.trailerPosition += n;
+
+        return n;
+    }
+
+    @Override
+    public void close() {
+        this.deflater.end();
+    }
+
+    // ----------------------------------------------------------------
+
+    private void writeTrailer() {
+        long crc = this.crc.getValue();
+        long size = this.deflater.getBytesRead();
+        for (int i = 0; i < 4; i++) {
+            this.trailer[i] = (byte) (crc >>> (8 * i));
+            this.trailer[4 + i] = (byte) (size >>> (8 * i));
+        }
+
+        this.trailerPosition = 0;
+    }
+}
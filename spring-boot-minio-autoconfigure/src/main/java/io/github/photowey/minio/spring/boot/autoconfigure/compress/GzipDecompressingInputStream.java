@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.compress;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * {@code GzipDecompressingInputStream}
+ * <p>
+ * A {@link GZIPInputStream} created on the first read, as its constructor blocks reading the header,
+ * so wrapping a response on an {@code OkHttp} callback thread doesn't wait for the body.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+final class GzipDecompressingInputStream extends InputStream {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final InputStream in;
+    private GZIPInputStream gzip;
+
+    GzipDecompressingInputStream(InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return this.gzip().read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        return this.gzip().read(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        return this.gzip().skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return this.gzip != null ? this.gzip.available() : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.gzip != null) {
+            this.gzip.close();
+        } else {
+            this.in.close();
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private GZIPInputStream gzip() throws IOException {
+        if (this.gzip == null) {
+            this.gzip = new GZIPInputStream(this.in, BUFFER_SIZE);
+        }
+
+        return this.gzip;
+    }
+}
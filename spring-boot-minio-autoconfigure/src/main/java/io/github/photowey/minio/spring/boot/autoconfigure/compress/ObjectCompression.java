@@ -0,0 +1,230 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.compress;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.http.Responses;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.Transfers;
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.PutObjectArgs;
+import io.minio.StatObjectResponse;
+import okhttp3.Headers;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code ObjectCompression}
+ * <p>
+ * Gzip-compresses uploads of the {@code spring.minio.compression.content-types} while they're streamed, and
+ * decompresses them on download. The codec is recorded in the {@code minio-codec} user metadata rather than in
+ * {@code Content-Encoding}, which {@code OkHttp} and browsers would decode on their own.
+ * <p>
+ * Only uploads depend on {@code spring.minio.compression.enabled}: objects carrying the codec are decompressed on
+ * every download, so turning compression off doesn't leave the objects compressed so far unreadable.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class ObjectCompression {
+
+    public static final String CODEC_METADATA = "minio-codec";
+    public static final String UNCOMPRESSED_SIZE_METADATA = "minio-uncompressed-size";
+    public static final String GZIP = "gzip";
+
+    private final boolean enabled;
+    private final List<MimeType> contentTypes;
+    private final long minSize;
+    private final int level;
+
+    public ObjectCompression(MinIOProperties.Compression compression) {
+        this.enabled = compression.isEnabled();
+        List<MimeType> contentTypes = new ArrayList<>(compression.getContentTypes().size());
+        for (String contentType : compression.getContentTypes()) {
+            contentTypes.add(MimeTypeUtils.parseMimeType(contentType));
+        }
+        this.contentTypes = Collections.unmodifiableList(contentTypes);
+        this.minSize = compression.getMinSize().toBytes();
+        this.level = compression.getLevel();
+    }
+
+    // ---------------------------------------------------------------- upload
+
+    /**
+     * Compress the body of an upload if its content type is listed and it isn't known to be smaller than
+     * {@code minSize}. The result must be handed to {@link #release(InputStream)} once the upload is over.
+     *
+     * @param contentType the content type
+     * @param in          the body
+     * @param size        the body size, {@code -1} if unknown
+     * @return the body to upload, {@code in} itself if not compressed
+     */
+    public InputStream compress(String contentType, InputStream in, long size) {
+        return this.compressible(contentType, size) ? new GzipCompressingInputStream(in, this.level) : in;
+    }
+
+    /**
+     * Set the body returned by {@link #compress(String, InputStream, long)} on an upload, along with its user
+     * metadata and the codec.
+     *
+     * @param builder      the {@link PutObjectArgs.Builder}
+     * @param body         the body to upload
+     * @param size         the size of the body given to {@code compress}, {@code -1} if unknown
+     * @param partSize     the part size of a body of unknown size
+     * @param userMetadata the user metadata of the upload
+     * @return the {@code builder}
+     */
+    public PutObjectArgs.Builder stream(
+        PutObjectArgs.Builder builder, InputStream body, long size, long partSize, Map<String, String> userMetadata) {
+        if (!(body instanceof GzipCompressingInputStream)) {
+            return builder
+                .stream(body, size, size < 0 ? partSize : -1)
+                .userMetadata(userMetadata);
+        }
+
+        Map<String, String> metadata = new HashMap<>(userMetadata);
+        metadata.put(CODEC_METADATA, GZIP);
+        if (size >= 0) {
+            metadata.put(UNCOMPRESSED_SIZE_METADATA, Long.toString(size));
+        }
+
+        return builder
+            .stream(body, -1, partSize)
+            .userMetadata(metadata);
+    }
+
+    /**
+     * Release the compressor of a body returned by {@link #compress(String, InputStream, long)}, the SDK never
+     * closes the streams it uploads. The caller's own stream is left open.
+     *
+     * @param body the uploaded body
+     */
+    public void release(InputStream body) {
+        if (body instanceof GzipCompressingInputStream) {
+            ((GzipCompressingInputStream) body).close();
+        }
+    }
+
+    public boolean compressible(String contentType, long size) {
+        if (!this.enabled || contentType == null || (size >= 0 && size < this.minSize)) {
+            return false;
+        }
+
+        MimeType mimeType;
+        try {
+            mimeType = MimeTypeUtils.parseMimeType(contentType);
+        } catch (InvalidMimeTypeException e) {
+            return false;
+        }
+
+        for (MimeType it : this.contentTypes) {
+            if (it.includes(mimeType)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // ---------------------------------------------------------------- download
+
+    /**
+     * Decompress a response of a compressed object, other responses are returned as they are.
+     * The {@code Content-Length} of a decompressed one is the uncompressed size, if recorded.
+     *
+     * @param args     the {@link GetObjectArgs} of the response
+     * @param response the {@link GetObjectResponse}
+     * @return the {@link GetObjectResponse} reading the uncompressed body
+     */
+    public GetObjectResponse decompress(GetObjectArgs args, GetObjectResponse response) {
+        String codec = Responses.userMetadata(response.headers(), CODEC_METADATA);
+        if (codec == null) {
+            return response;
+        }
+
+        checkCodec(codec, response.object(), response);
+        if (args.offset() != null || args.length() != null) {
+            Responses.closeQuietly(response);
+            throw new MinioException("object: " + response.object() + " is compressed, byte ranges can't be read");
+        }
+
+        Headers.Builder headers = response.headers().newBuilder().removeAll("Content-Length");
+        String size = Responses.userMetadata(response.headers(), UNCOMPRESSED_SIZE_METADATA);
+        if (size != null) {
+            headers.add("Content-Length", size);
+        }
+
+        return new GetObjectResponse(headers.build(), response.bucket(), response.region(), response.object(),
+            new GzipDecompressingInputStream(response));
+    }
+
+    /**
+     * Decompress a downloaded file of a compressed object in place, other files are left as they are.
+     *
+     * @param stat the {@link StatObjectResponse} of the object
+     * @param file the downloaded file
+     * @throws IOException if the file can't be decompressed
+     */
+    public void decompress(StatObjectResponse stat, Path file) throws IOException {
+        String codec = stat.userMetadata().get(CODEC_METADATA);
+        if (codec == null) {
+            return;
+        }
+
+        checkCodec(codec, stat.object(), null);
+        Path partFile = Transfers.createPartFile(file);
+        try (InputStream in = new GzipDecompressingInputStream(Files.newInputStream(file))) {
+            Files.copy(in, partFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(partFile);
+            throw e;
+        }
+
+        try {
+            Files.move(partFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(partFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public boolean enabled() {
+        return this.enabled;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void checkCodec(String codec, String object, InputStream response) {
+        if (!GZIP.equalsIgnoreCase(codec)) {
+            Responses.closeQuietly(response);
+            throw new MinioException("object: " + object + " has an unsupported codec: " + codec);
+        }
+    }
+}
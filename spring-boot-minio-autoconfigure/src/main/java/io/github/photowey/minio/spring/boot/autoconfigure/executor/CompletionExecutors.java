@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.executor;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code CompletionExecutors}
+ * <p>
+ * The executor the {@code AsyncMinioTemplate} futures complete on, configured by {@code spring.minio.async.executor.*}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class CompletionExecutors {
+
+    public static final String MINIO_COMPLETION_EXECUTOR_BEAN_NAME = "minioCompletionExecutor";
+    public static final String THREAD_NAME_PREFIX = "minio-completion-";
+
+    private CompletionExecutors() {
+        // utility class; can't create
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    /**
+     * A fixed pool of {@code coreSize} daemon threads over a queue of {@code queueCapacity} tasks,
+     * idle threads time out after {@code keepAlive}.
+     *
+     * @param executor the {@code spring.minio.async.executor.*} properties
+     * @return {@link ThreadPoolExecutor}
+     */
+    public static ThreadPoolExecutor create(MinIOProperties.Async.Executor executor) {
+        BlockingQueue<Runnable> queue = executor.getQueueCapacity() > 0
+            ? new ArrayBlockingQueue<>(executor.getQueueCapacity())
+            : new SynchronousQueue<>();
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            executor.getCoreSize(),
+            executor.getCoreSize(),
+            executor.getKeepAlive().toMillis(),
+            TimeUnit.MILLISECONDS,
+            queue,
+            threadFactory(),
+            rejectionHandler(executor.getRejectionPolicy())
+        );
+        pool.allowCoreThreadTimeOut(executor.getKeepAlive().toMillis() > 0);
+
+        return pool;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+
+        return (task) -> {
+            Thread thread = new Thread(task, THREAD_NAME_PREFIX + sequence.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+
+    private static RejectedExecutionHandler rejectionHandler(MinIOProperties.Async.RejectionPolicy policy) {
+        switch (policy) {
+            case ABORT:
+                return new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS:
+            default:
+                // Unlike ThreadPoolExecutor.CallerRunsPolicy, also runs once shut down, a future must complete.
+                return (task, pool) -> task.run();
+        }
+    }
+}
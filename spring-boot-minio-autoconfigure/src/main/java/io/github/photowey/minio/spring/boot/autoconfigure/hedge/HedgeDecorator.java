@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.hedge;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.MinioTemplateDecorator;
+import org.springframework.core.Ordered;
+
+/**
+ * {@code HedgeDecorator}
+ * <p>
+ * Wraps the {@link AsyncMinioTemplate} with a {@link HedgingAsyncMinioTemplate}, the blocking template is left as is.
+ * It sits inside the {@code RetryDecorator} and outside the {@code LimitsDecorator}, so a hedge takes a permit.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class HedgeDecorator implements MinioTemplateDecorator, Ordered, AutoCloseable {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 400;
+
+    private final Hedger hedger;
+
+    public HedgeDecorator(Hedger hedger) {
+        this.hedger = hedger;
+    }
+
+    @Override
+    public AsyncMinioTemplate decorate(AsyncMinioTemplate template) {
+        return new HedgingAsyncMinioTemplate(template, this.hedger);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    // ----------------------------------------------------------------
+
+    public Hedger hedger() {
+        return this.hedger;
+    }
+
+    @Override
+    public void close() {
+        this.hedger.close();
+    }
+}
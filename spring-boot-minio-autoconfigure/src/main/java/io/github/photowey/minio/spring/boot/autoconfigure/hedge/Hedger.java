@@ -0,0 +1,256 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.hedge;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.http.Responses;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.core.async.SharedTimer;
+import io.github.photowey.minio.spring.boot.core.cache.ExpiringLruCache;
+import io.github.photowey.minio.spring.boot.core.stats.SlidingQuantile;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * {@code Hedger}
+ * <p>
+ * Races a slow object read against a second, identical one. The hedge is sent once the read is slower than the
+ * {@code spring.minio.hedge.quantile} of the recent reads, the first response wins and the other one is closed
+ * as soon as it arrives, the {@code MinIO} SDK can't abort a call in flight.
+ * <p>
+ * Only objects known to be at most {@code spring.minio.hedge.max-size} are hedged, their sizes are remembered from
+ * earlier reads. Each read earns {@code spring.minio.hedge.budget} of a hedge, so hedges stay a small fraction of
+ * the reads even when all of them are slow.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class Hedger implements AutoCloseable {
+
+    private static final int WINDOW = 1024;
+    private static final int MIN_SAMPLES = 32;
+    private static final long SIZE_TTL_MINUTES = 60;
+    /**
+     * The hedges a quiet period can save up for a burst of slow reads.
+     */
+    private static final double MAX_CREDITS = 10;
+
+    private final long maxSize;
+    private final long minDelayNanos;
+    private final double budget;
+    private final SlidingQuantile latency;
+    private final ExpiringLruCache<String, Long> sizes;
+    private final SharedTimer timer;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder won = new LongAdder();
+
+    private double credits;
+
+    public Hedger(MinIOProperties.Hedge hedge) {
+        this.maxSize = hedge.getMaxSize().toBytes();
+        this.minDelayNanos = hedge.getMinDelay().toNanos();
+        this.budget = hedge.getBudget();
+        this.latency = new SlidingQuantile(WINDOW, hedge.getQuantile(), MIN_SAMPLES);
+        this.sizes = new ExpiringLruCache<>(hedge.getMaxObjects());
+        this.timer = SharedTimer.lease();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Read {@code object}, hedging the read if it's slow and the object small.
+     *
+     * @param bucket the bucket
+     * @param object the object
+     * @param read   sends the read
+     * @param <T>    the stream type
+     * @return the first response
+     */
+    public <T extends InputStream> CompletableFuture<T> read(String bucket, String object, Supplier<CompletableFuture<T>> read) {
+        String key = bucket + "/" + object;
+        long start = System.nanoTime();
+        CompletableFuture<T> primary = read.get();
+        primary.thenAccept((in) -> {
+            this.latency.record(System.nanoTime() - start);
+            this.learn(key, in);
+        });
+
+        this.earn();
+        long delay = this.delayNanos();
+        Long size = this.sizes.get(key);
+        if (delay < 0 || size == null || size > this.maxSize || primary.isDone()) {
+            return primary;
+        }
+
+        Race<T> race = new Race<>();
+        primary.whenComplete(race::finish);
+        try {
+            ScheduledFuture<?> hedge = this.timer.schedule(() -> this.hedge(key, read, race), delay, TimeUnit.NANOSECONDS);
+            race.result.whenComplete((in, ex) -> hedge.cancel(false));
+        } catch (RejectedExecutionException ignored) {
+            // Closed, the primary read carries on alone.
+        }
+
+        return race.result;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the hedges sent
+     */
+    public long sent() {
+        return this.sent.sum();
+    }
+
+    /**
+     * @return the hedges that answered first
+     */
+    public long won() {
+        return this.won.sum();
+    }
+
+    /**
+     * @return the current hedge delay in nanos, {@code -1} until enough reads were timed
+     */
+    public long delayNanos() {
+        long quantile = this.latency.get();
+
+        return quantile < 0 ? -1 : Math.max(quantile, this.minDelayNanos);
+    }
+
+    @Override
+    public void close() {
+        this.timer.close();
+    }
+
+    // ----------------------------------------------------------------
+
+    private <T extends InputStream> void hedge(String key, Supplier<CompletableFuture<T>> read, Race<T> race) {
+        if (!race.launch()) {
+            return;
+        }
+        if (!this.spend()) {
+            race.fail(null);
+            return;
+        }
+
+        this.sent.increment();
+        CompletableFuture<T> hedge;
+        try {
+            hedge = read.get();
+        } catch (RuntimeException e) {
+            race.fail(e);
+            return;
+        }
+        hedge.thenAccept((in) -> this.learn(key, in));
+        hedge.whenComplete((in, ex) -> {
+            if (race.finish(in, ex)) {
+                this.won.increment();
+            }
+        });
+    }
+
+    private synchronized void earn() {
+        this.credits = Math.min(MAX_CREDITS, this.credits + this.budget);
+    }
+
+    private synchronized boolean spend() {
+        if (this.credits < 1) {
+            return false;
+        }
+
+        this.credits -= 1;
+
+        return true;
+    }
+
+    private void learn(String key, InputStream in) {
+        long size = Responses.contentLength(in);
+        if (size >= 0) {
+            this.sizes.put(key, size, SIZE_TTL_MINUTES, TimeUnit.MINUTES);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The primary read and the hedge racing for {@code result}: the first response wins, the second is closed.
+     * The race fails only once every read sent has failed, with the first failure.
+     */
+    private static final class Race<T extends InputStream> {
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private int pending = 1;
+        private Throwable failure;
+
+        private synchronized boolean launch() {
+            if (this.result.isDone() || this.pending == 0) {
+                return false;
+            }
+
+            this.pending++;
+
+            return true;
+        }
+
+        /**
+         * A read finished.
+         *
+         * @return {@code true} if {@code in} won the race
+         */
+        private boolean finish(T in, Throwable ex) {
+            if (ex != null) {
+                this.fail(ex);
+                return false;
+            }
+            if (this.result.complete(in)) {
+                return true;
+            }
+            if (in != null) {
+                Responses.closeQuietly(in);
+            }
+
+            return false;
+        }
+
+        /**
+         * A read failed or, with a {@code null} failure, a hedge wasn't sent after all.
+         */
+        private void fail(Throwable ex) {
+            Throwable failed;
+            synchronized (this) {
+                if (this.failure == null) {
+                    this.failure = ex;
+                }
+                if (--this.pending > 0) {
+                    return;
+                }
+                failed = this.failure;
+            }
+
+            this.result.completeExceptionally(failed);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.hedge;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.ForwardingAsyncMinioTemplate;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code HedgingAsyncMinioTemplate}
+ * <p>
+ * Hedges {@link #downloadObject(String, String)} through the {@link Hedger}, the other operations are forwarded.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class HedgingAsyncMinioTemplate extends ForwardingAsyncMinioTemplate {
+
+    private final AsyncMinioTemplate delegate;
+    private final Hedger hedger;
+
+    public HedgingAsyncMinioTemplate(AsyncMinioTemplate delegate, Hedger hedger) {
+        this.delegate = delegate;
+        this.hedger = hedger;
+    }
+
+    @Override
+    protected AsyncMinioTemplate delegate() {
+        return this.delegate;
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public <T extends InputStream> CompletableFuture<T> downloadObject(String bucket, String object) {
+        return this.hedger.read(bucket, object, () -> super.downloadObject(bucket, object));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.http;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code OkHttpClients}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class OkHttpClients {
+
+    public static final String MINIO_HTTP_CLIENT_BEAN_NAME = "minioHttpClient";
+
+    private OkHttpClients() {
+        // utility class; can't create
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    public static OkHttpClient create(MinIOProperties.Http http) {
+        return create(http, new Dispatcher());
+    }
+
+    public static OkHttpClient create(MinIOProperties.Http http, Dispatcher dispatcher) {
+        dispatcher.setMaxRequests(http.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(http.getMaxRequestsPerHost());
+
+        ConnectionPool pool = new ConnectionPool(
+            http.getMaxIdleConnections(),
+            http.getKeepAlive().toMillis(),
+            TimeUnit.MILLISECONDS
+        );
+
+        return new OkHttpClient.Builder()
+            .dispatcher(dispatcher)
+            .connectionPool(pool)
+            .connectTimeout(http.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS)
+            .readTimeout(http.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS)
+            .writeTimeout(http.getWriteTimeout().toMillis(), TimeUnit.MILLISECONDS)
+            .protocols(http.isHttp2()
+                ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                : Collections.singletonList(Protocol.HTTP_1_1))
+            .retryOnConnectionFailure(http.isRetryOnConnectionFailure())
+            .build();
+    }
+
+    /**
+     * Stop the dispatcher threads and close the idle connections of a client created by {@link #create},
+     * calls in flight still complete.
+     *
+     * @param httpClient the {@link OkHttpClient}
+     */
+    public static void close(OkHttpClient httpClient) {
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.http;
+
+import io.minio.GetObjectResponse;
+import okhttp3.Headers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@code Responses}
+ * <p>
+ * Reads the headers of the {@code MinIO} client's responses, and releases them or what they were copied into.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class Responses {
+
+    private static final String USER_METADATA_PREFIX = "X-Amz-Meta-";
+
+    private Responses() {
+        // utility class; can't create
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    /**
+     * @param headers the response headers
+     * @return the {@code Content-Length}, {@code -1} if absent or malformed
+     */
+    public static long contentLength(Headers headers) {
+        String contentLength = headers.get("Content-Length");
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength);
+            } catch (NumberFormatException ignored) {
+                // ignored
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * The body size of a {@link GetObjectResponse}, read from its headers.
+     *
+     * @param in the object stream
+     * @return the body size, {@code -1} if unknown or {@code in} isn't a {@link GetObjectResponse}
+     */
+    public static long contentLength(InputStream in) {
+        return in instanceof GetObjectResponse ? contentLength(((GetObjectResponse) in).headers()) : -1;
+    }
+
+    /**
+     * @param headers the response headers
+     * @param key     the user metadata key, without the {@code X-Amz-Meta-} prefix
+     * @return the user metadata value, {@code null} if absent
+     */
+    public static String userMetadata(Headers headers, String key) {
+        return headers.get(USER_METADATA_PREFIX + key);
+    }
+
+    /**
+     * @param etag an {@code ETag} header
+     * @return the {@code ETag} without its quotes
+     */
+    public static String trimETag(String etag) {
+        if (etag != null && etag.length() >= 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+            return etag.substring(1, etag.length() - 1);
+        }
+
+        return etag;
+    }
+
+    /**
+     * @param closeable the stream, response or file to close, may be {@code null}
+     */
+    public static void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException ignored) {
+                // ignored
+            }
+        }
+    }
+}
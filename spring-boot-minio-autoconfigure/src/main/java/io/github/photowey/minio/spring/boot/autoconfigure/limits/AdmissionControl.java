@@ -0,0 +1,353 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.limits;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.core.async.Futures;
+import io.github.photowey.minio.spring.boot.core.async.SharedTimer;
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+import io.github.photowey.minio.spring.boot.core.limit.AsyncSemaphore;
+import io.github.photowey.minio.spring.boot.core.limit.TokenBucket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@code AdmissionControl}
+ * <p>
+ * Admits a template call once it holds an in-flight permit of its bucket and a global one, in that order,
+ * and a token of both rate limits. A call not admitted within {@code spring.minio.limits.max-wait} fails
+ * with a {@link LimitExceededException} without being sent.
+ * <p>
+ * Async calls wait without a thread: permits are granted by the releasing call, tokens and timeouts by a timer,
+ * and a call admitted late is started on the {@code executor}. Closing it fails the calls still waiting on the timer.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class AdmissionControl implements AutoCloseable {
+
+    private static final CompletableFuture<Void> ADMITTED = CompletableFuture.completedFuture(null);
+
+    private final MinIOProperties.Limits limits;
+    private final long maxWaitNanos;
+    private final Limiter global;
+    private final ConcurrentMap<String, Limiter> buckets = new ConcurrentHashMap<>();
+    private final List<BiConsumer<String, Limiter>> bucketListeners = new CopyOnWriteArrayList<>();
+    private final Executor executor;
+    private final SharedTimer timer;
+    private final LongAdder rejected = new LongAdder();
+
+    public AdmissionControl(MinIOProperties.Limits limits, Executor executor) {
+        this.limits = limits;
+        this.maxWaitNanos = limits.getMaxWait().toNanos();
+        this.global = Limiter.isEnabled(limits.getGlobal()) ? new Limiter(limits.getGlobal()) : null;
+        this.executor = executor;
+        this.timer = SharedTimer.lease();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Run a blocking call once admitted, waiting at most {@code spring.minio.limits.max-wait}.
+     *
+     * @param bucket the bucket, {@code null} for the global limits only
+     * @param task   the call
+     * @param <T>    the result type
+     * @return the result
+     * @throws LimitExceededException if not admitted in time
+     */
+    public <T> T call(String bucket, Supplier<T> task) {
+        Permit permit = this.acquireBlocking(bucket);
+        try {
+            return task.get();
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * Start an asynchronous call once admitted, its permits are released when its future completes.
+     *
+     * @param bucket the bucket, {@code null} for the global limits only
+     * @param task   the call
+     * @param <T>    the result type
+     * @return the future of the call, failed with a {@link LimitExceededException} if not admitted in time
+     */
+    public <T> CompletableFuture<T> submit(String bucket, Supplier<CompletableFuture<T>> task) {
+        Function<Permit, CompletableFuture<T>> run = (permit) -> {
+            CompletableFuture<T> future;
+            try {
+                future = task.get();
+            } catch (RuntimeException e) {
+                permit.release();
+                throw e;
+            }
+            future.whenComplete((value, ex) -> permit.release());
+
+            return future;
+        };
+
+        CompletableFuture<Permit> admitted = this.acquire(bucket);
+        if (admitted.isDone() && !admitted.isCompletedExceptionally()) {
+            return run.apply(admitted.join());
+        }
+
+        // Admitted later, on a releasing or timer thread, which must not run the call itself.
+        return admitted.thenComposeAsync(run, this.executor);
+    }
+
+    // ----------------------------------------------------------------
+
+    public Limiter global() {
+        return this.global;
+    }
+
+    /**
+     * Hand the per-bucket {@link Limiter}s to {@code listener}, the existing ones now and the new ones once created.
+     *
+     * @param listener the listener
+     */
+    public void onBucket(BiConsumer<String, Limiter> listener) {
+        this.bucketListeners.add(listener);
+        this.buckets.forEach(listener);
+    }
+
+    /**
+     * @return the calls rejected so far
+     */
+    public long rejected() {
+        return this.rejected.sum();
+    }
+
+    @Override
+    public void close() {
+        this.timer.close();
+    }
+
+    // ----------------------------------------------------------------
+
+    private CompletableFuture<Permit> acquire(String bucket) {
+        long deadline = System.nanoTime() + this.maxWaitNanos;
+        Limiter scoped = this.bucket(bucket);
+        Permit permit = new Permit();
+
+        return this.acquire(scoped, deadline, permit)
+            .thenCompose(x -> this.acquire(this.global, deadline, permit))
+            .thenCompose(x -> {
+                long wait = this.reserve(bucket, scoped, deadline);
+                if (wait == 0) {
+                    return ADMITTED;
+                }
+
+                return this.timer.delay(wait, TimeUnit.NANOSECONDS);
+            })
+            .handle((x, ex) -> {
+                if (ex != null) {
+                    permit.release();
+                    Throwable cause = Futures.unwrap(ex);
+                    // A token reservation is rejected right away, a permit wait by cancellation,
+                    // and a wait on the timer fails with a RejectedExecutionException once closed.
+                    throw new CompletionException(cause instanceof LimitExceededException
+                        || cause instanceof RejectedExecutionException ? cause : this.rejected(bucket));
+                }
+
+                return permit;
+            });
+    }
+
+    private CompletableFuture<Void> acquire(Limiter limiter, long deadline, Permit permit) {
+        if (limiter == null || limiter.inFlight() == null) {
+            return ADMITTED;
+        }
+
+        AsyncSemaphore semaphore = limiter.inFlight();
+        CompletableFuture<Void> waiter = semaphore.acquire();
+        if (!waiter.isDone()) {
+            CompletableFuture<Void> timeout;
+            try {
+                timeout = this.timer.delay(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                if (!semaphore.cancel(waiter)) {
+                    semaphore.release();
+                }
+                throw e;
+            }
+            // Timed out or closed, either way the wait is over.
+            timeout.whenComplete((x, ex) -> {
+                if (!timeout.isCancelled()) {
+                    semaphore.cancel(waiter);
+                }
+            });
+            waiter.whenComplete((x, ex) -> timeout.cancel(false));
+        }
+
+        return waiter.thenRun(() -> permit.hold(semaphore));
+    }
+
+    private Permit acquireBlocking(String bucket) {
+        long deadline = System.nanoTime() + this.maxWaitNanos;
+        Limiter scoped = this.bucket(bucket);
+        Permit permit = new Permit();
+        try {
+            this.acquireBlocking(bucket, scoped, deadline, permit);
+            this.acquireBlocking(bucket, this.global, deadline, permit);
+            long wait = this.reserve(bucket, scoped, deadline);
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+
+            return permit;
+        } catch (InterruptedException e) {
+            permit.release();
+            Thread.currentThread().interrupt();
+            throw new MinioException(e);
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    private void acquireBlocking(String bucket, Limiter limiter, long deadline, Permit permit) throws InterruptedException {
+        if (limiter == null || limiter.inFlight() == null) {
+            return;
+        }
+
+        AsyncSemaphore semaphore = limiter.inFlight();
+        CompletableFuture<Void> waiter = semaphore.acquire();
+        if (!waiter.isDone()) {
+            try {
+                waiter.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (semaphore.cancel(waiter)) {
+                    throw this.rejected(bucket);
+                }
+            } catch (InterruptedException e) {
+                if (!semaphore.cancel(waiter)) {
+                    semaphore.release();
+                }
+                throw e;
+            } catch (ExecutionException e) {
+                // Never, a waiter is only granted or cancelled.
+                throw new MinioException(e.getCause());
+            }
+        }
+
+        permit.hold(semaphore);
+    }
+
+    /**
+     * Reserve a token of the bucket and the global rate limits.
+     *
+     * @return the nanos to wait for the later token
+     * @throws LimitExceededException if a token isn't available before {@code deadline}
+     */
+    private long reserve(String bucket, Limiter scoped, long deadline) {
+        long scopedWait = reserve(scoped, deadline);
+        if (scopedWait < 0) {
+            throw this.rejected(bucket);
+        }
+
+        long globalWait = reserve(this.global, deadline);
+        if (globalWait < 0) {
+            // The call is never sent, the bucket token goes back.
+            if (scoped != null && scoped.rate() != null) {
+                scoped.rate().cancel();
+            }
+            throw this.rejected(bucket);
+        }
+
+        return Math.max(scopedWait, globalWait);
+    }
+
+    private static long reserve(Limiter limiter, long deadline) {
+        TokenBucket rate = limiter != null ? limiter.rate() : null;
+        if (rate == null) {
+            return 0;
+        }
+
+        return rate.reserve(deadline - System.nanoTime());
+    }
+
+    private LimitExceededException rejected(String bucket) {
+        this.rejected.increment();
+
+        return new LimitExceededException(bucket != null
+            ? "No permit for bucket: " + bucket + " within " + this.limits.getMaxWait()
+            : "No permit within " + this.limits.getMaxWait());
+    }
+
+    private Limiter bucket(String bucket) {
+        if (bucket == null || !Limiter.isEnabled(this.limits.getBucket())) {
+            return null;
+        }
+
+        Limiter limiter = this.buckets.get(bucket);
+        if (limiter != null) {
+            return limiter;
+        }
+
+        Limiter created = new Limiter(this.limits.getBucket());
+        limiter = this.buckets.putIfAbsent(bucket, created);
+        if (limiter != null) {
+            return limiter;
+        }
+        for (BiConsumer<String, Limiter> listener : this.bucketListeners) {
+            listener.accept(bucket, created);
+        }
+
+        return created;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The in-flight permits held by one call, acquired one after the other.
+     */
+    private static final class Permit {
+
+        private final List<AsyncSemaphore> held = new ArrayList<>(2);
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private void hold(AsyncSemaphore semaphore) {
+            this.held.add(semaphore);
+        }
+
+        private void release() {
+            if (this.released.compareAndSet(false, true)) {
+                for (AsyncSemaphore semaphore : this.held) {
+                    semaphore.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.limits;
+
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+
+/**
+ * {@code LimitExceededException}
+ * <p>
+ * No permit within {@code spring.minio.limits.max-wait}, the call wasn't sent.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class LimitExceededException extends MinioException {
+
+    public LimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.limits;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.ForwardingAsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
+import io.minio.*;
+import io.minio.messages.Bucket;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * {@code LimitedAsyncMinioTemplate}
+ * <p>
+ * A call over the limits waits for at most {@code spring.minio.limits.max-wait}, without blocking the caller.
+ * Listings and presigned URLs aren't limited, a batch or a parallel transfer is admitted as one call.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class LimitedAsyncMinioTemplate extends ForwardingAsyncMinioTemplate {
+
+    private final AsyncMinioTemplate delegate;
+    private final AdmissionControl control;
+
+    public LimitedAsyncMinioTemplate(AsyncMinioTemplate delegate, AdmissionControl control) {
+        this.delegate = delegate;
+        this.control = control;
+    }
+
+    @Override
+    protected AsyncMinioTemplate delegate() {
+        return this.delegate;
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Override
+    public CompletableFuture<Boolean> bucketExists(String bucket) {
+        return this.control.submit(bucket, () -> super.bucketExists(bucket));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> createBucket(String bucket) {
+        return this.control.submit(bucket, () -> super.createBucket(bucket));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> removeBucket(String bucket) {
+        return this.control.submit(bucket, () -> super.removeBucket(bucket));
+    }
+
+    @Override
+    public CompletableFuture<List<Bucket>> buckets() {
+        return this.control.submit(null, super::buckets);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<ObjectWriteResponse> putObject(
+        String bucket, String object, String contextType, InputStream in, long size) {
+        return this.control.submit(bucket, () -> super.putObject(bucket, object, contextType, in, size));
+    }
+
+    @Override
+    public CompletableFuture<ObjectWriteResponse> uploadFile(String bucket, String object, Path file, UploadOptions options) {
+        return this.control.submit(bucket, () -> super.uploadFile(bucket, object, file, options));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<ObjectWriteResponse>>> putObjects(List<PutObjectArgs> objects) {
+        String bucket = objects.isEmpty() ? null : objects.get(0).bucket();
+
+        return this.control.submit(bucket, () -> super.putObjects(objects));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public <T extends InputStream> CompletableFuture<T> downloadObject(String bucket, String object) {
+        return this.control.submit(bucket, () -> super.downloadObject(bucket, object));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> downloadObject(DownloadObjectArgs args) {
+        return this.control.submit(args.bucket(), () -> super.downloadObject(args));
+    }
+
+    @Override
+    public CompletableFuture<StatObjectResponse> downloadFile(String bucket, String object, Path file, DownloadOptions options) {
+        return this.control.submit(bucket, () -> super.downloadFile(bucket, object, file, options));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<StatObjectResponse> statObject(StatObjectArgs args) {
+        return this.control.submit(args.bucket(), () -> super.statObject(args));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<StatObjectResponse>>> statObjects(String bucket, List<String> objects) {
+        return this.control.submit(bucket, () -> super.statObjects(bucket, objects));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<Boolean> removeObject(String bucket, String object) {
+        return this.control.submit(bucket, () -> super.removeObject(bucket, object));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<Boolean>>> removeObjects(
+        String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult) {
+        return this.control.submit(bucket, () -> super.removeObjects(bucket, objects, onResult));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.limits;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.ForwardingSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
+import io.minio.*;
+import io.minio.messages.Bucket;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@code LimitedSyncMinioTemplate}
+ * <p>
+ * A call over the limits blocks for at most {@code spring.minio.limits.max-wait}.
+ * Listings and presigned URLs aren't limited, a batch or a parallel transfer is admitted as one call.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class LimitedSyncMinioTemplate extends ForwardingSyncMinioTemplate {
+
+    private final SyncMinioTemplate delegate;
+    private final AdmissionControl control;
+
+    public LimitedSyncMinioTemplate(SyncMinioTemplate delegate, AdmissionControl control) {
+        this.delegate = delegate;
+        this.control = control;
+    }
+
+    @Override
+    protected SyncMinioTemplate delegate() {
+        return this.delegate;
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Override
+    public boolean bucketExists(String bucket) {
+        return this.control.call(bucket, () -> super.bucketExists(bucket));
+    }
+
+    @Override
+    public boolean createBucket(String bucket) {
+        return this.control.call(bucket, () -> super.createBucket(bucket));
+    }
+
+    @Override
+    public boolean removeBucket(String bucket) {
+        return this.control.call(bucket, () -> super.removeBucket(bucket));
+    }
+
+    @Override
+    public List<Bucket> buckets() {
+        return this.control.call(null, super::buckets);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public ObjectWriteResponse putObject(String bucket, String object, String contextType, InputStream in, long size) {
+        return this.control.call(bucket, () -> super.putObject(bucket, object, contextType, in, size));
+    }
+
+    @Override
+    public ObjectWriteResponse uploadFile(String bucket, String object, Path file, UploadOptions options) {
+        return this.control.call(bucket, () -> super.uploadFile(bucket, object, file, options));
+    }
+
+    @Override
+    public List<BatchResult<ObjectWriteResponse>> putObjects(List<PutObjectArgs> objects) {
+        String bucket = objects.isEmpty() ? null : objects.get(0).bucket();
+
+        return this.control.call(bucket, () -> super.putObjects(objects));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public InputStream downloadObject(String bucket, String object) {
+        return this.control.call(bucket, () -> super.downloadObject(bucket, object));
+    }
+
+    @Override
+    public GetObjectResponse downloadObject(GetObjectArgs args) {
+        return this.control.call(args.bucket(), () -> super.downloadObject(args));
+    }
+
+    @Override
+    public boolean downloadObject(DownloadObjectArgs args) {
+        return this.control.call(args.bucket(), () -> super.downloadObject(args));
+    }
+
+    @Override
+    public StatObjectResponse downloadFile(String bucket, String object, Path file, DownloadOptions options) {
+        return this.control.call(bucket, () -> super.downloadFile(bucket, object, file, options));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public StatObjectResponse statObject(StatObjectArgs args) {
+        return this.control.call(args.bucket(), () -> super.statObject(args));
+    }
+
+    @Override
+    public List<BatchResult<StatObjectResponse>> statObjects(String bucket, List<String> objects) {
+        return this.control.call(bucket, () -> super.statObjects(bucket, objects));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public boolean removeObject(String bucket, String object) {
+        return this.control.call(bucket, () -> super.removeObject(bucket, object));
+    }
+
+    @Override
+    public List<BatchResult<Boolean>> removeObjects(
+        String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult) {
+        return this.control.call(bucket, () -> super.removeObjects(bucket, objects, onResult));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.limits;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.core.limit.AsyncSemaphore;
+import io.github.photowey.minio.spring.boot.core.limit.TokenBucket;
+
+/**
+ * {@code Limiter}
+ * <p>
+ * The rate and in-flight limits of one scope, either of them may be off.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class Limiter {
+
+    private final TokenBucket rate;
+    private final AsyncSemaphore inFlight;
+
+    Limiter(MinIOProperties.Limits.Limit limit) {
+        this.rate = limit.getRate() > 0
+            ? new TokenBucket(limit.getRate(), limit.getBurst() > 0 ? limit.getBurst() : Math.max(1, limit.getRate()))
+            : null;
+        this.inFlight = limit.getMaxInFlight() > 0 ? new AsyncSemaphore(limit.getMaxInFlight()) : null;
+    }
+
+    static boolean isEnabled(MinIOProperties.Limits.Limit limit) {
+        return limit.getRate() > 0 || limit.getMaxInFlight() > 0;
+    }
+
+    TokenBucket rate() {
+        return this.rate;
+    }
+
+    AsyncSemaphore inFlight() {
+        return this.inFlight;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the tokens available right now, {@code NaN} without a rate limit
+     */
+    public double availableTokens() {
+        return this.rate != null ? this.rate.availableTokens() : Double.NaN;
+    }
+
+    /**
+     * @return the free in-flight permits, {@code NaN} without an in-flight cap
+     */
+    public double availablePermits() {
+        return this.inFlight != null ? this.inFlight.availablePermits() : Double.NaN;
+    }
+
+    /**
+     * @return the calls waiting for an in-flight permit
+     */
+    public double waiting() {
+        return this.inFlight != null ? this.inFlight.queueLength() : 0;
+    }
+}
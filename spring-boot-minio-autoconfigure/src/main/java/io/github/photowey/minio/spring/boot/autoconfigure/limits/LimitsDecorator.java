@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.limits;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.MinioTemplateDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import org.springframework.core.Ordered;
+
+/**
+ * {@code LimitsDecorator}
+ * <p>
+ * Wraps the templates with {@link LimitedSyncMinioTemplate}/{@link LimitedAsyncMinioTemplate},
+ * both sharing one {@link AdmissionControl}.
+ * It sits closest to the {@code MinIO} client, so a cache hit takes no permit.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class LimitsDecorator implements MinioTemplateDecorator, Ordered, AutoCloseable {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 500;
+
+    private final AdmissionControl control;
+
+    public LimitsDecorator(AdmissionControl control) {
+        this.control = control;
+    }
+
+    @Override
+    public SyncMinioTemplate decorate(SyncMinioTemplate template) {
+        return new LimitedSyncMinioTemplate(template, this.control);
+    }
+
+    @Override
+    public AsyncMinioTemplate decorate(AsyncMinioTemplate template) {
+        return new LimitedAsyncMinioTemplate(template, this.control);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    // ----------------------------------------------------------------
+
+    public AdmissionControl control() {
+        return this.control;
+    }
+
+    @Override
+    public void close() {
+        this.control.close();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.listing;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * {@code ListOptions}
+ * <p>
+ * Without a {@code delimiter} the listing is recursive.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+@Getter
+@Builder
+public class ListOptions {
+
+    /**
+     * The S3 max keys of one {@code ListObjectsV2} page.
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final String prefix;
+    /**
+     * Group keys sharing a prefix up to the delimiter(e.g. {@code /}) into one directory item.
+     */
+    private final String delimiter;
+    private final String startAfter;
+    /**
+     * Keys per page, non-positive means {@link #MAX_PAGE_SIZE}.
+     */
+    private final int pageSize;
+
+    public static ListOptions defaults() {
+        return ListOptions.builder().build();
+    }
+
+    public static ListOptions prefix(String prefix) {
+        return ListOptions.builder().prefix(prefix).build();
+    }
+
+    public int determinePageSize() {
+        return this.pageSize > 0 ? Math.min(this.pageSize, MAX_PAGE_SIZE) : MAX_PAGE_SIZE;
+    }
+}
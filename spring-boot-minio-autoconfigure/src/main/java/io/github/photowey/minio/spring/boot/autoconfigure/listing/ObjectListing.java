@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.listing;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.client.ExtendedMinioAsyncClient;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SilentCall;
+import io.minio.messages.Item;
+import io.minio.messages.ListBucketResultV2;
+import io.minio.messages.Prefix;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * {@code ObjectListing}
+ * <p>
+ * A pull-based, asynchronous cursor over the pages of a {@code ListObjectsV2} listing.
+ * A page is requested only when the caller asks for it, and only one page is fetched at a time,
+ * so the memory of a listing stays bounded by one page whatever the bucket size.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class ObjectListing implements SilentCall {
+
+    private static final String URL_ENCODING_TYPE = "url";
+
+    private final ExtendedMinioAsyncClient minioClient;
+    private final String bucket;
+    private final ListOptions options;
+
+    private final AtomicBoolean fetching = new AtomicBoolean();
+
+    private volatile String continuationToken;
+    private volatile boolean exhausted;
+
+    public ObjectListing(ExtendedMinioAsyncClient minioClient, String bucket, ListOptions options) {
+        this.minioClient = minioClient;
+        this.bucket = bucket;
+        this.options = options;
+    }
+
+    public boolean hasNext() {
+        return !this.exhausted;
+    }
+
+    /**
+     * Fetch the next page.
+     * <p>
+     * The next page may be requested once the returned future has completed.
+     *
+     * @return the items of the next page, directories(common prefixes) come after the objects
+     * @throws IllegalStateException if a page is still being fetched
+     */
+    public CompletableFuture<List<Item>> next() {
+        if (this.exhausted) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        if (!this.fetching.compareAndSet(false, true)) {
+            throw new IllegalStateException("A page of bucket: " + this.bucket + " is still being fetched");
+        }
+
+        CompletableFuture<List<Item>> page;
+        try {
+            page = this.call(() -> this.minioClient.listObjectsV2Async(
+                    this.bucket,
+                    null,
+                    this.options.getDelimiter() != null ? this.options.getDelimiter() : "",
+                    URL_ENCODING_TYPE,
+                    this.continuationToken == null ? this.options.getStartAfter() : null,
+                    this.options.determinePageSize(),
+                    this.options.getPrefix() != null ? this.options.getPrefix() : "",
+                    this.continuationToken,
+                    false,
+                    false,
+                    null,
+                    null))
+                .thenApply(response -> this.advance(response.result()));
+        } catch (RuntimeException e) {
+            this.fetching.set(false);
+            throw e;
+        }
+
+        return page.whenComplete((items, ex) -> this.fetching.set(false));
+    }
+
+    /**
+     * Hand every page to {@code consumer}, requesting the next page only after the future returned by
+     * {@code consumer} has completed.
+     *
+     * @param consumer the page consumer
+     * @return a future completing after the last page was consumed
+     */
+    public CompletableFuture<Void> forEachPage(Function<? super List<Item>, ? extends CompletionStage<?>> consumer) {
+        if (!this.hasNext()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return this.next()
+            .thenCompose(items -> consumer.apply(items).thenApply(x -> null))
+            .thenCompose(x -> this.forEachPage(consumer));
+    }
+
+    // ----------------------------------------------------------------
+
+    private List<Item> advance(ListBucketResultV2 result) {
+        List<Item> items = new ArrayList<>(result.contents().size() + result.commonPrefixes().size());
+        for (Item item : result.contents()) {
+            item.setEncodingType(result.encodingType());
+            items.add(item);
+        }
+        for (Prefix prefix : result.commonPrefixes()) {
+            Item item = prefix.toItem();
+            item.setEncodingType(result.encodingType());
+            items.add(item);
+        }
+
+        this.continuationToken = result.nextContinuationToken();
+        this.exhausted = !result.isTruncated() || this.continuationToken == null;
+
+        return items;
+    }
+}
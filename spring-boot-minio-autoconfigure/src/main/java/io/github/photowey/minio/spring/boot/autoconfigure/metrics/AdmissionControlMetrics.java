@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.metrics;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.limits.AdmissionControl;
+import io.github.photowey.minio.spring.boot.autoconfigure.limits.Limiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@code AdmissionControlMetrics}
+ * <p>
+ * Gauges of the {@link AdmissionControl} limiters: {@code minio.limits.permits}, {@code minio.limits.waiting}
+ * and {@code minio.limits.tokens}(tags: {@code scope}, {@code bucket} for a bucket scope),
+ * and the {@code minio.limits.rejected} counter.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class AdmissionControlMetrics implements MeterBinder {
+
+    private final AdmissionControl control;
+
+    public AdmissionControlMetrics(AdmissionControl control) {
+        this.control = control;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("minio.limits.rejected", this.control, AdmissionControl::rejected)
+            .description("Calls rejected without a permit or token within max-wait")
+            .register(registry);
+
+        if (this.control.global() != null) {
+            bind(registry, this.control.global(), Tags.of("scope", "global"));
+        }
+        this.control.onBucket((bucket, limiter) -> bind(registry, limiter, Tags.of("scope", "bucket", "bucket", bucket)));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void bind(MeterRegistry registry, Limiter limiter, Tags tags) {
+        Gauge.builder("minio.limits.permits", limiter, Limiter::availablePermits)
+            .description("Free in-flight permits")
+            .tags(tags)
+            .register(registry);
+        Gauge.builder("minio.limits.waiting", limiter, Limiter::waiting)
+            .description("Calls waiting for an in-flight permit")
+            .tags(tags)
+            .register(registry);
+        Gauge.builder("minio.limits.tokens", limiter, Limiter::availableTokens)
+            .description("Rate limit tokens available")
+            .tags(tags)
+            .register(registry);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.metrics;
+
+import io.github.photowey.minio.spring.boot.core.buffer.BufferPool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@code BufferPoolMetrics}
+ * <p>
+ * Meters of a {@link BufferPool}: {@code minio.buffers.acquires}(tag: {@code result}), {@code minio.buffers.allocated},
+ * {@code minio.buffers.leaks} and the {@code minio.buffers.pooled}/{@code minio.buffers.in.use} gauges.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class BufferPoolMetrics implements MeterBinder {
+
+    private final BufferPool pool;
+
+    public BufferPoolMetrics(BufferPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("minio.buffers.acquires", this.pool, BufferPool::hits)
+            .description("Buffer acquisitions, by whether a pooled buffer was reused")
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("minio.buffers.acquires", this.pool, BufferPool::misses)
+            .description("Buffer acquisitions, by whether a pooled buffer was reused")
+            .tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder("minio.buffers.allocated", this.pool, BufferPool::allocatedBytes)
+            .description("Direct bytes allocated")
+            .baseUnit("bytes")
+            .register(registry);
+        FunctionCounter.builder("minio.buffers.leaks", this.pool, BufferPool::leaks)
+            .description("Buffers collected without being released, counted with leak detection on")
+            .register(registry);
+
+        Gauge.builder("minio.buffers.pooled", this.pool, BufferPool::pooledBytes)
+            .description("Direct bytes held by the pool")
+            .baseUnit("bytes")
+            .register(registry);
+        Gauge.builder("minio.buffers.in.use", this.pool, BufferPool::inUse)
+            .description("Buffers acquired and not released yet")
+            .register(registry);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.metrics;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.coalesce.Coalescer;
+import io.github.photowey.minio.spring.boot.core.async.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@code CoalescerMetrics}
+ * <p>
+ * The {@code minio.coalesce.shared} counter(tag: {@code operation}) of calls served by another caller's request.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class CoalescerMetrics implements MeterBinder {
+
+    private final Coalescer coalescer;
+
+    public CoalescerMetrics(Coalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.shared(registry, "bucketExists", this.coalescer.buckets());
+        this.shared(registry, "statObject", this.coalescer.stats());
+        this.shared(registry, "getObject", this.coalescer.bodies());
+    }
+
+    // ----------------------------------------------------------------
+
+    private void shared(MeterRegistry registry, String operation, SingleFlight<?, ?> flight) {
+        FunctionCounter.builder("minio.coalesce.shared", flight, SingleFlight::shared)
+            .description("Calls served by another caller's request")
+            .tag("operation", operation)
+            .register(registry);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.metrics;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.DiskCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@code DiskCacheMetrics}
+ * <p>
+ * Meters of the {@link DiskCache}: {@code minio.cache.gets}(tags: {@code cache=disk}, {@code result}),
+ * {@code minio.cache.evictions}, {@code minio.cache.revalidations} and the {@code minio.cache.size} gauge.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class DiskCacheMetrics implements MeterBinder {
+
+    private static final String CACHE_NAME = "disk";
+
+    private final DiskCache cache;
+
+    public DiskCacheMetrics(DiskCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.gets(registry, "hit", (cache) -> cache.stats().hits());
+        this.gets(registry, "miss", (cache) -> cache.stats().misses());
+
+        FunctionCounter.builder("minio.cache.evictions", this.cache, (cache) -> cache.stats().evictions())
+            .description("Entries evicted by size or expiry")
+            .tag("cache", CACHE_NAME)
+            .register(registry);
+        FunctionCounter.builder("minio.cache.revalidations", this.cache, DiskCache::revalidations)
+            .description("Hits revalidated by a conditional GET")
+            .tag("cache", CACHE_NAME)
+            .register(registry);
+        Gauge.builder("minio.cache.size", this.cache, DiskCache::size)
+            .description("Cached object bytes on disk")
+            .baseUnit("bytes")
+            .tag("cache", CACHE_NAME)
+            .register(registry);
+    }
+
+    // ----------------------------------------------------------------
+
+    private void gets(MeterRegistry registry, String result, ToDoubleFunction<DiskCache> count) {
+        FunctionCounter.builder("minio.cache.gets", this.cache, count)
+            .description("Cache lookups, by result")
+            .tag("cache", CACHE_NAME)
+            .tag("result", result)
+            .register(registry);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.metrics;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.hedge.Hedger;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code HedgerMetrics}
+ * <p>
+ * The {@code minio.template.hedges} counter(tag: {@code result}, {@code sent} or {@code won}) and the
+ * {@code minio.template.hedge.delay} gauge of the {@link Hedger}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class HedgerMetrics implements MeterBinder {
+
+    private final Hedger hedger;
+
+    public HedgerMetrics(Hedger hedger) {
+        this.hedger = hedger;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("minio.template.hedges", this.hedger, Hedger::sent)
+            .description("Hedged reads sent")
+            .tag("result", "sent")
+            .register(registry);
+        FunctionCounter.builder("minio.template.hedges", this.hedger, Hedger::won)
+            .description("Hedged reads answering first")
+            .tag("result", "won")
+            .register(registry);
+        TimeGauge.builder(
+                "minio.template.hedge.delay", this.hedger, TimeUnit.NANOSECONDS, (hedger) -> Math.max(0, hedger.delayNanos()))
+            .description("The delay before a read is hedged, 0 until enough reads were timed")
+            .register(registry);
+    }
+}
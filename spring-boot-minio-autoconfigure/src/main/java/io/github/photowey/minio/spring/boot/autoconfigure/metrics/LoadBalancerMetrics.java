@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.metrics;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.balancer.Endpoint;
+import io.github.photowey.minio.spring.boot.autoconfigure.balancer.LoadBalancer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@code LoadBalancerMetrics}
+ * <p>
+ * Gauges of the {@link LoadBalancer} endpoints: {@code minio.endpoint.outstanding} and
+ * {@code minio.endpoint.healthy}(tag: {@code endpoint}).
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class LoadBalancerMetrics implements MeterBinder {
+
+    private final LoadBalancer balancer;
+
+    public LoadBalancerMetrics(LoadBalancer balancer) {
+        this.balancer = balancer;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Endpoint endpoint : this.balancer.endpoints()) {
+            Gauge.builder("minio.endpoint.outstanding", endpoint, Endpoint::outstanding)
+                .description("Calls in flight")
+                .tag("endpoint", endpoint.url())
+                .register(registry);
+            Gauge.builder("minio.endpoint.healthy", endpoint, (it) -> it.isHealthy() ? 1 : 0)
+                .description("1 if the endpoint takes calls, 0 if ejected")
+                .tag("endpoint", endpoint.url())
+                .register(registry);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.metrics;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.MetadataCache;
+import io.github.photowey.minio.spring.boot.core.cache.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@code MetadataCacheMetrics}
+ * <p>
+ * Counters of the {@link MetadataCache}: {@code minio.cache.gets}(tags: {@code cache}, {@code result})
+ * and {@code minio.cache.evictions}(tag: {@code cache}).
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class MetadataCacheMetrics implements MeterBinder {
+
+    private final MetadataCache cache;
+
+    public MetadataCacheMetrics(MetadataCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.bind(registry, "bucket", MetadataCache::bucketStats);
+        this.bind(registry, "object", MetadataCache::objectStats);
+    }
+
+    // ----------------------------------------------------------------
+
+    private void bind(MeterRegistry registry, String name, Function<MetadataCache, CacheStats> stats) {
+        this.counter(registry, "minio.cache.gets", name, "hit", (cache) -> stats.apply(cache).hits());
+        this.counter(registry, "minio.cache.gets", name, "miss", (cache) -> stats.apply(cache).misses());
+
+        FunctionCounter.builder("minio.cache.evictions", this.cache, (cache) -> stats.apply(cache).evictions())
+            .description("Entries evicted by size or expiry")
+            .tag("cache", name)
+            .register(registry);
+    }
+
+    private void counter(
+        MeterRegistry registry, String meter, String name, String result, ToDoubleFunction<MetadataCache> count) {
+        FunctionCounter.builder(meter, this.cache, count)
+            .description("Cache lookups, by result")
+            .tag("cache", name)
+            .tag("result", result)
+            .register(registry);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.metrics;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.http.Responses;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.ForwardingAsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
+import io.github.photowey.minio.spring.boot.core.io.CountingInputStream;
+import io.minio.*;
+import io.minio.messages.Bucket;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * {@code MeteredAsyncMinioTemplate}
+ * <p>
+ * Operations are timed from the call until their future completes.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class MeteredAsyncMinioTemplate extends ForwardingAsyncMinioTemplate {
+
+    private final AsyncMinioTemplate delegate;
+    private final MinioTemplateMetrics metrics;
+
+    public MeteredAsyncMinioTemplate(AsyncMinioTemplate delegate, MinioTemplateMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected AsyncMinioTemplate delegate() {
+        return this.delegate;
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Override
+    public CompletableFuture<Boolean> bucketExists(String bucket) {
+        return this.metrics.recordAsync("bucketExists", bucket, () -> super.bucketExists(bucket));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> createBucket(String bucket) {
+        return this.metrics.recordAsync("createBucket", bucket, () -> super.createBucket(bucket));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> removeBucket(String bucket) {
+        return this.metrics.recordAsync("removeBucket", bucket, () -> super.removeBucket(bucket));
+    }
+
+    @Override
+    public CompletableFuture<List<Bucket>> buckets() {
+        return this.metrics.recordAsync("buckets", null, super::buckets);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<ObjectWriteResponse> putObject(
+        String bucket, String object, String contextType, InputStream in, long size) {
+        // Counted as read, the size of a stream is rarely known up front.
+        CountingInputStream body = new CountingInputStream(in);
+        CompletableFuture<ObjectWriteResponse> future = this.metrics.recordAsync(
+            "putObject", bucket, () -> super.putObject(bucket, object, contextType, body, size));
+        future.thenRun(() -> this.metrics.bytes("putObject", bucket, body.count()));
+
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<ObjectWriteResponse> uploadFile(String bucket, String object, Path file, UploadOptions options) {
+        CompletableFuture<ObjectWriteResponse> future = this.metrics.recordAsync(
+            "uploadFile", bucket, () -> super.uploadFile(bucket, object, file, options));
+        future.thenRun(() -> this.metrics.bytes("uploadFile", bucket, file.toFile().length()));
+
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<ObjectWriteResponse>>> putObjects(List<PutObjectArgs> objects) {
+        String bucket = objects.isEmpty() ? null : objects.get(0).bucket();
+
+        return this.metrics.recordAsync("putObjects", bucket, () -> super.putObjects(objects));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public <T extends InputStream> CompletableFuture<T> downloadObject(String bucket, String object) {
+        CompletableFuture<T> future = this.metrics.recordAsync(
+            "getObject", bucket, () -> super.downloadObject(bucket, object));
+        future.thenAccept(in -> this.metrics.bytes("getObject", bucket, Responses.contentLength(in)));
+
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> downloadObject(DownloadObjectArgs args) {
+        return this.metrics.recordAsync("downloadObject", args.bucket(), () -> super.downloadObject(args));
+    }
+
+    @Override
+    public CompletableFuture<StatObjectResponse> downloadFile(String bucket, String object, Path file, DownloadOptions options) {
+        CompletableFuture<StatObjectResponse> future = this.metrics.recordAsync(
+            "downloadFile", bucket, () -> super.downloadFile(bucket, object, file, options));
+        future.thenAccept(stat -> this.metrics.bytes("downloadFile", bucket, stat.size()));
+
+        return future;
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<StatObjectResponse> statObject(StatObjectArgs args) {
+        return this.metrics.recordAsync("statObject", args.bucket(), () -> super.statObject(args));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<StatObjectResponse>>> statObjects(String bucket, List<String> objects) {
+        return this.metrics.recordAsync("statObjects", bucket, () -> super.statObjects(bucket, objects));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<Boolean> removeObject(String bucket, String object) {
+        return this.metrics.recordAsync("removeObject", bucket, () -> super.removeObject(bucket, object));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<Boolean>>> removeObjects(
+        String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult) {
+        return this.metrics.recordAsync("removeObjects", bucket, () -> super.removeObjects(bucket, objects, onResult));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public String url(GetPresignedObjectUrlArgs args) {
+        return this.metrics.record("url", args.bucket(), () -> super.url(args));
+    }
+}
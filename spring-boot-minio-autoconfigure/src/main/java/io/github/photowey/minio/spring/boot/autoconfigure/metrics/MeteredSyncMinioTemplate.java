@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.metrics;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.http.Responses;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.ForwardingSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
+import io.github.photowey.minio.spring.boot.core.io.CountingInputStream;
+import io.minio.*;
+import io.minio.messages.Bucket;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@code MeteredSyncMinioTemplate}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class MeteredSyncMinioTemplate extends ForwardingSyncMinioTemplate {
+
+    private final SyncMinioTemplate delegate;
+    private final MinioTemplateMetrics metrics;
+
+    public MeteredSyncMinioTemplate(SyncMinioTemplate delegate, MinioTemplateMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected SyncMinioTemplate delegate() {
+        return this.delegate;
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Override
+    public boolean bucketExists(String bucket) {
+        return this.metrics.record("bucketExists", bucket, () -> super.bucketExists(bucket));
+    }
+
+    @Override
+    public boolean createBucket(String bucket) {
+        return this.metrics.record("createBucket", bucket, () -> super.createBucket(bucket));
+    }
+
+    @Override
+    public boolean removeBucket(String bucket) {
+        return this.metrics.record("removeBucket", bucket, () -> super.removeBucket(bucket));
+    }
+
+    @Override
+    public List<Bucket> buckets() {
+        return this.metrics.record("buckets", null, super::buckets);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public ObjectWriteResponse putObject(String bucket, String object, String contextType, InputStream in, long size) {
+        // Counted as read, the size of a stream is rarely known up front.
+        CountingInputStream body = new CountingInputStream(in);
+        ObjectWriteResponse response = this.metrics.record(
+            "putObject", bucket, () -> super.putObject(bucket, object, contextType, body, size));
+        this.metrics.bytes("putObject", bucket, body.count());
+
+        return response;
+    }
+
+    @Override
+    public ObjectWriteResponse uploadFile(String bucket, String object, Path file, UploadOptions options) {
+        ObjectWriteResponse response = this.metrics.record(
+            "uploadFile", bucket, () -> super.uploadFile(bucket, object, file, options));
+        this.metrics.bytes("uploadFile", bucket, file.toFile().length());
+
+        return response;
+    }
+
+    @Override
+    public List<BatchResult<ObjectWriteResponse>> putObjects(List<PutObjectArgs> objects) {
+        String bucket = objects.isEmpty() ? null : objects.get(0).bucket();
+
+        return this.metrics.record("putObjects", bucket, () -> super.putObjects(objects));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public InputStream downloadObject(String bucket, String object) {
+        InputStream in = this.metrics.record("getObject", bucket, () -> super.downloadObject(bucket, object));
+        this.metrics.bytes("getObject", bucket, Responses.contentLength(in));
+
+        return in;
+    }
+
+    @Override
+    public GetObjectResponse downloadObject(GetObjectArgs args) {
+        GetObjectResponse response = this.metrics.record("getObject", args.bucket(), () -> super.downloadObject(args));
+        this.metrics.bytes("getObject", args.bucket(), Responses.contentLength(response));
+
+        return response;
+    }
+
+    @Override
+    public boolean downloadObject(DownloadObjectArgs args) {
+        return this.metrics.record("downloadObject", args.bucket(), () -> super.downloadObject(args));
+    }
+
+    @Override
+    public StatObjectResponse downloadFile(String bucket, String object, Path file, DownloadOptions options) {
+        StatObjectResponse stat = this.metrics.record(
+            "downloadFile", bucket, () -> super.downloadFile(bucket, object, file, options));
+        this.metrics.bytes("downloadFile", bucket, stat.size());
+
+        return stat;
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public StatObjectResponse statObject(StatObjectArgs args) {
+        return this.metrics.record("statObject", args.bucket(), () -> super.statObject(args));
+    }
+
+    @Override
+    public List<BatchResult<StatObjectResponse>> statObjects(String bucket, List<String> objects) {
+        return this.metrics.record("statObjects", bucket, () -> super.statObjects(bucket, objects));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public boolean removeObject(String bucket, String object) {
+        return this.metrics.record("removeObject", bucket, () -> super.removeObject(bucket, object));
+    }
+
+    @Override
+    public List<BatchResult<Boolean>> removeObjects(
+        String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult) {
+        return this.metrics.record("removeObjects", bucket, () -> super.removeObjects(bucket, objects, onResult));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public String url(GetPresignedObjectUrlArgs args) {
+        return this.metrics.record("url", args.bucket(), () -> super.url(args));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.metrics;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.MinioTemplateDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+
+/**
+ * {@code MinioMetricsDecorator}
+ * <p>
+ * Wraps the templates with {@link MeteredSyncMinioTemplate}/{@link MeteredAsyncMinioTemplate},
+ * outermost, so the timers see what the caller sees. Without a {@link MeterRegistry} the templates stay unwrapped.
+ * The tenant templates are wrapped too, their meters tagged by tenant.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class MinioMetricsDecorator implements MinioTemplateDecorator, Ordered {
+
+    private final ObjectProvider<MeterRegistry> registry;
+    private final MinIOProperties properties;
+    private final String tenant;
+
+    private volatile MinioTemplateMetrics metrics;
+
+    public MinioMetricsDecorator(ObjectProvider<MeterRegistry> registry, MinIOProperties properties) {
+        this(registry, properties, null);
+    }
+
+    private MinioMetricsDecorator(ObjectProvider<MeterRegistry> registry, MinIOProperties properties, String tenant) {
+        this.registry = registry;
+        this.properties = properties;
+        this.tenant = tenant;
+    }
+
+    @Override
+    public SyncMinioTemplate decorate(SyncMinioTemplate template) {
+        MinioTemplateMetrics metrics = this.metrics();
+
+        return metrics != null ? new MeteredSyncMinioTemplate(template, metrics) : template;
+    }
+
+    @Override
+    public AsyncMinioTemplate decorate(AsyncMinioTemplate template) {
+        MinioTemplateMetrics metrics = this.metrics();
+
+        return metrics != null ? new MeteredAsyncMinioTemplate(template, metrics) : template;
+    }
+
+    @Override
+    public MinioTemplateDecorator forTenant(String tenant) {
+        return new MinioMetricsDecorator(this.registry, this.properties, tenant);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    // ----------------------------------------------------------------
+
+    private MinioTemplateMetrics metrics() {
+        if (this.metrics == null) {
+            MeterRegistry registry = this.registry.getIfAvailable();
+            if (registry == null) {
+                return null;
+            }
+
+            synchronized (this) {
+                if (this.metrics == null) {
+                    this.metrics = new MinioTemplateMetrics(registry, this.properties.getMetrics().isHistogram(), this.tenant);
+                }
+            }
+        }
+
+        return this.metrics;
+    }
+}
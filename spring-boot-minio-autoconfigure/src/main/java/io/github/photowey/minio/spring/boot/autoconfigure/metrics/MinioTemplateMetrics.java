@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.metrics;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@code MinioTemplateMetrics}
+ * <p>
+ * Records the {@code minio.template.requests} timer(tags: {@code tenant}, {@code operation}, {@code bucket},
+ * {@code outcome}) and the {@code minio.template.bytes} summary(tags: {@code tenant}, {@code operation},
+ * {@code bucket}). The default templates are tagged {@code tenant=none}.
+ * Meters are cached per operation and bucket, so a recording looks them up without building tags.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class MinioTemplateMetrics {
+
+    public static final String REQUESTS_METER_NAME = "minio.template.requests";
+    public static final String BYTES_METER_NAME = "minio.template.bytes";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+    private final Clock clock;
+    private final boolean histogram;
+    private final String tenant;
+
+    private final ConcurrentMap<String, ConcurrentMap<String, Meters>> meters = new ConcurrentHashMap<>();
+
+    public MinioTemplateMetrics(MeterRegistry registry, boolean histogram) {
+        this(registry, histogram, null);
+    }
+
+    /**
+     * @param registry  the {@link MeterRegistry}
+     * @param histogram publish percentile histograms
+     * @param tenant    the tenant of the templates, {@code null} for the default ones
+     */
+    public MinioTemplateMetrics(MeterRegistry registry, boolean histogram, String tenant) {
+        this.registry = registry;
+        this.clock = registry.config().clock();
+        this.histogram = histogram;
+        this.tenant = tenant != null ? tenant : NONE;
+    }
+
+    public <T> T record(String operation, String bucket, Supplier<T> task) {
+        long start = this.clock.monotonicTime();
+        try {
+            T value = task.get();
+            this.meters(operation, bucket).success().record(this.clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+
+            return value;
+        } catch (RuntimeException e) {
+            this.meters(operation, bucket).error().record(this.clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    public <T> CompletableFuture<T> recordAsync(String operation, String bucket, Supplier<CompletableFuture<T>> task) {
+        long start = this.clock.monotonicTime();
+        CompletableFuture<T> future;
+        try {
+            future = task.get();
+        } catch (RuntimeException e) {
+            this.meters(operation, bucket).error().record(this.clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+
+        future.whenComplete((value, ex) -> {
+            Meters meters = this.meters(operation, bucket);
+            Timer timer = ex == null ? meters.success() : meters.error();
+            timer.record(this.clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+        });
+
+        return future;
+    }
+
+    public void bytes(String operation, String bucket, long bytes) {
+        if (bytes >= 0) {
+            this.meters(operation, bucket).bytes().record(bytes);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private Meters meters(String operation, String bucket) {
+        String bucketTag = bucket != null ? bucket : NONE;
+        ConcurrentMap<String, Meters> buckets = this.meters.get(operation);
+        if (buckets == null) {
+            buckets = this.meters.computeIfAbsent(operation, (key) -> new ConcurrentHashMap<>());
+        }
+
+        Meters meters = buckets.get(bucketTag);
+        if (meters == null) {
+            meters = buckets.computeIfAbsent(bucketTag, (key) -> new Meters(operation, key));
+        }
+
+        return meters;
+    }
+
+    /**
+     * The meters of one operation and bucket, registered on first use.
+     */
+    private final class Meters {
+
+        private final String operation;
+        private final String bucket;
+
+        private volatile Timer success;
+        private volatile Timer error;
+        private volatile DistributionSummary bytes;
+
+        private Meters(String operation, String bucket) {
+            this.operation = operation;
+            this.bucket = bucket;
+        }
+
+        private Timer success() {
+            Timer timer = this.success;
+            if (timer == null) {
+                this.success = timer = this.timer("success");
+            }
+
+            return timer;
+        }
+
+        private Timer error() {
+            Timer timer = this.error;
+            if (timer == null) {
+                this.error = timer = this.timer("error");
+            }
+
+            return timer;
+        }
+
+        private DistributionSummary bytes() {
+            DistributionSummary summary = this.bytes;
+            if (summary == null) {
+                // Registration is idempotent, a racing thread gets the same meter back.
+                this.bytes = summary = DistributionSummary.builder(BYTES_METER_NAME)
+                    .baseUnit("bytes")
+                    .tag("tenant", MinioTemplateMetrics.this.tenant)
+                    .tag("operation", this.operation)
+                    .tag("bucket", this.bucket)
+                    .register(MinioTemplateMetrics.this.registry);
+            }
+
+            return summary;
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder(REQUESTS_METER_NAME)
+                .tag("tenant", MinioTemplateMetrics.this.tenant)
+                .tag("operation", this.operation)
+                .tag("bucket", this.bucket)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(MinioTemplateMetrics.this.histogram)
+                .register(MinioTemplateMetrics.this.registry);
+        }
+    }
+}
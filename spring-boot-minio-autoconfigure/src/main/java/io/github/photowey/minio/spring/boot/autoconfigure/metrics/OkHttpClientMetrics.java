@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * {@code OkHttpClientMetrics}
+ * <p>
+ * Gauges of the shared {@link OkHttpClient}: connection pool use and dispatcher queue depth.
+ * The gauges are sampled on scrape, the request path isn't touched.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class OkHttpClientMetrics implements MeterBinder {
+
+    private final OkHttpClient httpClient;
+
+    public OkHttpClientMetrics(OkHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ConnectionPool pool = this.httpClient.connectionPool();
+        Dispatcher dispatcher = this.httpClient.dispatcher();
+
+        Gauge.builder("minio.http.connections", pool, ConnectionPool::connectionCount)
+            .description("Connections of the pool, by state")
+            .tag("state", "total")
+            .register(registry);
+        Gauge.builder("minio.http.connections", pool, ConnectionPool::idleConnectionCount)
+            .description("Connections of the pool, by state")
+            .tag("state", "idle")
+            .register(registry);
+
+        Gauge.builder("minio.http.dispatcher.queued", dispatcher, Dispatcher::queuedCallsCount)
+            .description("Asynchronous calls waiting for a dispatcher slot")
+            .register(registry);
+        Gauge.builder("minio.http.dispatcher.running", dispatcher, Dispatcher::runningCallsCount)
+            .description("Calls in flight")
+            .register(registry);
+        Gauge.builder("minio.http.dispatcher.max.requests", dispatcher, Dispatcher::getMaxRequests)
+            .description("Max asynchronous calls in flight")
+            .register(registry);
+    }
+}
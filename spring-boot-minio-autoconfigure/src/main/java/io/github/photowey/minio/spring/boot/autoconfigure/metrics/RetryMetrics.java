@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.metrics;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.retry.Retrier;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code RetryMetrics}
+ * <p>
+ * The {@code minio.template.retries} counter(tag: {@code operation}) of the {@link Retrier},
+ * registered once an operation is first retried.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class RetryMetrics implements MeterBinder {
+
+    public static final String RETRIES_METER_NAME = "minio.template.retries";
+
+    private final Retrier retrier;
+
+    public RetryMetrics(Retrier retrier) {
+        this.retrier = retrier;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.retrier.onOperation((operation, retries) ->
+            FunctionCounter.builder(RETRIES_METER_NAME, retries, LongAdder::sum)
+                .description("Attempts made after a transient failure")
+                .tag("operation", operation)
+                .register(registry));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.presign;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.core.cache.CacheStats;
+import io.github.photowey.minio.spring.boot.core.cache.ExpiringLruCache;
+import io.minio.GetPresignedObjectUrlArgs;
+import okhttp3.HttpUrl;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * {@code PresignedUrls}
+ * <p>
+ * Issues presigned URLs for the templates, configured by {@code spring.minio.presign.*}.
+ * URLs are signed by a {@link SigV4Presigner} once the region of the bucket is known, i.e. configured by
+ * {@code spring.minio.region} or learned from a first URL signed by the SDK. Otherwise, and for AWS endpoints,
+ * the SDK signs them.
+ * <p>
+ * With the URL cache enabled, an issued URL is handed out again until {@code reuse-fraction} of its expiry has passed.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class PresignedUrls {
+
+    private static final String CREDENTIAL_PARAMETER = "X-Amz-Credential";
+
+    private final Function<GetPresignedObjectUrlArgs, String> sdk;
+    private final SigV4Presigner presigner;
+    private final String region;
+    private final ConcurrentMap<String, String> regions = new ConcurrentHashMap<>();
+
+    private final ExpiringLruCache<String, String> urls;
+    private final double reuseFraction;
+
+    /**
+     * @param properties {@link MinIOProperties}
+     * @param sdk        signs a URL with the {@code MinIO} SDK
+     */
+    public PresignedUrls(MinIOProperties properties, Function<GetPresignedObjectUrlArgs, String> sdk) {
+        MinIOProperties.Presign presign = properties.getPresign();
+
+        this.sdk = sdk;
+        this.presigner = localSignable(properties)
+            ? new SigV4Presigner(properties.getEndpoint(), properties.getAccessKey(), properties.getSecretKey())
+            : null;
+        this.region = StringUtils.hasText(properties.getRegion()) ? properties.getRegion() : null;
+        this.urls = presign.getUrlCache().isEnabled()
+            ? new ExpiringLruCache<>(presign.getUrlCache().getMaxEntries())
+            : null;
+        this.reuseFraction = presign.getUrlCache().getReuseFraction();
+    }
+
+    public String url(GetPresignedObjectUrlArgs args) {
+        if (this.urls == null) {
+            return this.sign(args);
+        }
+
+        String key = key(args);
+        String url = this.urls.get(key);
+        if (url != null) {
+            return url;
+        }
+
+        url = this.sign(args);
+        long ttlNanos = (long) (TimeUnit.SECONDS.toNanos(args.expiry()) * this.reuseFraction);
+        if (ttlNanos > 0) {
+            this.urls.put(key, url, ttlNanos, TimeUnit.NANOSECONDS);
+        }
+
+        return url;
+    }
+
+    /**
+     * @return the URL cache statistics, or {@code null} if the cache is disabled
+     */
+    public CacheStats stats() {
+        return this.urls != null ? this.urls.stats() : null;
+    }
+
+    // ----------------------------------------------------------------
+
+    private String sign(GetPresignedObjectUrlArgs args) {
+        if (this.presigner == null) {
+            return this.sdk.apply(args);
+        }
+
+        String region = this.determineRegion(args);
+        if (region != null) {
+            return this.presigner.presign(args, region);
+        }
+
+        String url = this.sdk.apply(args);
+        this.learnRegion(args.bucket(), url);
+
+        return url;
+    }
+
+    private String determineRegion(GetPresignedObjectUrlArgs args) {
+        if (args.region() != null) {
+            return args.region();
+        }
+        if (this.region != null) {
+            return this.region;
+        }
+
+        return this.regions.get(args.bucket());
+    }
+
+    /**
+     * The SDK resolved the bucket region, the credential scope carries it: {@code <access-key>/<date>/<region>/s3/aws4_request}.
+     */
+    private void learnRegion(String bucket, String url) {
+        HttpUrl httpUrl = HttpUrl.parse(url);
+        String credential = httpUrl != null ? httpUrl.queryParameter(CREDENTIAL_PARAMETER) : null;
+        if (credential == null) {
+            return;
+        }
+
+        String[] scope = credential.split("/");
+        if (scope.length >= 5) {
+            this.regions.putIfAbsent(bucket, scope[scope.length - 3]);
+        }
+    }
+
+    private static boolean localSignable(MinIOProperties properties) {
+        return properties.getPresign().isLocalSigner()
+            && StringUtils.hasText(properties.getEndpoint())
+            && StringUtils.hasText(properties.getAccessKey())
+            && StringUtils.hasText(properties.getSecretKey())
+            && SigV4Presigner.supports(properties.getEndpoint());
+    }
+
+    private static String key(GetPresignedObjectUrlArgs args) {
+        return args.method() + " " + args.bucket() + "/" + args.object()
+            + "?versionId=" + args.versionId()
+            + "&region=" + args.region()
+            + "&expiry=" + args.expiry()
+            + "&" + args.extraQueryParams();
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.presign;
+
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.S3Escaper;
+import io.minio.http.HttpUtils;
+import okhttp3.HttpUrl;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@code SigV4Presigner}
+ * <p>
+ * Presigns path-style URLs locally, producing the same URL as {@code MinioClient#getPresignedObjectUrl}
+ * (AWS Signature Version 4, query parameters, {@code UNSIGNED-PAYLOAD}).
+ * The signing key only changes with the date, so it is derived once a day instead of on every URL.
+ * <p>
+ * AWS endpoints use virtual-host style URLs and stay on the SDK, see {@link #supports(String)}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class SigV4Presigner {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String SERVICE = "s3";
+    private static final String TERMINATOR = "aws4_request";
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+    private static final String SIGNED_HEADERS = "host";
+
+    private static final DateTimeFormatter AMZ_DATE_FORMAT =
+        DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'", Locale.US).withZone(ZoneOffset.UTC);
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<Mac> HMAC = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance("HmacSHA256");
+        } catch (GeneralSecurityException e) {
+            throw new MinioException(e);
+        }
+    });
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            throw new MinioException(e);
+        }
+    });
+
+    private final HttpUrl baseUrl;
+    private final String host;
+    private final String accessKey;
+    private final String secretKey;
+
+    /**
+     * Signing keys by {@code date/region}, the service is always {@code s3}.
+     */
+    private final ConcurrentMap<String, byte[]> signingKeys = new ConcurrentHashMap<>();
+
+    public SigV4Presigner(String endpoint, String accessKey, String secretKey) {
+        this.baseUrl = HttpUtils.getBaseUrl(endpoint);
+        this.host = HttpUtils.getHostHeader(this.baseUrl);
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+    }
+
+    /**
+     * AWS endpoints get virtual-host style URLs from the SDK, which this signer doesn't build.
+     *
+     * @param endpoint the endpoint
+     * @return {@code true} if the endpoint uses path-style URLs
+     */
+    public static boolean supports(String endpoint) {
+        String host = HttpUtils.getBaseUrl(endpoint).host();
+
+        return !host.endsWith(".amazonaws.com") && !host.endsWith(".amazonaws.com.cn");
+    }
+
+    public String presign(GetPresignedObjectUrlArgs args, String region) {
+        return this.presign(args, region, ZonedDateTime.now(ZoneOffset.UTC));
+    }
+
+    public String presign(GetPresignedObjectUrlArgs args, String region, ZonedDateTime now) {
+        String amzDate = AMZ_DATE_FORMAT.format(now);
+        String date = amzDate.substring(0, 8);
+        String scope = date + "/" + region + "/" + SERVICE + "/" + TERMINATOR;
+
+        HttpUrl.Builder builder = this.baseUrl.newBuilder()
+            .addEncodedPathSegment(S3Escaper.encode(args.bucket()))
+            .addEncodedPathSegments(S3Escaper.encodePath(args.object()));
+        for (Map.Entry<String, String> param : args.extraQueryParams().entries()) {
+            builder.addEncodedQueryParameter(S3Escaper.encode(param.getKey()), S3Escaper.encode(param.getValue()));
+        }
+        if (args.versionId() != null) {
+            builder.addEncodedQueryParameter("versionId", S3Escaper.encode(args.versionId()));
+        }
+
+        HttpUrl url = builder
+            .addEncodedQueryParameter("X-Amz-Algorithm", ALGORITHM)
+            .addEncodedQueryParameter("X-Amz-Credential", S3Escaper.encode(this.accessKey + "/" + scope))
+            .addEncodedQueryParameter("X-Amz-Date", amzDate)
+            .addEncodedQueryParameter("X-Amz-Expires", Integer.toString(args.expiry()))
+            .addEncodedQueryParameter("X-Amz-SignedHeaders", SIGNED_HEADERS)
+            .build();
+
+        String canonicalRequest = args.method().toString() + "\n"
+            + url.encodedPath() + "\n"
+            + canonicalQueryString(url.encodedQuery()) + "\n"
+            + "host:" + this.host + "\n\n"
+            + SIGNED_HEADERS + "\n"
+            + UNSIGNED_PAYLOAD;
+        String stringToSign = ALGORITHM + "\n"
+            + amzDate + "\n"
+            + scope + "\n"
+            + hex(SHA256.get().digest(canonicalRequest.getBytes(StandardCharsets.UTF_8)));
+
+        String signature = hex(hmac(this.signingKey(date, region), stringToSign));
+
+        return url.newBuilder()
+            .addEncodedQueryParameter("X-Amz-Signature", signature)
+            .build()
+            .toString();
+    }
+
+    // ----------------------------------------------------------------
+
+    private byte[] signingKey(String date, String region) {
+        String scope = date + "/" + region;
+        byte[] signingKey = this.signingKeys.get(scope);
+        if (signingKey != null) {
+            return signingKey;
+        }
+
+        // A new day, the keys of the previous ones are never used again.
+        this.signingKeys.keySet().removeIf((key) -> !key.startsWith(date));
+
+        byte[] dateKey = hmac(("AWS4" + this.secretKey).getBytes(StandardCharsets.UTF_8), date);
+        byte[] regionKey = hmac(dateKey, region);
+        byte[] serviceKey = hmac(regionKey, SERVICE);
+        signingKey = hmac(serviceKey, TERMINATOR);
+        this.signingKeys.put(scope, signingKey);
+
+        return signingKey;
+    }
+
+    /**
+     * Parameters sorted by name, values of a repeated name kept in order, as the SDK signs them.
+     */
+    private static String canonicalQueryString(String encodedQuery) {
+        Map<String, List<String>> params = new TreeMap<>();
+        for (String param : encodedQuery.split("&")) {
+            String[] pair = param.split("=");
+            params.computeIfAbsent(pair[0], (key) -> new ArrayList<>(1)).add(pair.length > 1 ? pair[1] : "");
+        }
+
+        StringBuilder query = new StringBuilder(encodedQuery.length());
+        for (Map.Entry<String, List<String>> param : params.entrySet()) {
+            for (String value : param.getValue()) {
+                if (query.length() > 0) {
+                    query.append('&');
+                }
+                query.append(param.getKey()).append('=').append(value);
+            }
+        }
+
+        return query.toString();
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        Mac mac = HMAC.get();
+        try {
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        } catch (GeneralSecurityException e) {
+            throw new MinioException(e);
+        }
+
+        return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String hex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0x0F];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0x0F];
+        }
+
+        return new String(chars);
+    }
+}
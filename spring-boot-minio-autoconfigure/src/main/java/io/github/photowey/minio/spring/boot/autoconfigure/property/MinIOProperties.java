@@ -15,10 +15,25 @@
  */
 package io.github.photowey.minio.spring.boot.autoconfigure.property;
 
+import io.github.photowey.minio.spring.boot.autoconfigure.checksum.ChecksumAlgorithm;
+import io.github.photowey.minio.spring.boot.core.async.VirtualThreads;
 import io.github.photowey.minio.spring.boot.core.exception.MinioException;
 import lombok.Data;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
 
 /**
  * {@code MinIOProperties}
@@ -34,24 +49,385 @@ public class MinIOProperties implements InitializingBean {
 
     private String region;
     private String endpoint;
+    /**
+     * The nodes to balance the template calls over, {@code endpoint} defaults to the first one.
+     */
+    private List<String> endpoints = new ArrayList<>();
     private String accessKey;
     private String secretKey;
 
     private Sync sync = new Sync();
     private Async async = new Async();
+    private Reactive reactive = new Reactive();
+    private Http http = new Http();
+    private Upload upload = new Upload();
+    private Download download = new Download();
+    private Buffers buffers = new Buffers();
+    private Compression compression = new Compression();
+    private Checksum checksum = new Checksum();
+    private Batch batch = new Batch();
+    private Metrics metrics = new Metrics();
+    private Cache cache = new Cache();
+    private Presign presign = new Presign();
+    private Limits limits = new Limits();
+    private Retry retry = new Retry();
+    private Hedge hedge = new Hedge();
+    private Coalesce coalesce = new Coalesce();
+    private Balancer balancer = new Balancer();
+    /**
+     * Named clusters, each with its own clients, connection pool and decorators, see {@code MinioTemplateRegistry}.
+     * A tenant is configured from scratch, it inherits nothing from {@code spring.minio.*}.
+     */
+    private Map<String, MinIOProperties> tenants = new LinkedHashMap<>();
 
     @Data
     public static class Sync {
         private boolean enabled = true;
+        /**
+         * Run the {@code OkHttp} dispatcher on a virtual-thread-per-task executor({@code minio-spring-boot3-starter},
+         * Java 21+). {@code MinioClient} calls go through the dispatcher, so the blocking template calls and the
+         * parallel transfers and batches all run on virtual threads, the caller only parks on a future.
+         * <p>
+         * It replaces the dispatcher of the shared {@code OkHttpClient}, so the async template runs on it too.
+         * {@code OkHttp} 4.12 still does its socket I/O inside {@code synchronized} sections, which pins the carrier
+         * thread before Java 24. {@code minio-spring-boot-starter} rejects the property.
+         */
+        private boolean virtualThreads = false;
     }
 
     @Data
     public static class Async {
         private boolean enabled = false;
+        private Executor executor = new Executor();
+
+        /**
+         * Completes the {@code AsyncMinioTemplate} futures off the {@code OkHttp} dispatcher threads, so the
+         * continuations chained on them can't starve the dispatcher. A {@code minioCompletionExecutor} bean
+         * takes precedence.
+         */
+        @Data
+        public static class Executor {
+            private boolean enabled = false;
+            private int coreSize = Runtime.getRuntime().availableProcessors();
+            private int queueCapacity = 10_000;
+            /**
+             * How long an idle thread is kept.
+             */
+            private Duration keepAlive = Duration.ofSeconds(60);
+            /**
+             * What to do once the queue is full: {@code CALLER_RUNS} completes on the {@code OkHttp} thread,
+             * {@code ABORT} fails the future with a {@code RejectedExecutionException}.
+             */
+            private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+        }
+
+        public enum RejectionPolicy {
+            CALLER_RUNS,
+            ABORT
+        }
+    }
+
+    /**
+     * The {@code ReactiveMinioTemplate}, active when Reactor is on the classpath.
+     * Downloads are read in chunks of {@code chunkSize}, uploads are buffered one {@code upload.partSize} part at a time.
+     */
+    @Data
+    public static class Reactive {
+        private boolean enabled = true;
+        private DataSize chunkSize = DataSize.ofKilobytes(64);
+    }
+
+    /**
+     * The shared {@code OkHttpClient} used by both {@code MinioClient} and {@code MinioAsyncClient}.
+     * <p>
+     * Timeouts default to the {@code MinIO} SDK defaults, the dispatcher is sized for object storage traffic.
+     */
+    @Data
+    public static class Http {
+        private int maxIdleConnections = 32;
+        private Duration keepAlive = Duration.ofMinutes(5);
+        private int maxRequests = 128;
+        private int maxRequestsPerHost = 64;
+        private Duration connectTimeout = Duration.ofMinutes(5);
+        private Duration readTimeout = Duration.ofMinutes(5);
+        private Duration writeTimeout = Duration.ofMinutes(5);
+        /**
+         * Negotiate {@code HTTP/2} (via {@code ALPN}, TLS endpoints only), falls back to {@code HTTP/1.1}.
+         */
+        private boolean http2 = false;
+        private boolean retryOnConnectionFailure = true;
+    }
+
+    /**
+     * Streaming uploads of unknown length are split into parts of {@code partSize},
+     * so at most one part is buffered per upload. File uploads send {@code parallelism} parts at once.
+     */
+    @Data
+    public static class Upload {
+        public static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+        public static final long MAX_PART_SIZE = 5L * 1024 * 1024 * 1024;
+
+        private DataSize partSize = DataSize.ofMegabytes(16);
+        /**
+         * Max parts in flight of a parallel file upload.
+         */
+        private int parallelism = 4;
+    }
+
+    /**
+     * File downloads fetch byte ranges of {@code partSize}, {@code parallelism} ranges at once.
+     */
+    @Data
+    public static class Download {
+        private DataSize partSize = DataSize.ofMegabytes(16);
+        /**
+         * Max ranges in flight of a parallel file download.
+         */
+        private int parallelism = 4;
+    }
+
+    /**
+     * The pooled direct buffers the templates copy bodies through, see {@code BufferPool#shared()}.
+     */
+    @Data
+    public static class Buffers {
+        /**
+         * Record the acquisition stack trace of every buffer to report the ones never released, a debugging aid.
+         */
+        private boolean leakDetection = false;
+    }
+
+    /**
+     * Gzip compression of the uploads streamed by {@code putObject}, decompressed again by {@code downloadObject},
+     * {@code downloadFile} and {@code transferTo}. Compressed objects can't be read by byte range.
+     */
+    @Data
+    public static class Compression {
+        private boolean enabled = false;
+        /**
+         * The content types compressed, wildcards like {@code text/*} and {@code application/*+json} allowed.
+         */
+        private List<String> contentTypes = new ArrayList<>(Arrays.asList(
+            "text/*", "application/json", "application/*+json", "application/x-ndjson",
+            "application/xml", "application/*+xml", "application/javascript"));
+        /**
+         * Bodies known to be smaller are stored as they are, bodies of unknown size are always compressed.
+         */
+        private DataSize minSize = DataSize.ofKilobytes(1);
+        /**
+         * The deflate level, {@code 1}(fastest) to {@code 9}(smallest), {@code -1} for the default.
+         */
+        private int level = Deflater.DEFAULT_COMPRESSION;
+    }
+
+    /**
+     * End-to-end checksums of the bodies of at most one {@code upload.partSize} part uploaded by {@code putObject},
+     * sent in their user metadata. Whole-object downloads verify them once the body is read to its end.
+     */
+    @Data
+    public static class Checksum {
+        private boolean enabled = false;
+        /**
+         * {@code CRC32C} needs Java 9 or later, {@code SHA256} is always available.
+         */
+        private ChecksumAlgorithm algorithm = ChecksumAlgorithm.CRC32C;
+    }
+
+    /**
+     * Batch operations({@code putObjects}, {@code statObjects}, {@code removeObjects}) keep at most
+     * {@code concurrency} requests in flight.
+     */
+    @Data
+    public static class Batch {
+        private int concurrency = 16;
+    }
+
+    /**
+     * Micrometer instrumentation, active when a {@code MeterRegistry} is available.
+     * Disabled, the templates aren't wrapped at all.
+     */
+    @Data
+    public static class Metrics {
+        private boolean enabled = true;
+        /**
+         * Publish percentile histograms of the operation timers.
+         */
+        private boolean histogram = false;
+    }
+
+    @Data
+    public static class Cache {
+        private Metadata metadata = new Metadata();
+        private Disk disk = new Disk();
+
+        /**
+         * Caches {@code bucketExists}/{@code statObject} results, invalidated by the template's own writes and removals.
+         * Changes made by other clients are seen once the entries expire.
+         */
+        @Data
+        public static class Metadata {
+            private boolean enabled = false;
+            private int maxEntries = 10_000;
+            private Duration ttl = Duration.ofSeconds(30);
+            /**
+             * How long a missing bucket or object is remembered, {@code 0} disables negative caching.
+             */
+            private Duration negativeTtl = Duration.ofSeconds(5);
+        }
+
+        /**
+         * Keeps the objects read by {@code SyncMinioTemplate#downloadObject(bucket, object)} on local disk, least
+         * recently used evicted beyond {@code maxSize}. A cached object is revalidated with a conditional {@code GET}
+         * ({@code If-None-Match}) once it was validated more than {@code freshFor} ago, an unchanged one costs a
+         * {@code 304} and no body.
+         */
+        @Data
+        public static class Disk {
+            private boolean enabled = false;
+            /**
+             * Owned by one cache, tenants included: its {@code *.obj} files are deleted on start.
+             * A temporary directory if blank.
+             */
+            private String directory;
+            private DataSize maxSize = DataSize.ofGigabytes(1);
+            /**
+             * Larger objects, or objects of unknown size, are streamed without being cached.
+             */
+            private DataSize maxObjectSize = DataSize.ofMegabytes(64);
+            /**
+             * How long a validated object is served without asking the server, {@code 0} revalidates every read.
+             */
+            private Duration freshFor = Duration.ZERO;
+        }
+    }
+
+    /**
+     * Presigned URLs are signed locally with a cached signing key, AWS endpoints are left to the SDK.
+     */
+    @Data
+    public static class Presign {
+        private boolean localSigner = true;
+        private UrlCache urlCache = new UrlCache();
+
+        /**
+         * Hands out an issued URL again until {@code reuseFraction} of its expiry has passed,
+         * so it stays valid for at least the rest.
+         */
+        @Data
+        public static class UrlCache {
+            private boolean enabled = false;
+            private int maxEntries = 10_000;
+            private double reuseFraction = 0.5D;
+        }
+    }
+
+    /**
+     * Admission control of the template calls: a request rate and an in-flight cap, over all calls({@code global})
+     * and per bucket({@code bucket}). A call over the limits waits, without a thread for the async template,
+     * for at most {@code maxWait}, then fails.
+     */
+    @Data
+    public static class Limits {
+        private boolean enabled = false;
+        private Duration maxWait = Duration.ofSeconds(5);
+        private Limit global = new Limit();
+        private Limit bucket = new Limit();
+
+        /**
+         * {@code 0} leaves a limit off.
+         */
+        @Data
+        public static class Limit {
+            /**
+             * Calls per second.
+             */
+            private double rate = 0;
+            /**
+             * Calls allowed at once after an idle period, {@code 0} means {@code rate}.
+             */
+            private int burst = 0;
+            private int maxInFlight = 0;
+        }
+    }
+
+    /**
+     * Retries of transient failures(I/O errors, {@code 500}/{@code 502}/{@code 503}/{@code 504}, {@code SlowDown},
+     * {@code RequestTimeout}, ...), after a random backoff of up to {@code base-backoff * 2^(attempt - 1)},
+     * capped at {@code max-backoff}.
+     */
+    @Data
+    public static class Retry {
+        private boolean enabled = false;
+        /**
+         * Attempts per call, the first one included.
+         */
+        private int maxAttempts = 3;
+        private Duration baseBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(5);
+        /**
+         * Uploads from a stream are retried only if it supports {@code mark}/{@code reset} and its size is known
+         * and at most this, a marked {@code BufferedInputStream} keeps the bytes read in memory.
+         * A {@code ByteArrayInputStream} is retried at any size.
+         */
+        private DataSize uploadMarkLimit = DataSize.ofMegabytes(16);
+    }
+
+    /**
+     * Hedged {@code AsyncMinioTemplate#downloadObject(bucket, object)} reads: once a read is slower than the
+     * {@code quantile} of the recent ones, the same {@code GET} is sent again and the first response wins.
+     */
+    @Data
+    public static class Hedge {
+        private boolean enabled = false;
+        /**
+         * Only objects known to be at most this are hedged, sizes are learned from earlier reads.
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(1);
+        /**
+         * The latency quantile a read waits for before it's hedged.
+         */
+        private double quantile = 0.95D;
+        private Duration minDelay = Duration.ofMillis(10);
+        /**
+         * Hedges allowed per read, so an outage slowing every read can't double the load.
+         */
+        private double budget = 0.05D;
+        /**
+         * Objects whose size is remembered, the least recently read ones are forgotten first.
+         */
+        private int maxObjects = 10_000;
+    }
+
+    /**
+     * Concurrent identical reads share one request: {@code bucketExists}, plain {@code statObject} lookups
+     * and {@code downloadObject(bucket, object)}, each caller of a read getting a copy of the body.
+     */
+    @Data
+    public static class Coalesce {
+        private boolean enabled = false;
+        /**
+         * Bodies up to this are buffered and shared, larger ones are read by each caller on its own.
+         */
+        private DataSize maxObjectSize = DataSize.ofMegabytes(1);
+    }
+
+    /**
+     * Balancing over {@code spring.minio.endpoints}: an endpoint is ejected after {@code failureThreshold} consecutive
+     * failed calls or health checks, and re-admitted by its next passing health check.
+     */
+    @Data
+    public static class Balancer {
+        private Duration healthCheckInterval = Duration.ofSeconds(5);
+        private Duration healthCheckTimeout = Duration.ofSeconds(2);
+        private String healthCheckPath = "/minio/health/live";
+        private int failureThreshold = 3;
     }
 
     @Override
     public void afterPropertiesSet() throws Exception {
+        if (!StringUtils.hasText(this.getEndpoint()) && !this.getEndpoints().isEmpty()) {
+            this.setEndpoint(this.getEndpoints().get(0));
+        }
         if (!StringUtils.hasText(this.getEndpoint())) {
             throw new MinioException("spring.minio.endpoint can't be blank");
         }
@@ -61,6 +437,153 @@ public class MinIOProperties implements InitializingBean {
         if (!StringUtils.hasText(this.getSecretKey())) {
             throw new MinioException("spring.minio.secretKey can't be blank");
         }
+        if (this.getSync().isVirtualThreads() && !VirtualThreads.isSupported()) {
+            throw new MinioException("spring.minio.sync.virtual-threads requires Java 21+");
+        }
+        Async.Executor executor = this.getAsync().getExecutor();
+        if (executor.getCoreSize() < 1) {
+            throw new MinioException("spring.minio.async.executor.core-size must be positive");
+        }
+        if (executor.getQueueCapacity() < 0) {
+            throw new MinioException("spring.minio.async.executor.queue-capacity can't be negative");
+        }
+        long chunkSize = this.getReactive().getChunkSize().toBytes();
+        if (chunkSize < 1 || chunkSize > Integer.MAX_VALUE) {
+            throw new MinioException("spring.minio.reactive.chunk-size must be between 1B and 2GB");
+        }
+        long partSize = this.getUpload().getPartSize().toBytes();
+        if (partSize < Upload.MIN_PART_SIZE || partSize > Upload.MAX_PART_SIZE) {
+            throw new MinioException("spring.minio.upload.part-size must be between 5MB and 5GB");
+        }
+        if (this.getUpload().getParallelism() < 1) {
+            throw new MinioException("spring.minio.upload.parallelism must be positive");
+        }
+        if (this.getDownload().getPartSize().toBytes() < 1) {
+            throw new MinioException("spring.minio.download.part-size must be positive");
+        }
+        if (this.getDownload().getParallelism() < 1) {
+            throw new MinioException("spring.minio.download.parallelism must be positive");
+        }
+        if (this.getBatch().getConcurrency() < 1) {
+            throw new MinioException("spring.minio.batch.concurrency must be positive");
+        }
+        Cache.Metadata metadata = this.getCache().getMetadata();
+        if (metadata.getMaxEntries() < 1) {
+            throw new MinioException("spring.minio.cache.metadata.max-entries must be positive");
+        }
+        if (metadata.getTtl().isNegative() || metadata.getTtl().isZero()) {
+            throw new MinioException("spring.minio.cache.metadata.ttl must be positive");
+        }
+        if (metadata.getNegativeTtl().isNegative()) {
+            throw new MinioException("spring.minio.cache.metadata.negative-ttl can't be negative");
+        }
+        Cache.Disk disk = this.getCache().getDisk();
+        if (disk.getMaxObjectSize().toBytes() < 1 || disk.getMaxObjectSize().compareTo(disk.getMaxSize()) > 0) {
+            throw new MinioException("spring.minio.cache.disk.max-object-size must be between 1B and max-size");
+        }
+        if (disk.getFreshFor().isNegative()) {
+            throw new MinioException("spring.minio.cache.disk.fresh-for can't be negative");
+        }
+        Presign.UrlCache urlCache = this.getPresign().getUrlCache();
+        if (urlCache.getMaxEntries() < 1) {
+            throw new MinioException("spring.minio.presign.url-cache.max-entries must be positive");
+        }
+        if (urlCache.getReuseFraction() <= 0 || urlCache.getReuseFraction() > 1) {
+            throw new MinioException("spring.minio.presign.url-cache.reuse-fraction must be in (0, 1]");
+        }
+        Limits limits = this.getLimits();
+        if (limits.getMaxWait().isNegative()) {
+            throw new MinioException("spring.minio.limits.max-wait can't be negative");
+        }
+        checkLimit(limits.getGlobal(), "global");
+        checkLimit(limits.getBucket(), "bucket");
+        Retry retry = this.getRetry();
+        if (retry.getMaxAttempts() < 1) {
+            throw new MinioException("spring.minio.retry.max-attempts must be positive");
+        }
+        if (retry.getBaseBackoff().isNegative()) {
+            throw new MinioException("spring.minio.retry.base-backoff can't be negative");
+        }
+        if (retry.getMaxBackoff().compareTo(retry.getBaseBackoff()) < 0) {
+            throw new MinioException("spring.minio.retry.max-backoff can't be less than base-backoff");
+        }
+        Hedge hedge = this.getHedge();
+        if (hedge.getQuantile() <= 0 || hedge.getQuantile() >= 1) {
+            throw new MinioException("spring.minio.hedge.quantile must be in (0, 1)");
+        }
+        if (hedge.getBudget() <= 0 || hedge.getBudget() > 1) {
+            throw new MinioException("spring.minio.hedge.budget must be in (0, 1]");
+        }
+        if (hedge.getMinDelay().isNegative()) {
+            throw new MinioException("spring.minio.hedge.min-delay can't be negative");
+        }
+        if (hedge.getMaxObjects() < 1) {
+            throw new MinioException("spring.minio.hedge.max-objects must be positive");
+        }
+        if (this.getChecksum().isEnabled() && !this.getChecksum().getAlgorithm().isSupported()) {
+            throw new MinioException("spring.minio.checksum.algorithm: "
+                + this.getChecksum().getAlgorithm() + " isn't supported by this JVM, use SHA256");
+        }
+        Compression compression = this.getCompression();
+        if (compression.getLevel() < Deflater.DEFAULT_COMPRESSION || compression.getLevel() > Deflater.BEST_COMPRESSION) {
+            throw new MinioException("spring.minio.compression.level must be in [-1, 9]");
+        }
+        if (compression.getMinSize().isNegative()) {
+            throw new MinioException("spring.minio.compression.min-size can't be negative");
+        }
+        for (String contentType : compression.getContentTypes()) {
+            try {
+                MimeTypeUtils.parseMimeType(contentType);
+            } catch (InvalidMimeTypeException e) {
+                throw new MinioException("spring.minio.compression.content-types: " + e.getMessage(), e);
+            }
+        }
+        if (this.getCoalesce().getMaxObjectSize().isNegative()) {
+            throw new MinioException("spring.minio.coalesce.max-object-size can't be negative");
+        }
+        Balancer balancer = this.getBalancer();
+        if (balancer.getHealthCheckInterval().isNegative() || balancer.getHealthCheckInterval().isZero()) {
+            throw new MinioException("spring.minio.balancer.health-check-interval must be positive");
+        }
+        if (balancer.getFailureThreshold() < 1) {
+            throw new MinioException("spring.minio.balancer.failure-threshold must be positive");
+        }
+        for (Map.Entry<String, MinIOProperties> tenant : this.getTenants().entrySet()) {
+            checkTenant(tenant.getKey(), tenant.getValue());
+        }
+    }
+
+    private static void checkTenant(String name, MinIOProperties tenant) throws Exception {
+        if (!tenant.getTenants().isEmpty()) {
+            throw new MinioException("spring.minio.tenants." + name + " can't have tenants of its own");
+        }
+        try {
+            tenant.afterPropertiesSet();
+        } catch (MinioException e) {
+            throw new MinioException("spring.minio.tenants." + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void checkLimit(Limits.Limit limit, String scope) {
+        if (limit.getRate() < 0 || limit.getBurst() < 0 || limit.getMaxInFlight() < 0) {
+            throw new MinioException("spring.minio.limits." + scope + ".* can't be negative");
+        }
+    }
+
+    /**
+     * A copy talking to {@code endpoint} alone, sharing the nested settings.
+     *
+     * @param endpoint the endpoint
+     * @return {@link MinIOProperties}
+     */
+    public MinIOProperties forEndpoint(String endpoint) {
+        MinIOProperties copy = new MinIOProperties();
+        BeanUtils.copyProperties(this, copy);
+        copy.setEndpoint(endpoint);
+        copy.setEndpoints(Collections.emptyList());
+        copy.setTenants(Collections.emptyMap());
+
+        return copy;
     }
 
     public static String getPrefix() {
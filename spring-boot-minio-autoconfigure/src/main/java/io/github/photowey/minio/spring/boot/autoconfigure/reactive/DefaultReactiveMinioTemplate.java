@@ -0,0 +1,281 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.reactive;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import io.github.photowey.minio.spring.boot.autoconfigure.client.ExtendedMinioAsyncClient;
+import io.github.photowey.minio.spring.boot.autoconfigure.http.Responses;
+import io.github.photowey.minio.spring.boot.autoconfigure.listing.ListOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.listing.ObjectListing;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.minio.*;
+import io.minio.messages.Bucket;
+import io.minio.messages.Item;
+import io.minio.messages.Part;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code DefaultReactiveMinioTemplate}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class DefaultReactiveMinioTemplate implements ReactiveMinioTemplate {
+
+    private final ExtendedMinioAsyncClient minioClient;
+    private final DataBufferFactory bufferFactory;
+    private final long partSize;
+    private final int chunkSize;
+
+    private ConfigurableListableBeanFactory beanFactory;
+
+    public DefaultReactiveMinioTemplate(MinioAsyncClient minioClient) {
+        this(minioClient, new MinIOProperties());
+    }
+
+    public DefaultReactiveMinioTemplate(MinioAsyncClient minioClient, MinIOProperties properties) {
+        this(minioClient, properties, new DefaultDataBufferFactory());
+    }
+
+    public DefaultReactiveMinioTemplate(
+        MinioAsyncClient minioClient, MinIOProperties properties, DataBufferFactory bufferFactory) {
+        this.minioClient = ExtendedMinioAsyncClient.of(minioClient);
+        this.bufferFactory = bufferFactory;
+        this.partSize = properties.getUpload().getPartSize().toBytes();
+        this.chunkSize = (int) properties.getReactive().getChunkSize().toBytes();
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public BeanFactory beanFactory() {
+        return this.beanFactory;
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Override
+    public Mono<Boolean> bucketExists(String bucket) {
+        return this.mono(() -> {
+            BucketExistsArgs args = BucketExistsArgs.builder()
+                .bucket(bucket)
+                .build();
+
+            return this.minioClient.bucketExists(args);
+        });
+    }
+
+    @Override
+    public Mono<Boolean> createBucket(String bucket) {
+        return this.bucketExists(bucket).flatMap(exists -> {
+            if (exists) {
+                return Mono.just(false);
+            }
+
+            return this.mono(() -> {
+                MakeBucketArgs args = MakeBucketArgs.builder()
+                    .bucket(bucket)
+                    .build();
+
+                return this.minioClient.makeBucket(args);
+            }).thenReturn(true);
+        });
+    }
+
+    @Override
+    public Mono<Boolean> removeBucket(String bucket) {
+        return this.mono(() -> {
+            RemoveBucketArgs args = RemoveBucketArgs.builder()
+                .bucket(bucket)
+                .build();
+
+            return this.minioClient.removeBucket(args);
+        }).thenReturn(true);
+    }
+
+    @Override
+    public Flux<Bucket> buckets() {
+        return this.mono(this.minioClient::listBuckets)
+            .flatMapIterable(buckets -> buckets);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public Flux<Item> listObjects(String bucket, ListOptions options) {
+        return Flux.defer(() -> {
+                ObjectListing listing = new ObjectListing(this.minioClient, bucket, options);
+
+                // The next page is fetched once the previous one was emitted.
+                return this.mono(listing::next).repeat(listing::hasNext);
+            })
+            .concatMapIterable(items -> items, 1);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public Mono<ObjectWriteResponse> putObject(
+        String bucket, String object, String contentType, Publisher<DataBuffer> content) {
+        return Mono.defer(() -> {
+            PartBuffer buffer = new PartBuffer(this.partSize);
+            Upload upload = new Upload(bucket, object, contentType);
+
+            return Flux.from(content)
+                .concatMapIterable(buffer::write, 1)
+                .concatWith(Mono.fromSupplier(buffer::finish))
+                .concatMap(upload::send, 1)
+                .then(Mono.defer(upload::complete))
+                .onErrorResume(ex -> upload.abort()
+                    .onErrorResume(abortEx -> {
+                        ex.addSuppressed(abortEx);
+
+                        return Mono.empty();
+                    })
+                    .then(Mono.error(ex)))
+                .doOnCancel(() -> upload.abort().subscribe(x -> {}, abortEx -> {}))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+        });
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public Flux<DataBuffer> downloadObject(GetObjectArgs args) {
+        return this.mono(() -> this.minioClient.getObject(args))
+            .doOnDiscard(GetObjectResponse.class, Responses::closeQuietly)
+            .flatMapMany(response -> DataBufferUtils.readInputStream(() -> response, this.bufferFactory, this.chunkSize)
+                // Reading the body blocks, keep it off the subscriber's(event loop) thread.
+                .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public Mono<StatObjectResponse> statObject(StatObjectArgs args) {
+        return this.mono(() -> this.minioClient.statObject(args));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public Mono<Boolean> removeObject(String bucket, String object) {
+        return this.mono(() -> {
+            RemoveObjectArgs args = RemoveObjectArgs.builder()
+                .bucket(bucket)
+                .object(object)
+                .build();
+
+            return this.minioClient.removeObject(args);
+        }).thenReturn(true);
+    }
+
+    // -----------------------------------------------------------------
+
+    /**
+     * Call {@code task} on subscription, a failure to start it is signalled as an error.
+     */
+    private <T> Mono<T> mono(Callable<CompletableFuture<T>> task) {
+        return Mono.fromFuture(() -> this.call(task));
+    }
+
+    // -----------------------------------------------------------------
+
+    /**
+     * The state of one {@link #putObject(String, String, String, Publisher)}, its parts are sent one at a time.
+     */
+    private final class Upload {
+
+        private final String bucket;
+        private final String object;
+        private final Multimap<String, String> headers = HashMultimap.create();
+        private final List<Part> parts = new ArrayList<>();
+
+        private volatile String uploadId;
+        private volatile ObjectWriteResponse response;
+
+        private Upload(String bucket, String object, String contentType) {
+            this.bucket = bucket;
+            this.object = object;
+            this.headers.put("Content-Type", contentType);
+        }
+
+        private Mono<Void> send(PartBuffer.Part part) {
+            if (part.last() && this.uploadId == null) {
+                // The whole object fits in one part.
+                return DefaultReactiveMinioTemplate.this.mono(() -> minioClient.putObjectAsync(
+                        this.bucket, null, this.object, part.data(), part.length(), this.headers, null))
+                    .doOnNext(response -> this.response = response)
+                    .then();
+            }
+
+            Mono<String> uploadId = this.uploadId != null
+                ? Mono.just(this.uploadId)
+                : DefaultReactiveMinioTemplate.this.mono(() -> minioClient.createMultipartUploadAsync(
+                    this.bucket, null, this.object, this.headers, null))
+                .map(created -> this.uploadId = created.result().uploadId());
+
+            int partNumber = this.parts.size() + 1;
+
+            return uploadId
+                .flatMap(id -> DefaultReactiveMinioTemplate.this.mono(() -> minioClient.uploadPartAsync(
+                    this.bucket, null, this.object, part.data(), part.length(), id, partNumber, null, null)))
+                .doOnNext(response -> this.parts.add(new Part(response.partNumber(), response.etag())))
+                .then();
+        }
+
+        private Mono<ObjectWriteResponse> complete() {
+            if (this.response != null) {
+                return Mono.just(this.response);
+            }
+
+            return DefaultReactiveMinioTemplate.this.mono(() -> minioClient.completeMultipartUploadAsync(
+                this.bucket, null, this.object, this.uploadId, this.parts.toArray(new Part[0]), null, null));
+        }
+
+        private Mono<Void> abort() {
+            String uploadId = this.uploadId;
+            if (uploadId == null) {
+                return Mono.empty();
+            }
+
+            return DefaultReactiveMinioTemplate.this.mono(() -> minioClient.abortMultipartUploadAsync(
+                this.bucket, null, this.object, uploadId, null, null)).then();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.reactive;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code PartBuffer}
+ * <p>
+ * Cuts a stream of {@link DataBuffer}s into upload parts of {@code partSize} bytes.
+ * A full part is handed out only once more bytes arrive, so the last part is always known as such,
+ * and an object smaller than one part can be sent with a single {@code PUT}.
+ * The part array grows with the content, a small object never allocates a whole part.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+final class PartBuffer {
+
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int partSize;
+
+    private byte[] data = EMPTY;
+    private int length;
+
+    PartBuffer(long partSize) {
+        this.partSize = (int) Math.min(partSize, MAX_ARRAY_SIZE);
+    }
+
+    /**
+     * Copy and release {@code buffer}.
+     *
+     * @param buffer the next {@link DataBuffer}
+     * @return the parts filled up, none of them the last one
+     */
+    List<Part> write(DataBuffer buffer) {
+        try {
+            List<Part> parts = Collections.emptyList();
+
+            int readable;
+            while ((readable = buffer.readableByteCount()) > 0) {
+                if (this.length == this.partSize) {
+                    if (parts.isEmpty()) {
+                        parts = new ArrayList<>(2);
+                    }
+                    parts.add(new Part(this.data, this.length, false));
+                    this.data = EMPTY;
+                    this.length = 0;
+                }
+
+                int n = Math.min(readable, this.partSize - this.length);
+                this.ensureCapacity(this.length + n);
+                buffer.read(this.data, this.length, n);
+                this.length += n;
+            }
+
+            return parts;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * @return the last part, empty for an empty stream
+     */
+    Part finish() {
+        Part last = new Part(this.data, this.length, true);
+        this.data = EMPTY;
+        this.length = 0;
+
+        return last;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= this.data.length) {
+            return;
+        }
+
+        long grown = Math.max(INITIAL_CAPACITY, 2L * this.data.length);
+        byte[] data = new byte[(int) Math.max(capacity, Math.min(grown, this.partSize))];
+        System.arraycopy(this.data, 0, data, 0, this.length);
+        this.data = data;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The first {@code length} bytes of {@code data}.
+     */
+    static final class Part {
+
+        private final byte[] data;
+        private final int length;
+        private final boolean last;
+
+        private Part(byte[] data, int length, boolean last) {
+            this.data = data;
+            this.length = length;
+            this.last = last;
+        }
+
+        byte[] data() {
+            return this.data;
+        }
+
+        int length() {
+            return this.length;
+        }
+
+        boolean last() {
+            return this.last;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.reactive;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.listing.ListOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SilentCall;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.StreamingTemplate;
+import io.minio.GetObjectArgs;
+import io.minio.ObjectWriteResponse;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.messages.Bucket;
+import io.minio.messages.Item;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@code ReactiveMinioTemplate}
+ * <p>
+ * A {@code Project Reactor} template on top of {@code MinioAsyncClient}, nothing happens until subscription.
+ * Object bodies are streamed as {@link DataBuffer}s, so an object is never held in memory as a whole.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public interface ReactiveMinioTemplate extends StreamingTemplate, SilentCall {
+
+    String MINIO_TEMPLATE_BEAN_NAME = "reactiveMinioTemplate";
+
+    // ----------------------------------------------------------------
+
+    Mono<Boolean> bucketExists(String bucket);
+
+    Mono<Boolean> createBucket(String bucket);
+
+    Mono<Boolean> removeBucket(String bucket);
+
+    Flux<Bucket> buckets();
+
+    // ----------------------------------------------------------------
+
+    default Flux<Item> listObjects(String bucket, String prefix) {
+        return this.listObjects(bucket, ListOptions.prefix(prefix));
+    }
+
+    /**
+     * List the objects of a bucket.
+     * <p>
+     * Pages are fetched as the subscriber requests items, at most one page ahead of it.
+     *
+     * @param bucket  the bucket
+     * @param options the {@link ListOptions}
+     * @return the objects, directories(common prefixes) come after the objects of their page
+     */
+    Flux<Item> listObjects(String bucket, ListOptions options);
+
+    // ----------------------------------------------------------------
+
+    default Mono<ObjectWriteResponse> putObject(String bucket, String object, Publisher<DataBuffer> content) {
+        return this.putObject(bucket, object, DEFAULT_STREAM_CONTENT_TYPE, content);
+    }
+
+    /**
+     * Upload an object from a stream of {@link DataBuffer}s, released once copied.
+     * <p>
+     * Content up to {@code spring.minio.upload.part-size} is sent with a single {@code PUT}, larger content
+     * is uploaded part by part. The content is requested as parts are uploaded, so at most a few parts
+     * are buffered whatever the object size. A failed or cancelled upload aborts its multipart upload.
+     *
+     * @param bucket      the bucket
+     * @param object      the object name
+     * @param contentType the content type
+     * @param content     the content
+     * @return {@link ObjectWriteResponse}
+     */
+    Mono<ObjectWriteResponse> putObject(String bucket, String object, String contentType, Publisher<DataBuffer> content);
+
+    // ----------------------------------------------------------------
+
+    default Flux<DataBuffer> downloadObject(String bucket, String object) {
+        return Flux.defer(() -> {
+            GetObjectArgs args = GetObjectArgs.builder()
+                .bucket(bucket)
+                .object(object)
+                .build();
+
+            return this.downloadObject(args);
+        });
+    }
+
+    /**
+     * Download an object as {@link DataBuffer}s of at most {@code spring.minio.reactive.chunk-size} bytes,
+     * read as the subscriber requests them.
+     * <p>
+     * The body is read on {@code Schedulers.boundedElastic()}, never on the subscribing thread, and closed
+     * once completed or cancelled. The subscriber must release the buffers.
+     *
+     * @param args {@link GetObjectArgs}
+     * @return the object body
+     */
+    Flux<DataBuffer> downloadObject(GetObjectArgs args);
+
+    // ----------------------------------------------------------------
+
+    default Mono<StatObjectResponse> statObject(String bucket, String object) {
+        return Mono.defer(() -> {
+            StatObjectArgs args = StatObjectArgs.builder()
+                .bucket(bucket)
+                .object(object)
+                .build();
+
+            return this.statObject(args);
+        });
+    }
+
+    Mono<StatObjectResponse> statObject(StatObjectArgs args);
+
+    // ----------------------------------------------------------------
+
+    Mono<Boolean> removeObject(String bucket, String object);
+}
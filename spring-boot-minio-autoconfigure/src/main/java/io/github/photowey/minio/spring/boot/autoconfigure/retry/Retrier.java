@@ -0,0 +1,262 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.retry;
+
+import io.github.photowey.minio.spring.boot.core.async.Futures;
+import io.github.photowey.minio.spring.boot.core.async.SharedTimer;
+import io.github.photowey.minio.spring.boot.core.io.CountingInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * {@code Retrier}
+ * <p>
+ * Runs a template call again after a retryable failure, as told by the {@link RetryPolicy}.
+ * A blocking call sleeps through the backoff, an asynchronous one waits for it on a timer, so no thread waits,
+ * and starts its next attempt on the {@code executor}: the SDK may read an upload's stream while starting a call,
+ * which mustn't hold up the shared timer thread. The retries are counted per operation.
+ * <p>
+ * Closing it fails the calls waiting for their next attempt.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class Retrier implements AutoCloseable {
+
+    private final RetryPolicy policy;
+    private final Executor executor;
+    private final SharedTimer timer;
+    private final ConcurrentMap<String, LongAdder> retries = new ConcurrentHashMap<>();
+    private final List<BiConsumer<String, LongAdder>> operationListeners = new CopyOnWriteArrayList<>();
+
+    public Retrier(RetryPolicy policy, Executor executor) {
+        this.policy = policy;
+        this.executor = executor;
+        this.timer = SharedTimer.lease();
+    }
+
+    // ----------------------------------------------------------------
+
+    public <T> T call(String operation, Supplier<T> task) {
+        return this.call(operation, task, null);
+    }
+
+    /**
+     * Run a blocking call, retrying it after a retryable failure.
+     *
+     * @param operation the operation, counting its retries
+     * @param task      the call
+     * @param rewind    prepares a retry, e.g. resets the uploaded stream, {@code null} if there's nothing to do
+     * @param <T>       the result type
+     * @return the result
+     */
+    public <T> T call(String operation, Supplier<T> task, Runnable rewind) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return task.get();
+            } catch (RuntimeException e) {
+                if (!this.retry(operation, attempt, e, rewind)) {
+                    throw e;
+                }
+
+                try {
+                    TimeUnit.NANOSECONDS.sleep(this.policy.backoffNanos(attempt));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    e.addSuppressed(ie);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(String operation, Supplier<CompletableFuture<T>> task) {
+        return this.submit(operation, task, null);
+    }
+
+    /**
+     * Start an asynchronous call, retrying it after a retryable failure. The returned future completes on the
+     * thread completing the last attempt, cancelling it stops the retries.
+     *
+     * @param operation the operation, counting its retries
+     * @param task      the call
+     * @param rewind    prepares a retry, e.g. resets the uploaded stream, {@code null} if there's nothing to do
+     * @param <T>       the result type
+     * @return the future of the call
+     */
+    public <T> CompletableFuture<T> submit(String operation, Supplier<CompletableFuture<T>> task, Runnable rewind) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        this.attempt(operation, task, rewind, 1, result);
+
+        return result;
+    }
+
+    // ----------------------------------------------------------------
+
+    public long retries(String operation) {
+        LongAdder counter = this.retries.get(operation);
+
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * Hand the per-operation retry counters to {@code listener}, the existing ones now and the new ones once created.
+     *
+     * @param listener the listener
+     */
+    public void onOperation(BiConsumer<String, LongAdder> listener) {
+        this.operationListeners.add(listener);
+        this.retries.forEach(listener);
+    }
+
+    @Override
+    public void close() {
+        this.timer.close();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Whether an upload from {@code in} can be retried: the stream must rewind to its start, its size be known
+     * and, unless it's a {@link ByteArrayInputStream}, at most {@code spring.minio.retry.upload-mark-limit},
+     * since marking e.g. a {@code BufferedInputStream} keeps the bytes read in memory.
+     *
+     * @param in   the stream
+     * @param size the size, {@code -1} if unknown
+     * @return {@code true} if {@code in} was marked for a retry
+     */
+    public boolean markForRetry(InputStream in, long size) {
+        if (!in.markSupported() || size < 0 || size >= Integer.MAX_VALUE) {
+            return false;
+        }
+        if (!(CountingInputStream.unwrap(in) instanceof ByteArrayInputStream) && size > this.policy.uploadMarkLimit()) {
+            return false;
+        }
+
+        // One byte past the size, in case the reader probes for the end of the stream.
+        in.mark((int) size + 1);
+
+        return true;
+    }
+
+    public static Runnable reset(InputStream in) {
+        return () -> {
+            try {
+                in.reset();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    // ----------------------------------------------------------------
+
+    private <T> void attempt(
+        String operation, Supplier<CompletableFuture<T>> task, Runnable rewind, int attempt, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return;
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = task.get();
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+
+        future.whenComplete((value, ex) -> {
+            if (ex == null) {
+                result.complete(value);
+                return;
+            }
+            if (result.isDone() || !this.retry(operation, attempt, ex, rewind)) {
+                result.completeExceptionally(ex);
+                return;
+            }
+
+            CompletableFuture<Void> backoff;
+            try {
+                backoff = this.timer.delay(this.policy.backoffNanos(attempt), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                ex.addSuppressed(e);
+                result.completeExceptionally(ex);
+                return;
+            }
+
+            backoff.whenCompleteAsync((x, closed) -> {
+                if (closed != null) {
+                    ex.addSuppressed(Futures.unwrap(closed));
+                    result.completeExceptionally(ex);
+                    return;
+                }
+
+                this.attempt(operation, task, rewind, attempt + 1, result);
+            }, this.executor);
+        });
+    }
+
+    private boolean retry(String operation, int attempt, Throwable ex, Runnable rewind) {
+        if (attempt >= this.policy.maxAttempts() || !this.policy.isRetryable(ex)) {
+            return false;
+        }
+        if (rewind != null) {
+            try {
+                rewind.run();
+            } catch (RuntimeException e) {
+                ex.addSuppressed(e);
+                return false;
+            }
+        }
+
+        this.counter(operation).increment();
+
+        return true;
+    }
+
+    private LongAdder counter(String operation) {
+        LongAdder counter = this.retries.get(operation);
+        if (counter != null) {
+            return counter;
+        }
+
+        LongAdder created = new LongAdder();
+        counter = this.retries.putIfAbsent(operation, created);
+        if (counter != null) {
+            return counter;
+        }
+        for (BiConsumer<String, LongAdder> listener : this.operationListeners) {
+            listener.accept(operation, created);
+        }
+
+        return created;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.retry;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.MinioTemplateDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import org.springframework.core.Ordered;
+
+/**
+ * {@code RetryDecorator}
+ * <p>
+ * Wraps the templates with {@link RetryingSyncMinioTemplate}/{@link RetryingAsyncMinioTemplate},
+ * both sharing one {@link Retrier}.
+ * It sits outside the {@code LimitsDecorator}, so every attempt waits for a permit of its own.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class RetryDecorator implements MinioTemplateDecorator, Ordered, AutoCloseable {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 300;
+
+    private final Retrier retrier;
+
+    public RetryDecorator(Retrier retrier) {
+        this.retrier = retrier;
+    }
+
+    @Override
+    public SyncMinioTemplate decorate(SyncMinioTemplate template) {
+        return new RetryingSyncMinioTemplate(template, this.retrier);
+    }
+
+    @Override
+    public AsyncMinioTemplate decorate(AsyncMinioTemplate template) {
+        return new RetryingAsyncMinioTemplate(template, this.retrier);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    // ----------------------------------------------------------------
+
+    public Retrier retrier() {
+        return this.retrier;
+    }
+
+    @Override
+    public void close() {
+        this.retrier.close();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.retry;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.limits.LimitExceededException;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.core.retry.Backoff;
+import io.minio.errors.ErrorResponseException;
+import io.minio.errors.ServerException;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * {@code RetryPolicy}
+ * <p>
+ * How often and after which failures a call is retried. Retryable are I/O errors talking to the server,
+ * {@code 500}/{@code 502}/{@code 503}/{@code 504} responses and the transient {@code S3} error codes,
+ * never local file errors or a {@link LimitExceededException}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class RetryPolicy {
+
+    private static final Set<String> RETRYABLE_CODES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "SlowDown", "SlowDownRead", "SlowDownWrite", "RequestTimeout", "InternalError", "ServiceUnavailable")));
+    private static final Set<Integer> RETRYABLE_STATUSES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        500, 502, 503, 504)));
+
+    private final int maxAttempts;
+    private final Backoff backoff;
+    private final long uploadMarkLimit;
+
+    public RetryPolicy(MinIOProperties.Retry retry) {
+        this.maxAttempts = retry.getMaxAttempts();
+        this.backoff = new Backoff(retry.getBaseBackoff(), retry.getMaxBackoff());
+        this.uploadMarkLimit = retry.getUploadMarkLimit().toBytes();
+    }
+
+    public int maxAttempts() {
+        return this.maxAttempts;
+    }
+
+    public long backoffNanos(int attempt) {
+        return this.backoff.delayNanos(attempt);
+    }
+
+    public long uploadMarkLimit() {
+        return this.uploadMarkLimit;
+    }
+
+    /**
+     * Whether to retry a failure, by default if it {@link #isTransient(Throwable)}.
+     *
+     * @param ex the failure
+     * @return {@code true} if retrying may succeed
+     */
+    public boolean isRetryable(Throwable ex) {
+        return isTransient(ex);
+    }
+
+    /**
+     * Whether a failure is transient, looking through the {@code MinioException}/{@code CompletionException}
+     * wrappers down to the {@code MinIO} SDK one.
+     *
+     * @param ex the failure
+     * @return {@code true} if the server may well answer the same request next time
+     */
+    public static boolean isTransient(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause() != cause ? cause.getCause() : null) {
+            if (cause instanceof LimitExceededException) {
+                return false;
+            }
+            if (cause instanceof ErrorResponseException) {
+                return isTransient((ErrorResponseException) cause);
+            }
+            if (cause instanceof ServerException) {
+                return RETRYABLE_STATUSES.contains(((ServerException) cause).statusCode());
+            }
+            if (cause instanceof IOException) {
+                return !(cause instanceof FileSystemException || cause instanceof FileNotFoundException);
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isTransient(ErrorResponseException ex) {
+        if (ex.errorResponse() != null && RETRYABLE_CODES.contains(ex.errorResponse().code())) {
+            return true;
+        }
+
+        return ex.response() != null && RETRYABLE_STATUSES.contains(ex.response().code());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.retry;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.ForwardingAsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
+import io.minio.*;
+import io.minio.messages.Bucket;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code RetryingAsyncMinioTemplate}
+ * <p>
+ * Retries the calls failing transiently, without blocking a thread during the backoff.
+ * A stream upload is retried only if the stream can be reset,
+ * see {@link Retrier#markForRetry(InputStream, long)}. Listings and batches aren't retried,
+ * a batch reports the failure of each item instead.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class RetryingAsyncMinioTemplate extends ForwardingAsyncMinioTemplate {
+
+    private final AsyncMinioTemplate delegate;
+    private final Retrier retrier;
+
+    public RetryingAsyncMinioTemplate(AsyncMinioTemplate delegate, Retrier retrier) {
+        this.delegate = delegate;
+        this.retrier = retrier;
+    }
+
+    @Override
+    protected AsyncMinioTemplate delegate() {
+        return this.delegate;
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Override
+    public CompletableFuture<Boolean> bucketExists(String bucket) {
+        return this.retrier.submit("bucketExists", () -> super.bucketExists(bucket));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> createBucket(String bucket) {
+        return this.retrier.submit("createBucket", () -> super.createBucket(bucket));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> removeBucket(String bucket) {
+        return this.retrier.submit("removeBucket", () -> super.removeBucket(bucket));
+    }
+
+    @Override
+    public CompletableFuture<List<Bucket>> buckets() {
+        return this.retrier.submit("buckets", super::buckets);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<ObjectWriteResponse> putObject(
+        String bucket, String object, String contextType, InputStream in, long size) {
+        if (!this.retrier.markForRetry(in, size)) {
+            return super.putObject(bucket, object, contextType, in, size);
+        }
+
+        return this.retrier.submit(
+            "putObject", () -> super.putObject(bucket, object, contextType, in, size), Retrier.reset(in));
+    }
+
+    @Override
+    public CompletableFuture<ObjectWriteResponse> uploadFile(String bucket, String object, Path file, UploadOptions options) {
+        return this.retrier.submit("uploadFile", () -> super.uploadFile(bucket, object, file, options));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public <T extends InputStream> CompletableFuture<T> downloadObject(String bucket, String object) {
+        return this.retrier.submit("getObject", () -> super.downloadObject(bucket, object));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> downloadObject(DownloadObjectArgs args) {
+        return this.retrier.submit("downloadObject", () -> super.downloadObject(args));
+    }
+
+    @Override
+    public CompletableFuture<StatObjectResponse> downloadFile(String bucket, String object, Path file, DownloadOptions options) {
+        return this.retrier.submit("downloadFile", () -> super.downloadFile(bucket, object, file, options));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<StatObjectResponse> statObject(StatObjectArgs args) {
+        return this.retrier.submit("statObject", () -> super.statObject(args));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<Boolean> removeObject(String bucket, String object) {
+        return this.retrier.submit("removeObject", () -> super.removeObject(bucket, object));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.retry;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.template.ForwardingSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
+import io.minio.*;
+import io.minio.messages.Bucket;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * {@code RetryingSyncMinioTemplate}
+ * <p>
+ * Retries the calls failing transiently. A stream upload is retried only if the stream can be reset,
+ * see {@link Retrier#markForRetry(InputStream, long)}. Listings and batches aren't retried,
+ * a batch reports the failure of each item instead.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class RetryingSyncMinioTemplate extends ForwardingSyncMinioTemplate {
+
+    private final SyncMinioTemplate delegate;
+    private final Retrier retrier;
+
+    public RetryingSyncMinioTemplate(SyncMinioTemplate delegate, Retrier retrier) {
+        this.delegate = delegate;
+        this.retrier = retrier;
+    }
+
+    @Override
+    protected SyncMinioTemplate delegate() {
+        return this.delegate;
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Override
+    public boolean bucketExists(String bucket) {
+        return this.retrier.call("bucketExists", () -> super.bucketExists(bucket));
+    }
+
+    @Override
+    public boolean createBucket(String bucket) {
+        return this.retrier.call("createBucket", () -> super.createBucket(bucket));
+    }
+
+    @Override
+    public boolean removeBucket(String bucket) {
+        return this.retrier.call("removeBucket", () -> super.removeBucket(bucket));
+    }
+
+    @Override
+    public List<Bucket> buckets() {
+        return this.retrier.call("buckets", super::buckets);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public ObjectWriteResponse putObject(String bucket, String object, String contextType, InputStream in, long size) {
+        if (!this.retrier.markForRetry(in, size)) {
+            return super.putObject(bucket, object, contextType, in, size);
+        }
+
+        return this.retrier.call(
+            "putObject", () -> super.putObject(bucket, object, contextType, in, size), Retrier.reset(in));
+    }
+
+    @Override
+    public ObjectWriteResponse uploadFile(String bucket, String object, Path file, UploadOptions options) {
+        return this.retrier.call("uploadFile", () -> super.uploadFile(bucket, object, file, options));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public InputStream downloadObject(String bucket, String object) {
+        return this.retrier.call("getObject", () -> super.downloadObject(bucket, object));
+    }
+
+    @Override
+    public GetObjectResponse downloadObject(GetObjectArgs args) {
+        return this.retrier.call("getObject", () -> super.downloadObject(args));
+    }
+
+    @Override
+    public boolean downloadObject(DownloadObjectArgs args) {
+        return this.retrier.call("downloadObject", () -> super.downloadObject(args));
+    }
+
+    @Override
+    public StatObjectResponse downloadFile(String bucket, String object, Path file, DownloadOptions options) {
+        return this.retrier.call("downloadFile", () -> super.downloadFile(bucket, object, file, options));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public StatObjectResponse statObject(StatObjectArgs args) {
+        return this.retrier.call("statObject", () -> super.statObject(args));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public boolean removeObject(String bucket, String object) {
+        return this.retrier.call("removeObject", () -> super.removeObject(bucket, object));
+    }
+}
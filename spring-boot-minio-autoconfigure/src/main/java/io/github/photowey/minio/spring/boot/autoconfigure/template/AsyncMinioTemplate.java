@@ -15,14 +15,23 @@
  */
 package io.github.photowey.minio.spring.boot.autoconfigure.template;
 
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.listing.ListOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.listing.ObjectListing;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
 import io.minio.*;
 import io.minio.http.Method;
 import io.minio.messages.Bucket;
 
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * {@code AsyncMinioTemplate}
@@ -58,25 +67,83 @@ public interface AsyncMinioTemplate extends StreamingTemplate, SilentCall {
 
     // ----------------------------------------------------------------
 
+    default ObjectListing listObjects(String bucket, String prefix) {
+        return this.listObjects(bucket, ListOptions.prefix(prefix));
+    }
+
+    /**
+     * List the objects of a bucket, page by page.
+     * <p>
+     * The returned {@link ObjectListing} fetches the next page only when asked for it,
+     * so memory stays bounded by one page of {@code ListOptions.pageSize} keys.
+     *
+     * @param bucket  the bucket
+     * @param options the {@link ListOptions}
+     * @return {@link ObjectListing}
+     */
+    ObjectListing listObjects(String bucket, ListOptions options);
+
+    // ----------------------------------------------------------------
+
     default CompletableFuture<ObjectWriteResponse> putObject(
         String bucket, String object, InputStream in) {
         return this.call(() -> {
-            return this.putObject(bucket, object, DEFAULT_STREAM_CONTENT_TYPE, in, in.available());
+            return this.putObject(bucket, object, DEFAULT_STREAM_CONTENT_TYPE, in, StreamingTemplate.sizeOf(in));
         });
     }
 
     default CompletableFuture<ObjectWriteResponse> putObject(
         String bucket, String object, String contextType, InputStream in) {
         return this.call(() -> {
-            return this.putObject(bucket, object, contextType, in, in.available());
+            return this.putObject(bucket, object, contextType, in, StreamingTemplate.sizeOf(in));
         });
     }
 
+    /**
+     * Upload an object from a stream.
+     * <p>
+     * With {@link #UNKNOWN_SIZE} the stream is read until {@code EOF} and uploaded in parts of
+     * {@code spring.minio.upload.part-size}, buffering at most one part at a time.
+     *
+     * @param bucket      the bucket
+     * @param object      the object name
+     * @param contextType the content type
+     * @param in          the stream
+     * @param size        the exact stream length or {@link #UNKNOWN_SIZE}
+     * @return {@link ObjectWriteResponse}
+     */
     CompletableFuture<ObjectWriteResponse> putObject(
         String bucket, String object, String contextType, InputStream in, long size);
 
     // ----------------------------------------------------------------
 
+    default CompletableFuture<ObjectWriteResponse> uploadFile(String bucket, String object, Path file) {
+        return this.uploadFile(bucket, object, file, UploadOptions.defaults());
+    }
+
+    /**
+     * Upload a local file, files larger than one part go up as a parallel multipart upload.
+     * <p>
+     * A failed multipart upload is aborted before the failure is reported.
+     *
+     * @param bucket  the bucket
+     * @param object  the object name
+     * @param file    the local file
+     * @param options the {@link UploadOptions}
+     * @return {@link ObjectWriteResponse}
+     */
+    CompletableFuture<ObjectWriteResponse> uploadFile(String bucket, String object, Path file, UploadOptions options);
+
+    /**
+     * Upload many objects with at most {@code spring.minio.batch.concurrency} uploads in flight.
+     *
+     * @param objects the {@link PutObjectArgs}
+     * @return the per-object results, in the order of {@code objects}
+     */
+    CompletableFuture<List<BatchResult<ObjectWriteResponse>>> putObjects(List<PutObjectArgs> objects);
+
+    // ----------------------------------------------------------------
+
     <T extends InputStream> CompletableFuture<T> downloadObject(String bucket, String object);
 
     default void downloadObject(String bucket, String object, String filename) {
@@ -93,6 +160,24 @@ public interface AsyncMinioTemplate extends StreamingTemplate, SilentCall {
 
     CompletableFuture<Boolean> downloadObject(DownloadObjectArgs args);
 
+    default CompletableFuture<StatObjectResponse> downloadFile(String bucket, String object, Path file) {
+        return this.downloadFile(bucket, object, file, DownloadOptions.defaults());
+    }
+
+    /**
+     * Download an object into a local file, fetching byte ranges in parallel.
+     * <p>
+     * Every range must match the {@code ETag} of the initial {@code statObject},
+     * the file is replaced only after all ranges have been written.
+     *
+     * @param bucket  the bucket
+     * @param object  the object name
+     * @param file    the local file
+     * @param options the {@link DownloadOptions}
+     * @return the {@link StatObjectResponse} of the downloaded object
+     */
+    CompletableFuture<StatObjectResponse> downloadFile(String bucket, String object, Path file, DownloadOptions options);
+
     // ----------------------------------------------------------------
 
     default CompletableFuture<StatObjectResponse> statObject(String bucket, String object) {
@@ -108,6 +193,50 @@ public interface AsyncMinioTemplate extends StreamingTemplate, SilentCall {
 
     CompletableFuture<StatObjectResponse> statObject(StatObjectArgs args);
 
+    /**
+     * Stat many objects with at most {@code spring.minio.batch.concurrency} requests in flight.
+     * <p>
+     * A missing object yields a failed {@link BatchResult} instead of failing the batch.
+     *
+     * @param bucket  the bucket
+     * @param objects the object names
+     * @return the per-object results, in the order of {@code objects}
+     */
+    CompletableFuture<List<BatchResult<StatObjectResponse>>> statObjects(String bucket, List<String> objects);
+
+    // ----------------------------------------------------------------
+
+    CompletableFuture<Boolean> removeObject(String bucket, String object);
+
+    /**
+     * Remove many objects with S3 multi-delete requests of up to 1000 keys each.
+     * <p>
+     * Keys the server refused to delete, or keys of a failed request, yield failed {@link BatchResult}s.
+     *
+     * @param bucket  the bucket
+     * @param objects the object names
+     * @return the per-object results, in the order of {@code objects}
+     */
+    default CompletableFuture<List<BatchResult<Boolean>>> removeObjects(String bucket, List<String> objects) {
+        return this.removeObjects(bucket, objects, (result) -> {
+        });
+    }
+
+    /**
+     * Remove many objects like {@link #removeObjects(String, List)}, reporting each result to {@code onResult}
+     * as soon as its multi-delete request completes, so a failed key is known before the whole batch is done.
+     * <p>
+     * {@code onResult} runs on the thread completing the request, one request at a time, and should return quickly.
+     * If it throws, the returned future fails with its exception.
+     *
+     * @param bucket   the bucket
+     * @param objects  the object names
+     * @param onResult the per-object result listener
+     * @return the per-object results, in the order of {@code objects}
+     */
+    CompletableFuture<List<BatchResult<Boolean>>> removeObjects(
+        String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult);
+
     // -----------------------------------------------------------------
 
     default String url(String bucket, String object) {
@@ -135,5 +264,23 @@ public interface AsyncMinioTemplate extends StreamingTemplate, SilentCall {
         });
     }
 
+    /**
+     * Presign {@code GET} URLs of several objects of a bucket.
+     *
+     * @param bucket   the bucket
+     * @param objects  the objects
+     * @param expiry   the expiry
+     * @param timeUnit the {@link TimeUnit} of {@code expiry}
+     * @return the URLs by object, in the order of {@code objects}
+     */
+    default Map<String, String> urls(String bucket, List<String> objects, int expiry, TimeUnit timeUnit) {
+        Map<String, String> urls = new LinkedHashMap<>(objects.size() * 4 / 3 + 1);
+        for (String object : objects) {
+            urls.put(object, this.url(bucket, object, expiry, timeUnit));
+        }
+
+        return urls;
+    }
+
     String url(GetPresignedObjectUrlArgs args);
 }
@@ -15,6 +15,22 @@
  */
 package io.github.photowey.minio.spring.boot.autoconfigure.template;
 
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchOperations;
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.checksum.ChecksummedBody;
+import io.github.photowey.minio.spring.boot.autoconfigure.checksum.ObjectChecksums;
+import io.github.photowey.minio.spring.boot.autoconfigure.client.ExtendedMinioAsyncClient;
+import io.github.photowey.minio.spring.boot.autoconfigure.compress.ObjectCompression;
+import io.github.photowey.minio.spring.boot.autoconfigure.http.Responses;
+import io.github.photowey.minio.spring.boot.autoconfigure.listing.ListOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.listing.ObjectListing;
+import io.github.photowey.minio.spring.boot.autoconfigure.presign.PresignedUrls;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.MultipartUploadEngine;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.RangedDownloadEngine;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.Transfers;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
 import io.github.photowey.minio.spring.boot.core.async.Futures;
 import io.minio.*;
 import io.minio.messages.Bucket;
@@ -23,11 +39,19 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * {@code DefaultAsyncMinioTemplate}
+ * <p>
+ * The returned futures complete on the completion {@link Executor} if there is one,
+ * otherwise on the {@code OkHttp} thread completing the call.
  *
  * @author photowey
  * @version 1.0.0
@@ -35,12 +59,38 @@ import java.util.concurrent.CompletableFuture;
  */
 public class DefaultAsyncMinioTemplate implements AsyncMinioTemplate {
 
-    private final MinioAsyncClient minioClient;
+    private final ExtendedMinioAsyncClient minioClient;
+    private final long partSize;
+    private final MultipartUploadEngine uploadEngine;
+    private final RangedDownloadEngine downloadEngine;
+    private final BatchOperations batchOperations;
+    private final PresignedUrls presignedUrls;
+    private final ObjectCompression compression;
+    private final ObjectChecksums checksums;
+    private final Executor completionExecutor;
 
     private ConfigurableListableBeanFactory beanFactory;
 
     public DefaultAsyncMinioTemplate(MinioAsyncClient minioClient) {
-        this.minioClient = minioClient;
+        this(minioClient, new MinIOProperties());
+    }
+
+    public DefaultAsyncMinioTemplate(MinioAsyncClient minioClient, MinIOProperties properties) {
+        this(minioClient, properties, null);
+    }
+
+    public DefaultAsyncMinioTemplate(MinioAsyncClient minioClient, MinIOProperties properties, Executor completionExecutor) {
+        this.minioClient = ExtendedMinioAsyncClient.of(minioClient);
+        this.partSize = properties.getUpload().getPartSize().toBytes();
+        this.uploadEngine = new MultipartUploadEngine(this.minioClient, properties);
+        this.downloadEngine = new RangedDownloadEngine(this.minioClient, properties);
+        this.batchOperations = new BatchOperations(this.minioClient, properties);
+        this.presignedUrls = new PresignedUrls(properties, (args) -> this.call(() -> {
+            return this.minioClient.getPresignedObjectUrl(args);
+        }));
+        this.compression = new ObjectCompression(properties.getCompression());
+        this.checksums = new ObjectChecksums(properties.getChecksum());
+        this.completionExecutor = completionExecutor;
     }
 
     // -----------------------------------------------------------------
@@ -59,47 +109,30 @@ public class DefaultAsyncMinioTemplate implements AsyncMinioTemplate {
 
     @Override
     public CompletableFuture<Boolean> bucketExists(String bucket) {
-        return this.call(() -> {
-            BucketExistsArgs args = BucketExistsArgs.builder()
-                .bucket(bucket)
-                .build();
-
-            return this.minioClient.bucketExists(args);
-        });
+        return this.handOff(this.exists(bucket));
     }
 
     // -----------------------------------------------------------------
 
     @Override
     public CompletableFuture<Boolean> createBucket(String bucket) {
-        return this.call(() -> {
-            CompletableFuture<Boolean> fx = new CompletableFuture<>();
-            if (Futures.tryGet(this.bucketExists(bucket), false)) {
-                fx.complete(false);
-
-                return fx;
+        return this.handOff(this.exists(bucket).thenCompose(exists -> {
+            if (exists) {
+                return CompletableFuture.completedFuture(false);
             }
 
             MakeBucketArgs args = MakeBucketArgs.builder()
                 .bucket(bucket)
                 .build();
 
-            CompletableFuture<Void> fv = this.minioClient.makeBucket(args);
-            fv.whenComplete((x, ex) -> {
-                if (ex != null) {
-                    fx.completeExceptionally(ex);
-                } else {
-                    fx.complete(true);
-                }
-            });
-
-            return fx;
-        });
+            return this.call(() -> this.minioClient.makeBucket(args))
+                .thenApply(x -> true);
+        }));
     }
 
     @Override
     public CompletableFuture<Boolean> removeBucket(String bucket) {
-        return this.call(() -> {
+        return this.handOff(this.call(() -> {
             CompletableFuture<Boolean> fx = new CompletableFuture<>();
 
             RemoveBucketArgs args = RemoveBucketArgs.builder()
@@ -116,28 +149,57 @@ public class DefaultAsyncMinioTemplate implements AsyncMinioTemplate {
             });
 
             return fx;
-        });
+        }));
     }
 
     @Override
     public CompletableFuture<List<Bucket>> buckets() {
-        return this.call(this.minioClient::listBuckets);
+        return this.handOff(this.call(this.minioClient::listBuckets));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public ObjectListing listObjects(String bucket, ListOptions options) {
+        return new ObjectListing(this.minioClient, bucket, options);
     }
 
     // -----------------------------------------------------------------
 
     @Override
     public CompletableFuture<ObjectWriteResponse> putObject(String bucket, String object, String contextType, InputStream in, long size) {
-        return this.call(() -> {
-            PutObjectArgs args = PutObjectArgs.builder()
+        return this.handOff(this.call(() -> {
+            PutObjectArgs.Builder builder = PutObjectArgs.builder()
                 .bucket(bucket)
                 .object(object)
-                .stream(in, size, -1)
-                .contentType(contextType)
-                .build();
+                .contentType(contextType);
+            // The checksum covers the body as given, before it's compressed.
+            ChecksummedBody body = this.checksums.checksum(in, size, this.partSize);
+            InputStream upload = this.compression.compress(contextType, body.body(), body.size());
+
+            CompletableFuture<ObjectWriteResponse> future;
+            try {
+                PutObjectArgs args = this.compression
+                    .stream(builder, upload, body.size(), this.partSize, body.userMetadata())
+                    .build();
+                future = this.minioClient.putObject(args);
+            } catch (Exception e) {
+                this.compression.release(upload);
+                throw e;
+            }
 
-            return this.minioClient.putObject(args);
-        });
+            return future.whenComplete((response, ex) -> this.compression.release(upload));
+        }));
+    }
+
+    @Override
+    public CompletableFuture<ObjectWriteResponse> uploadFile(String bucket, String object, Path file, UploadOptions options) {
+        return this.handOff(this.uploadEngine.upload(bucket, object, file, options));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<ObjectWriteResponse>>> putObjects(List<PutObjectArgs> objects) {
+        return this.handOff(this.batchOperations.putObjects(objects));
     }
 
     // -----------------------------------------------------------------
@@ -145,49 +207,119 @@ public class DefaultAsyncMinioTemplate implements AsyncMinioTemplate {
     @Override
     @SuppressWarnings("unchecked")
     public <T extends InputStream> CompletableFuture<T> downloadObject(String bucket, String object) {
-        return this.call(() -> {
+        return this.handOff(this.call(() -> {
             GetObjectArgs args = GetObjectArgs.builder()
                 .bucket(bucket)
                 .object(object)
                 .build();
 
-            return (CompletableFuture<T>) this.minioClient.getObject(args);
-        });
+            return (CompletableFuture<T>) this.getObject(args);
+        }));
     }
 
     @Override
     public CompletableFuture<Boolean> downloadObject(DownloadObjectArgs args) {
-        return this.call(() -> {
-            CompletableFuture<Boolean> fx = new CompletableFuture<>();
+        return this.handOff(this.call(() -> {
+            // One getObject, its headers carry the codec and the body is decompressed while it's written.
+            return this.thenApplyOnCompletion(this.getObject(Transfers.getObjectArgs(args)), (response) -> {
+                Transfers.transfer(response, Paths.get(args.filename()));
 
-            CompletableFuture<Void> fv = this.minioClient.downloadObject(args);
-            fv.whenComplete((x, ex) -> {
-                if (ex != null) {
-                    fx.completeExceptionally(ex);
-                } else {
-                    fx.complete(true);
-                }
+                return true;
             });
+        }));
+    }
 
-            return fx;
-        });
+    @Override
+    public CompletableFuture<StatObjectResponse> downloadFile(String bucket, String object, Path file, DownloadOptions options) {
+        CompletableFuture<StatObjectResponse> future = this.downloadEngine.download(bucket, object, file, options);
+
+        return this.handOff(this.thenApplyOnCompletion(future, (stat) -> {
+            this.decompress(stat, file);
+
+            return stat;
+        }));
     }
 
     // -----------------------------------------------------------------
 
     @Override
     public CompletableFuture<StatObjectResponse> statObject(StatObjectArgs args) {
-        return this.call(() -> {
+        return this.handOff(this.call(() -> {
             return this.minioClient.statObject(args);
-        });
+        }));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<StatObjectResponse>>> statObjects(String bucket, List<String> objects) {
+        return this.handOff(this.batchOperations.statObjects(bucket, objects));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<Boolean> removeObject(String bucket, String object) {
+        return this.handOff(this.call(() -> {
+            RemoveObjectArgs args = RemoveObjectArgs.builder()
+                .bucket(bucket)
+                .object(object)
+                .build();
+
+            return this.minioClient.removeObject(args)
+                .thenApply(x -> true);
+        }));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<Boolean>>> removeObjects(
+        String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult) {
+        return this.handOff(this.batchOperations.removeObjects(bucket, objects, onResult));
     }
 
     // -----------------------------------------------------------------
 
     @Override
     public String url(GetPresignedObjectUrlArgs args) {
+        return this.presignedUrls.url(args);
+    }
+
+    // -----------------------------------------------------------------
+
+    private CompletableFuture<Boolean> exists(String bucket) {
         return this.call(() -> {
-            return this.minioClient.getPresignedObjectUrl(args);
+            BucketExistsArgs args = BucketExistsArgs.builder()
+                .bucket(bucket)
+                .build();
+
+            return this.minioClient.bucketExists(args);
+        });
+    }
+
+    private void decompress(StatObjectResponse stat, Path file) {
+        this.call(() -> {
+            this.compression.decompress(stat, file);
+
+            return null;
         });
     }
+
+    private CompletableFuture<GetObjectResponse> getObject(GetObjectArgs args) throws Exception {
+        // Verified after decompressing, as the checksum covers the body uploaded.
+        CompletableFuture<GetObjectResponse> future = this.minioClient.getObject(args);
+        return future
+            .thenApply((response) -> this.checksums.verify(args, this.compression.decompress(args, response)))
+            .whenComplete((response, ex) -> {
+                if (ex != null) {
+                    future.thenAccept(Responses::closeQuietly);
+                }
+            });
+    }
+
+    // Run blocking work on a completion, such as writing or decompressing a file, off the OkHttp dispatcher.
+    private <T, R> CompletableFuture<R> thenApplyOnCompletion(CompletableFuture<T> future, Function<T, R> fn) {
+        return this.completionExecutor == null ? future.thenApply(fn) : future.thenApplyAsync(fn, this.completionExecutor);
+    }
+
+    private <T> CompletableFuture<T> handOff(CompletableFuture<T> future) {
+        return Futures.handOff(future, this.completionExecutor);
+    }
 }
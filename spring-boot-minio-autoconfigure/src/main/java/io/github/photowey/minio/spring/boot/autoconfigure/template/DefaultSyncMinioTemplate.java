@@ -15,14 +15,35 @@
  */
 package io.github.photowey.minio.spring.boot.autoconfigure.template;
 
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchOperations;
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.checksum.ChecksummedBody;
+import io.github.photowey.minio.spring.boot.autoconfigure.checksum.ObjectChecksums;
+import io.github.photowey.minio.spring.boot.autoconfigure.client.ExtendedMinioAsyncClient;
+import io.github.photowey.minio.spring.boot.autoconfigure.compress.ObjectCompression;
+import io.github.photowey.minio.spring.boot.autoconfigure.listing.ListOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.presign.PresignedUrls;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.MultipartUploadEngine;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.RangedDownloadEngine;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.Transfers;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
 import io.minio.*;
 import io.minio.messages.Bucket;
+import io.minio.messages.Item;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * {@code DefaultSyncMinioTemplate}
@@ -34,11 +55,41 @@ import java.util.List;
 public class DefaultSyncMinioTemplate implements MinioTemplate {
 
     private final MinioClient minioClient;
+    private final long partSize;
+    /**
+     * Parallel transfers and batches run on the {@link MinioAsyncClient}, {@code null} if none was given.
+     */
+    private final MultipartUploadEngine uploadEngine;
+    private final RangedDownloadEngine downloadEngine;
+    private final BatchOperations batchOperations;
+    private final PresignedUrls presignedUrls;
+    private final ObjectCompression compression;
+    private final ObjectChecksums checksums;
 
     private ConfigurableListableBeanFactory beanFactory;
 
     public DefaultSyncMinioTemplate(MinioClient minioClient) {
+        this(minioClient, null, new MinIOProperties());
+    }
+
+    public DefaultSyncMinioTemplate(MinioClient minioClient, MinioAsyncClient transferClient, MinIOProperties properties) {
         this.minioClient = minioClient;
+        this.partSize = properties.getUpload().getPartSize().toBytes();
+        if (transferClient != null) {
+            ExtendedMinioAsyncClient client = ExtendedMinioAsyncClient.of(transferClient);
+            this.uploadEngine = new MultipartUploadEngine(client, properties);
+            this.downloadEngine = new RangedDownloadEngine(client, properties);
+            this.batchOperations = new BatchOperations(client, properties);
+        } else {
+            this.uploadEngine = null;
+            this.downloadEngine = null;
+            this.batchOperations = null;
+        }
+        this.presignedUrls = new PresignedUrls(properties, (args) -> this.call(() -> {
+            return this.minioClient.getPresignedObjectUrl(args);
+        }));
+        this.compression = new ObjectCompression(properties.getCompression());
+        this.checksums = new ObjectChecksums(properties.getChecksum());
     }
 
     // -----------------------------------------------------------------
@@ -103,20 +154,64 @@ public class DefaultSyncMinioTemplate implements MinioTemplate {
 
     // -----------------------------------------------------------------
 
+    @Override
+    public Stream<Item> listObjects(String bucket, ListOptions options) {
+        ListObjectsArgs.Builder builder = ListObjectsArgs.builder()
+            .bucket(bucket)
+            .prefix(options.getPrefix())
+            .startAfter(options.getStartAfter())
+            .maxKeys(options.determinePageSize())
+            .recursive(options.getDelimiter() == null);
+        if (options.getDelimiter() != null) {
+            builder.delimiter(options.getDelimiter());
+        }
+
+        // The SDK iterable fetches the next page only once the current one is drained.
+        Iterable<Result<Item>> results = this.minioClient.listObjects(builder.build());
+
+        return StreamSupport.stream(results.spliterator(), false)
+            .map(result -> this.call(result::get));
+    }
+
+    // -----------------------------------------------------------------
+
     @Override
     public ObjectWriteResponse putObject(String bucket, String object, String contextType, InputStream in, long size) {
         return this.call(() -> {
-            PutObjectArgs args = PutObjectArgs.builder()
+            PutObjectArgs.Builder builder = PutObjectArgs.builder()
                 .bucket(bucket)
                 .object(object)
-                .stream(in, size, -1)
-                .contentType(contextType)
-                .build();
-
-            return this.minioClient.putObject(args);
+                .contentType(contextType);
+            // The checksum covers the body as given, before it's compressed.
+            ChecksummedBody body = this.checksums.checksum(in, size, this.partSize);
+            InputStream upload = this.compression.compress(contextType, body.body(), body.size());
+
+            try {
+                PutObjectArgs args = this.compression
+                    .stream(builder, upload, body.size(), this.partSize, body.userMetadata())
+                    .build();
+
+                return this.minioClient.putObject(args);
+            } finally {
+                this.compression.release(upload);
+            }
         });
     }
 
+    @Override
+    public ObjectWriteResponse uploadFile(String bucket, String object, Path file, UploadOptions options) {
+        this.requireAsyncClient("uploadFile");
+
+        return this.await(this.uploadEngine.upload(bucket, object, file, options));
+    }
+
+    @Override
+    public List<BatchResult<ObjectWriteResponse>> putObjects(List<PutObjectArgs> objects) {
+        this.requireAsyncClient("putObjects");
+
+        return this.await(this.batchOperations.putObjects(objects));
+    }
+
     // -----------------------------------------------------------------
 
     @Override
@@ -127,19 +222,41 @@ public class DefaultSyncMinioTemplate implements MinioTemplate {
                 .object(object)
                 .build();
 
-            return this.minioClient.getObject(args);
+            return this.getObject(args);
+        });
+    }
+
+    @Override
+    public GetObjectResponse downloadObject(GetObjectArgs args) {
+        return this.call(() -> {
+            return this.getObject(args);
         });
     }
 
     @Override
     public boolean downloadObject(DownloadObjectArgs args) {
         return this.call(() -> {
-            this.minioClient.downloadObject(args);
+            // One getObject, its headers carry the codec and the body is decompressed while it's written.
+            Transfers.transfer(this.getObject(Transfers.getObjectArgs(args)), Paths.get(args.filename()));
 
             return true;
         });
     }
 
+    @Override
+    public StatObjectResponse downloadFile(String bucket, String object, Path file, DownloadOptions options) {
+        this.requireAsyncClient("downloadFile");
+
+        StatObjectResponse stat = this.await(this.downloadEngine.download(bucket, object, file, options));
+        this.call(() -> {
+            this.compression.decompress(stat, file);
+
+            return null;
+        });
+
+        return stat;
+    }
+
     // -----------------------------------------------------------------
 
     @Override
@@ -149,13 +266,53 @@ public class DefaultSyncMinioTemplate implements MinioTemplate {
         });
     }
 
+    @Override
+    public List<BatchResult<StatObjectResponse>> statObjects(String bucket, List<String> objects) {
+        this.requireAsyncClient("statObjects");
+
+        return this.await(this.batchOperations.statObjects(bucket, objects));
+    }
+
     // -----------------------------------------------------------------
 
     @Override
-    public String url(GetPresignedObjectUrlArgs args) {
+    public boolean removeObject(String bucket, String object) {
         return this.call(() -> {
-            return this.minioClient.getPresignedObjectUrl(args);
+            RemoveObjectArgs args = RemoveObjectArgs.builder()
+                .bucket(bucket)
+                .object(object)
+                .build();
+            this.minioClient.removeObject(args);
+
+            return true;
         });
     }
-}
 
+    @Override
+    public List<BatchResult<Boolean>> removeObjects(
+        String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult) {
+        this.requireAsyncClient("removeObjects");
+
+        return this.await(this.batchOperations.removeObjects(bucket, objects, onResult));
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public String url(GetPresignedObjectUrlArgs args) {
+        return this.presignedUrls.url(args);
+    }
+
+    // -----------------------------------------------------------------
+
+    private GetObjectResponse getObject(GetObjectArgs args) throws Exception {
+        // Verified after decompressing, as the checksum covers the body uploaded.
+        return this.checksums.verify(args, this.compression.decompress(args, this.minioClient.getObject(args)));
+    }
+
+    private void requireAsyncClient(String operation) {
+        if (this.uploadEngine == null) {
+            throw new MinioException(operation + " requires a MinioAsyncClient, see DefaultSyncMinioTemplate(MinioClient, MinioAsyncClient, MinIOProperties)");
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.template;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.listing.ListOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
+import io.minio.*;
+import io.minio.messages.Bucket;
+import io.minio.messages.Item;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * {@code ForwardingSyncMinioTemplate}
+ * <p>
+ * Forwards every abstract operation to {@link #delegate()}, the base of the {@link MinioTemplateDecorator} templates.
+ * The default methods of {@link SyncMinioTemplate} funnel into the abstract ones, so overriding those is enough.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public abstract class ForwardingSyncMinioTemplate implements MinioTemplate {
+
+    protected abstract SyncMinioTemplate delegate();
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.delegate().setBeanFactory(beanFactory);
+    }
+
+    @Override
+    public BeanFactory beanFactory() {
+        return this.delegate().beanFactory();
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Override
+    public boolean bucketExists(String bucket) {
+        return this.delegate().bucketExists(bucket);
+    }
+
+    @Override
+    public boolean createBucket(String bucket) {
+        return this.delegate().createBucket(bucket);
+    }
+
+    @Override
+    public boolean removeBucket(String bucket) {
+        return this.delegate().removeBucket(bucket);
+    }
+
+    @Override
+    public List<Bucket> buckets() {
+        return this.delegate().buckets();
+    }
+
+    @Override
+    public Stream<Item> listObjects(String bucket, ListOptions options) {
+        return this.delegate().listObjects(bucket, options);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public ObjectWriteResponse putObject(String bucket, String object, String contextType, InputStream in, long size) {
+        return this.delegate().putObject(bucket, object, contextType, in, size);
+    }
+
+    @Override
+    public ObjectWriteResponse uploadFile(String bucket, String object, Path file, UploadOptions options) {
+        return this.delegate().uploadFile(bucket, object, file, options);
+    }
+
+    @Override
+    public List<BatchResult<ObjectWriteResponse>> putObjects(List<PutObjectArgs> objects) {
+        return this.delegate().putObjects(objects);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public InputStream downloadObject(String bucket, String object) {
+        return this.delegate().downloadObject(bucket, object);
+    }
+
+    @Override
+    public GetObjectResponse downloadObject(GetObjectArgs args) {
+        return this.delegate().downloadObject(args);
+    }
+
+    @Override
+    public boolean downloadObject(DownloadObjectArgs args) {
+        return this.delegate().downloadObject(args);
+    }
+
+    @Override
+    public StatObjectResponse downloadFile(String bucket, String object, Path file, DownloadOptions options) {
+        return this.delegate().downloadFile(bucket, object, file, options);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public StatObjectResponse statObject(StatObjectArgs args) {
+        return this.delegate().statObject(args);
+    }
+
+    @Override
+    public List<BatchResult<StatObjectResponse>> statObjects(String bucket, List<String> objects) {
+        return this.delegate().statObjects(bucket, objects);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public boolean removeObject(String bucket, String object) {
+        return this.delegate().removeObject(bucket, object);
+    }
+
+    @Override
+    public List<BatchResult<Boolean>> removeObjects(
+        String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult) {
+        return this.delegate().removeObjects(bucket, objects, onResult);
+    }
+
+    // -----------------------------------------------------------------
+
+    @Override
+    public String url(GetPresignedObjectUrlArgs args) {
+        return this.delegate().url(args);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.template;
+
+/**
+ * {@code MinioTemplateDecorator}
+ * <p>
+ * Wraps the {@code minioTemplate}/{@code asyncMinioTemplate} beans, usually with a
+ * {@link ForwardingSyncMinioTemplate}/{@link ForwardingAsyncMinioTemplate}.
+ * Decorator beans are applied in {@link org.springframework.core.Ordered} order,
+ * so a decorator with a lower order sits closer to the {@code MinIO} client.
+ * <p>
+ * The tenants build their built-in decorators from their own settings, a decorator bean only reaches their templates
+ * through {@link #forTenant(String)}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public interface MinioTemplateDecorator {
+
+    default SyncMinioTemplate decorate(SyncMinioTemplate template) {
+        return template;
+    }
+
+    default AsyncMinioTemplate decorate(AsyncMinioTemplate template) {
+        return template;
+    }
+
+    /**
+     * The decorator of the templates of {@code spring.minio.tenants.<tenant>}.
+     *
+     * @param tenant the tenant name
+     * @return the decorator, {@code null} to leave the tenant's templates alone
+     */
+    default MinioTemplateDecorator forTenant(String tenant) {
+        return null;
+    }
+}
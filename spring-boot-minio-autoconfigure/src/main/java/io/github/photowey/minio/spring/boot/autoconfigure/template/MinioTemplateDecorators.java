@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.template;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.DiskCache;
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.DiskCacheDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.MetadataCache;
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.MetadataCacheDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.coalesce.Coalescer;
+import io.github.photowey.minio.spring.boot.autoconfigure.coalesce.CoalescingDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.hedge.HedgeDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.hedge.Hedger;
+import io.github.photowey.minio.spring.boot.autoconfigure.limits.AdmissionControl;
+import io.github.photowey.minio.spring.boot.autoconfigure.limits.LimitsDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.retry.Retrier;
+import io.github.photowey.minio.spring.boot.autoconfigure.retry.RetryDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.retry.RetryPolicy;
+import org.springframework.core.OrderComparator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@code MinioTemplateDecorators}
+ * <p>
+ * Applies decorators, and builds the built-in ones from a {@link MinIOProperties}: the starter's decorator beans
+ * and every {@code MinioTenant} go through the same factory methods, so their chains can't drift apart.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class MinioTemplateDecorators {
+
+    private MinioTemplateDecorators() {
+        // utility class; can't create
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    public static SyncMinioTemplate decorate(SyncMinioTemplate template, Iterable<? extends MinioTemplateDecorator> decorators) {
+        SyncMinioTemplate decorated = template;
+        for (MinioTemplateDecorator decorator : decorators) {
+            decorated = decorator.decorate(decorated);
+        }
+
+        return decorated;
+    }
+
+    public static AsyncMinioTemplate decorate(AsyncMinioTemplate template, Iterable<? extends MinioTemplateDecorator> decorators) {
+        AsyncMinioTemplate decorated = template;
+        for (MinioTemplateDecorator decorator : decorators) {
+            decorated = decorator.decorate(decorated);
+        }
+
+        return decorated;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The built-in decorators enabled by {@code properties}, in {@link org.springframework.core.Ordered} order.
+     * The {@link AutoCloseable} ones must be closed by the caller.
+     *
+     * @param properties         the settings
+     * @param completionExecutor starts the calls admitted late and the retries, {@code null} for the common pool
+     * @return the decorators
+     */
+    public static List<MinioTemplateDecorator> create(MinIOProperties properties, Executor completionExecutor) {
+        List<MinioTemplateDecorator> decorators = new ArrayList<>(6);
+        if (properties.getCache().getMetadata().isEnabled()) {
+            decorators.add(metadataCache(properties));
+        }
+        if (properties.getCache().getDisk().isEnabled()) {
+            decorators.add(diskCache(properties));
+        }
+        if (properties.getCoalesce().isEnabled()) {
+            decorators.add(coalescing(properties));
+        }
+        if (properties.getLimits().isEnabled()) {
+            decorators.add(limits(properties, completionExecutor));
+        }
+        if (properties.getRetry().isEnabled()) {
+            decorators.add(retry(properties, completionExecutor));
+        }
+        if (properties.getAsync().isEnabled() && properties.getHedge().isEnabled()) {
+            decorators.add(hedge(properties));
+        }
+
+        OrderComparator.sort(decorators);
+
+        return decorators;
+    }
+
+    public static MetadataCacheDecorator metadataCache(MinIOProperties properties) {
+        return new MetadataCacheDecorator(new MetadataCache(properties.getCache().getMetadata()));
+    }
+
+    public static DiskCacheDecorator diskCache(MinIOProperties properties) {
+        return new DiskCacheDecorator(new DiskCache(properties.getCache().getDisk()));
+    }
+
+    public static CoalescingDecorator coalescing(MinIOProperties properties) {
+        return new CoalescingDecorator(new Coalescer(properties.getCoalesce()));
+    }
+
+    /**
+     * @param properties         the settings
+     * @param completionExecutor starts the calls admitted late, {@code null} for the common pool
+     * @return the {@link LimitsDecorator}
+     */
+    public static LimitsDecorator limits(MinIOProperties properties, Executor completionExecutor) {
+        return new LimitsDecorator(new AdmissionControl(properties.getLimits(), executor(completionExecutor)));
+    }
+
+    /**
+     * @param properties         the settings
+     * @param completionExecutor starts the retries of async calls, {@code null} for the common pool
+     * @return the {@link RetryDecorator}
+     */
+    public static RetryDecorator retry(MinIOProperties properties, Executor completionExecutor) {
+        return new RetryDecorator(new Retrier(new RetryPolicy(properties.getRetry()), executor(completionExecutor)));
+    }
+
+    public static HedgeDecorator hedge(MinIOProperties properties) {
+        return new HedgeDecorator(new Hedger(properties.getHedge()));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static Executor executor(Executor completionExecutor) {
+        return completionExecutor != null ? completionExecutor : ForkJoinPool.commonPool();
+    }
+}
@@ -15,9 +15,12 @@
  */
 package io.github.photowey.minio.spring.boot.autoconfigure.template;
 
+import io.github.photowey.minio.spring.boot.core.async.DispatcherGuard;
 import io.github.photowey.minio.spring.boot.core.exception.MinioException;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * {@code SilentCall}
@@ -43,4 +46,29 @@ public interface SilentCall {
             throw new MinioException(e);
         }
     }
+
+    /**
+     * Wait for an asynchronous call, unwrapping its failure.
+     *
+     * @param future the {@link Future}
+     * @param <T>    the result type
+     * @return the result
+     */
+    default <T> T await(Future<T> future) {
+        DispatcherGuard.checkBlocking(future);
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MinioException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof MinioException) {
+                throw (MinioException) cause;
+            }
+
+            throw new MinioException(cause);
+        }
+    }
 }
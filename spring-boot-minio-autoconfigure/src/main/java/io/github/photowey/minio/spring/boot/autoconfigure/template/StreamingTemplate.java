@@ -15,6 +15,12 @@
  */
 package io.github.photowey.minio.spring.boot.autoconfigure.template;
 
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+
 /**
  * {@code StreamingTemplate}
  *
@@ -25,4 +31,31 @@ package io.github.photowey.minio.spring.boot.autoconfigure.template;
 public interface StreamingTemplate extends ContainerTemplate {
 
     String DEFAULT_STREAM_CONTENT_TYPE = "application/octet-stream";
+
+    /**
+     * Object size of a stream whose length isn't known up front, uploaded part by part.
+     */
+    long UNKNOWN_SIZE = -1L;
+
+    /**
+     * The size of a stream whose remaining length is known without reading it, so that small bodies go up in a single
+     * request rather than through the part buffering of {@link #UNKNOWN_SIZE}.
+     *
+     * @param in the stream
+     * @return the remaining bytes of a {@link ByteArrayInputStream} or {@link FileInputStream},
+     * {@link #UNKNOWN_SIZE} for other streams
+     * @throws IOException if the file position can't be read
+     */
+    static long sizeOf(InputStream in) throws IOException {
+        if (in instanceof ByteArrayInputStream) {
+            return in.available();
+        }
+        if (in instanceof FileInputStream) {
+            FileChannel channel = ((FileInputStream) in).getChannel();
+
+            return channel.size() - channel.position();
+        }
+
+        return UNKNOWN_SIZE;
+    }
 }
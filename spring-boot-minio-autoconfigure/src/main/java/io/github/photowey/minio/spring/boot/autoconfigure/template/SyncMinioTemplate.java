@@ -15,13 +15,28 @@
  */
 package io.github.photowey.minio.spring.boot.autoconfigure.template;
 
+import io.github.photowey.minio.spring.boot.autoconfigure.batch.BatchResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.listing.ListOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.TransferResult;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.Transfers;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.UploadOptions;
 import io.minio.*;
 import io.minio.http.Method;
 import io.minio.messages.Bucket;
+import io.minio.messages.Item;
 
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * {@code SyncMinioTemplate}
@@ -61,24 +76,154 @@ public interface SyncMinioTemplate extends StreamingTemplate, SilentCall {
 
     // ----------------------------------------------------------------
 
+    default Stream<Item> listObjects(String bucket, String prefix) {
+        return this.listObjects(bucket, ListOptions.prefix(prefix));
+    }
+
+    /**
+     * List the objects of a bucket as a lazy {@link Stream}.
+     * <p>
+     * The next page of {@code ListOptions.pageSize} keys is fetched only when the stream reaches it,
+     * so memory stays bounded by one page whatever the bucket size.
+     *
+     * @param bucket  the bucket
+     * @param options the {@link ListOptions}
+     * @return the objects, in key order
+     */
+    Stream<Item> listObjects(String bucket, ListOptions options);
+
+    // ----------------------------------------------------------------
+
     default ObjectWriteResponse putObject(String bucket, String object, InputStream in) {
         return this.call(() -> {
-            return this.putObject(bucket, object, DEFAULT_STREAM_CONTENT_TYPE, in, in.available());
+            return this.putObject(bucket, object, DEFAULT_STREAM_CONTENT_TYPE, in, StreamingTemplate.sizeOf(in));
         });
     }
 
     default ObjectWriteResponse putObject(String bucket, String object, String contextType, InputStream in) {
         return this.call(() -> {
-            return this.putObject(bucket, object, contextType, in, in.available());
+            return this.putObject(bucket, object, contextType, in, StreamingTemplate.sizeOf(in));
         });
     }
 
+    /**
+     * Upload an object from a stream.
+     * <p>
+     * With {@link #UNKNOWN_SIZE} the stream is read until {@code EOF} and uploaded in parts of
+     * {@code spring.minio.upload.part-size}, buffering at most one part at a time.
+     *
+     * @param bucket      the bucket
+     * @param object      the object name
+     * @param contextType the content type
+     * @param in          the stream
+     * @param size        the exact stream length or {@link #UNKNOWN_SIZE}
+     * @return {@link ObjectWriteResponse}
+     */
     ObjectWriteResponse putObject(String bucket, String object, String contextType, InputStream in, long size);
 
     // ----------------------------------------------------------------
 
+    default ObjectWriteResponse uploadFile(String bucket, String object, Path file) {
+        return this.uploadFile(bucket, object, file, UploadOptions.defaults());
+    }
+
+    /**
+     * Upload a local file, files larger than one part go up as a parallel multipart upload.
+     * <p>
+     * A failed multipart upload is aborted before the failure is reported.
+     *
+     * @param bucket  the bucket
+     * @param object  the object name
+     * @param file    the local file
+     * @param options the {@link UploadOptions}
+     * @return {@link ObjectWriteResponse}
+     */
+    ObjectWriteResponse uploadFile(String bucket, String object, Path file, UploadOptions options);
+
+    /**
+     * Upload many objects with at most {@code spring.minio.batch.concurrency} uploads in flight.
+     *
+     * @param objects the {@link PutObjectArgs}
+     * @return the per-object results, in the order of {@code objects}
+     */
+    List<BatchResult<ObjectWriteResponse>> putObjects(List<PutObjectArgs> objects);
+
+    // ----------------------------------------------------------------
+
     InputStream downloadObject(String bucket, String object);
 
+    /**
+     * Read an object with the ranges and conditions of {@code args},
+     * e.g. {@code notMatchETag} fails with the {@code 304} of an unchanged object.
+     *
+     * @param args the {@link GetObjectArgs}
+     * @return the {@link GetObjectResponse}, to be closed by the caller
+     */
+    GetObjectResponse downloadObject(GetObjectArgs args);
+
+    default TransferResult transferTo(String bucket, String object, WritableByteChannel target) {
+        GetObjectArgs args = GetObjectArgs.builder()
+            .bucket(bucket)
+            .object(object)
+            .build();
+
+        return this.transferTo(args, target);
+    }
+
+    /**
+     * Move an object body into {@code target} through a pooled direct buffer. The response is always closed,
+     * {@code target} is left open.
+     *
+     * @param args   the {@link GetObjectArgs}, e.g. with the {@code offset}/{@code length} of a byte range
+     * @param target the {@link WritableByteChannel}
+     * @return the {@link TransferResult}
+     */
+    default TransferResult transferTo(GetObjectArgs args, WritableByteChannel target) {
+        return Transfers.transfer(this.downloadObject(args), target);
+    }
+
+    default TransferResult transferTo(String bucket, String object, OutputStream target) {
+        GetObjectArgs args = GetObjectArgs.builder()
+            .bucket(bucket)
+            .object(object)
+            .build();
+
+        return this.transferTo(args, target);
+    }
+
+    /**
+     * Move an object body into {@code target}, e.g. a servlet response. The response is always closed,
+     * {@code target} is left open.
+     *
+     * @param args   the {@link GetObjectArgs}, e.g. with the {@code offset}/{@code length} of a byte range
+     * @param target the {@link OutputStream}
+     * @return the {@link TransferResult}
+     */
+    default TransferResult transferTo(GetObjectArgs args, OutputStream target) {
+        return Transfers.transfer(this.downloadObject(args), target);
+    }
+
+    default TransferResult transferTo(String bucket, String object, Path file) {
+        GetObjectArgs args = GetObjectArgs.builder()
+            .bucket(bucket)
+            .object(object)
+            .build();
+
+        return this.transferTo(args, file);
+    }
+
+    /**
+     * Move an object body into a local file with {@link FileChannel#transferFrom} over a single {@code GET},
+     * the file is replaced once complete. See {@link #downloadFile(String, String, Path)} for large objects.
+     *
+     * @param args the {@link GetObjectArgs}, e.g. with the {@code offset}/{@code length} of a byte range
+     * @param file the local file
+     * @return the {@link TransferResult}
+     */
+    default TransferResult transferTo(GetObjectArgs args, Path file) {
+        return Transfers.transfer(this.downloadObject(args), file);
+    }
+
     default void downloadObject(String bucket, String object, String filename) {
         this.run(() -> {
             DownloadObjectArgs args = DownloadObjectArgs.builder()
@@ -93,6 +238,24 @@ public interface SyncMinioTemplate extends StreamingTemplate, SilentCall {
 
     boolean downloadObject(DownloadObjectArgs args);
 
+    default StatObjectResponse downloadFile(String bucket, String object, Path file) {
+        return this.downloadFile(bucket, object, file, DownloadOptions.defaults());
+    }
+
+    /**
+     * Download an object into a local file, fetching byte ranges in parallel.
+     * <p>
+     * Every range must match the {@code ETag} of the initial {@code statObject},
+     * the file is replaced only after all ranges have been written.
+     *
+     * @param bucket  the bucket
+     * @param object  the object name
+     * @param file    the local file
+     * @param options the {@link DownloadOptions}
+     * @return the {@link StatObjectResponse} of the downloaded object
+     */
+    StatObjectResponse downloadFile(String bucket, String object, Path file, DownloadOptions options);
+
     // ----------------------------------------------------------------
 
     default StatObjectResponse statObject(String bucket, String object) {
@@ -108,6 +271,49 @@ public interface SyncMinioTemplate extends StreamingTemplate, SilentCall {
 
     StatObjectResponse statObject(StatObjectArgs args);
 
+    /**
+     * Stat many objects with at most {@code spring.minio.batch.concurrency} requests in flight.
+     * <p>
+     * A missing object yields a failed {@link BatchResult} instead of failing the batch.
+     *
+     * @param bucket  the bucket
+     * @param objects the object names
+     * @return the per-object results, in the order of {@code objects}
+     */
+    List<BatchResult<StatObjectResponse>> statObjects(String bucket, List<String> objects);
+
+    // ----------------------------------------------------------------
+
+    boolean removeObject(String bucket, String object);
+
+    /**
+     * Remove many objects with S3 multi-delete requests of up to 1000 keys each.
+     * <p>
+     * Keys the server refused to delete, or keys of a failed request, yield failed {@link BatchResult}s.
+     *
+     * @param bucket  the bucket
+     * @param objects the object names
+     * @return the per-object results, in the order of {@code objects}
+     */
+    default List<BatchResult<Boolean>> removeObjects(String bucket, List<String> objects) {
+        return this.removeObjects(bucket, objects, (result) -> {
+        });
+    }
+
+    /**
+     * Remove many objects like {@link #removeObjects(String, List)}, reporting each result to {@code onResult}
+     * as soon as its multi-delete request completes, so a failed key is known before the whole batch is done.
+     * <p>
+     * {@code onResult} runs on the thread completing the request, one request at a time, and should return quickly.
+     * If it throws, the batch fails with its exception.
+     *
+     * @param bucket   the bucket
+     * @param objects  the object names
+     * @param onResult the per-object result listener
+     * @return the per-object results, in the order of {@code objects}
+     */
+    List<BatchResult<Boolean>> removeObjects(String bucket, List<String> objects, Consumer<BatchResult<Boolean>> onResult);
+
     // -----------------------------------------------------------------
 
     default String url(String bucket, String object) {
@@ -135,5 +341,23 @@ public interface SyncMinioTemplate extends StreamingTemplate, SilentCall {
         });
     }
 
+    /**
+     * Presign {@code GET} URLs of several objects of a bucket.
+     *
+     * @param bucket   the bucket
+     * @param objects  the objects
+     * @param expiry   the expiry
+     * @param timeUnit the {@link TimeUnit} of {@code expiry}
+     * @return the URLs by object, in the order of {@code objects}
+     */
+    default Map<String, String> urls(String bucket, List<String> objects, int expiry, TimeUnit timeUnit) {
+        Map<String, String> urls = new LinkedHashMap<>(objects.size() * 4 / 3 + 1);
+        for (String object : objects) {
+            urls.put(object, this.url(bucket, object, expiry, timeUnit));
+        }
+
+        return urls;
+    }
+
     String url(GetPresignedObjectUrlArgs args);
 }
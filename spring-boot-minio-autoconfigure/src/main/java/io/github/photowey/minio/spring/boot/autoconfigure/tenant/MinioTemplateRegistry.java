@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.tenant;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.MinioTemplateDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * {@code MinioTemplateRegistry}
+ * <p>
+ * The {@link MinioTenant}s of {@code spring.minio.tenants.<name>.*}, looked up by name.
+ * The default {@code spring.minio.*} templates aren't part of it.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class MinioTemplateRegistry implements BeanFactoryAware, AutoCloseable {
+
+    public static final String MINIO_TEMPLATE_REGISTRY_BEAN_NAME = "minioTemplateRegistry";
+
+    private final Map<String, MinioTenant> tenants;
+
+    /**
+     * @param tenants            the tenant settings by name
+     * @param httpClients        creates the private {@link OkHttpClient} of a tenant
+     * @param completionExecutor completes the async futures, {@code null} for the {@code OkHttp} threads
+     */
+    public MinioTemplateRegistry(
+        Map<String, MinIOProperties> tenants,
+        Function<MinIOProperties, OkHttpClient> httpClients,
+        Executor completionExecutor) {
+        this(tenants, httpClients, completionExecutor, Collections.emptyList());
+    }
+
+    /**
+     * @param tenants            the tenant settings by name
+     * @param httpClients        creates the private {@link OkHttpClient} of a tenant
+     * @param completionExecutor completes the async futures, {@code null} for the {@code OkHttp} threads
+     * @param decorators         the decorator beans, applied to a tenant by {@link MinioTemplateDecorator#forTenant(String)}
+     */
+    public MinioTemplateRegistry(
+        Map<String, MinIOProperties> tenants,
+        Function<MinIOProperties, OkHttpClient> httpClients,
+        Executor completionExecutor,
+        Iterable<? extends MinioTemplateDecorator> decorators) {
+        Map<String, MinioTenant> created = new LinkedHashMap<>(tenants.size());
+        try {
+            for (Map.Entry<String, MinIOProperties> tenant : tenants.entrySet()) {
+                MinIOProperties properties = tenant.getValue();
+                created.put(tenant.getKey(),
+                    new MinioTenant(tenant.getKey(), properties, httpClients.apply(properties), completionExecutor, decorators));
+            }
+        } catch (RuntimeException e) {
+            created.values().forEach(MinioTenant::close);
+            throw e;
+        }
+
+        this.tenants = Collections.unmodifiableMap(created);
+    }
+
+    // ----------------------------------------------------------------
+
+    public Set<String> names() {
+        return this.tenants.keySet();
+    }
+
+    public boolean contains(String name) {
+        return this.tenants.containsKey(name);
+    }
+
+    public MinioTenant tenant(String name) {
+        MinioTenant tenant = this.tenants.get(name);
+        if (tenant == null) {
+            throw new MinioException("No MinIO tenant named " + name + ", expected one of " + this.tenants.keySet());
+        }
+
+        return tenant;
+    }
+
+    public SyncMinioTemplate sync(String name) {
+        return this.tenant(name).sync();
+    }
+
+    public AsyncMinioTemplate async(String name) {
+        return this.tenant(name).async();
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        for (MinioTenant tenant : this.tenants.values()) {
+            if (tenant.hasSync()) {
+                tenant.sync().setBeanFactory(beanFactory);
+            }
+            if (tenant.hasAsync()) {
+                tenant.async().setBeanFactory(beanFactory);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        this.tenants.values().forEach(MinioTenant::close);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.tenant;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.balancer.BalancedAsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.balancer.BalancedSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.balancer.LoadBalancer;
+import io.github.photowey.minio.spring.boot.autoconfigure.client.MinioClients;
+import io.github.photowey.minio.spring.boot.autoconfigure.http.OkHttpClients;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.DefaultAsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.DefaultSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.MinioTemplateDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.MinioTemplateDecorators;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+import okhttp3.OkHttpClient;
+import org.springframework.core.OrderComparator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * {@code MinioTenant}
+ * <p>
+ * One named cluster of the {@link MinioTemplateRegistry}: its clients run on a private {@link OkHttpClient}, so
+ * a slow tenant only exhausts its own connection pool and dispatcher. The templates are wrapped by the built-in
+ * decorators of the tenant's own {@code cache}/{@code coalesce}/{@code limits}/{@code retry}/{@code hedge}
+ * settings, see {@link MinioTemplateDecorators#create(MinIOProperties, Executor)}, and by what the
+ * {@link MinioTemplateDecorator} beans return from {@link MinioTemplateDecorator#forTenant(String)}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class MinioTenant implements AutoCloseable {
+
+    private final String name;
+    private final MinIOProperties properties;
+    private final OkHttpClient httpClient;
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    private final SyncMinioTemplate sync;
+    private final AsyncMinioTemplate async;
+
+    MinioTenant(
+        String name,
+        MinIOProperties properties,
+        OkHttpClient httpClient,
+        Executor completionExecutor,
+        Iterable<? extends MinioTemplateDecorator> decorators) {
+        this.name = name;
+        this.properties = properties;
+        this.httpClient = httpClient;
+
+        List<MinioTemplateDecorator> chain = this.decorators(completionExecutor, decorators);
+        LoadBalancer balancer = properties.getEndpoints().isEmpty()
+            ? null
+            : this.register(new LoadBalancer(properties, httpClient, completionExecutor));
+
+        if (properties.getSync().isEnabled()) {
+            SyncMinioTemplate template = balancer != null
+                ? new BalancedSyncMinioTemplate(balancer)
+                : new DefaultSyncMinioTemplate(
+                MinioClients.sync(properties, httpClient), MinioClients.async(properties, httpClient), properties);
+            this.sync = MinioTemplateDecorators.decorate(template, chain);
+        } else {
+            this.sync = null;
+        }
+
+        if (properties.getAsync().isEnabled()) {
+            AsyncMinioTemplate template = balancer != null
+                ? new BalancedAsyncMinioTemplate(balancer)
+                : new DefaultAsyncMinioTemplate(MinioClients.async(properties, httpClient), properties, completionExecutor);
+            this.async = MinioTemplateDecorators.decorate(template, chain);
+        } else {
+            this.async = null;
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public String name() {
+        return this.name;
+    }
+
+    public MinIOProperties properties() {
+        return this.properties;
+    }
+
+    public OkHttpClient httpClient() {
+        return this.httpClient;
+    }
+
+    public SyncMinioTemplate sync() {
+        if (this.sync == null) {
+            throw new MinioException("spring.minio.tenants." + this.name + ".sync.enabled is false");
+        }
+
+        return this.sync;
+    }
+
+    public AsyncMinioTemplate async() {
+        if (this.async == null) {
+            throw new MinioException("spring.minio.tenants." + this.name + ".async.enabled is false");
+        }
+
+        return this.async;
+    }
+
+    public boolean hasSync() {
+        return this.sync != null;
+    }
+
+    public boolean hasAsync() {
+        return this.async != null;
+    }
+
+    /**
+     * Stops the tenant's timers and releases its connection pool, calls in flight fail.
+     */
+    @Override
+    public void close() {
+        for (int i = this.resources.size() - 1; i >= 0; i--) {
+            try {
+                this.resources.get(i).close();
+            } catch (Exception ignored) {
+                // best effort, the others still have to be released
+            }
+        }
+
+        OkHttpClients.close(this.httpClient);
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    // ----------------------------------------------------------------
+
+    private List<MinioTemplateDecorator> decorators(
+        Executor completionExecutor, Iterable<? extends MinioTemplateDecorator> shared) {
+        List<MinioTemplateDecorator> decorators = MinioTemplateDecorators.create(this.properties, completionExecutor);
+        for (MinioTemplateDecorator decorator : decorators) {
+            if (decorator instanceof AutoCloseable) {
+                this.register((AutoCloseable) decorator);
+            }
+        }
+        for (MinioTemplateDecorator decorator : shared) {
+            MinioTemplateDecorator scoped = decorator.forTenant(this.name);
+            if (scoped != null) {
+                decorators.add(scoped);
+            }
+        }
+
+        OrderComparator.sort(decorators);
+
+        return decorators;
+    }
+
+    private <T extends AutoCloseable> T register(T resource) {
+        this.resources.add(resource);
+
+        return resource;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.transfer;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * {@code DownloadOptions}
+ * <p>
+ * Unset(non-positive) options fall back to {@code spring.minio.download.*}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+@Getter
+@Builder
+public class DownloadOptions {
+
+    /**
+     * Range size in bytes.
+     */
+    private final long partSize;
+    /**
+     * Max ranges in flight.
+     */
+    private final int parallelism;
+
+    public static DownloadOptions defaults() {
+        return DownloadOptions.builder().build();
+    }
+}
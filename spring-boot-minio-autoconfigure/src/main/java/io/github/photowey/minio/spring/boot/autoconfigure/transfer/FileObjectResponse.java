@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.transfer;
+
+import io.minio.GetObjectResponse;
+import okhttp3.Headers;
+
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+
+/**
+ * {@code FileObjectResponse}
+ * <p>
+ * A {@link GetObjectResponse} read from a local file, such as a disk cache hit. {@link Transfers} copies its body
+ * with {@link FileChannel#transferTo} rather than through a buffer.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class FileObjectResponse extends GetObjectResponse {
+
+    private final FileChannel channel;
+
+    public FileObjectResponse(Headers headers, String bucket, String region, String object, FileChannel channel) {
+        super(headers, bucket, region, object, Channels.newInputStream(channel));
+        this.channel = channel;
+    }
+
+    /**
+     * @return the channel of the file, read from its position on, closed with the response
+     */
+    public FileChannel channel() {
+        return this.channel;
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.transfer;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import io.github.photowey.minio.spring.boot.autoconfigure.client.ExtendedMinioAsyncClient;
+import io.github.photowey.minio.spring.boot.autoconfigure.http.Responses;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SilentCall;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.StreamingTemplate;
+import io.github.photowey.minio.spring.boot.core.async.ParallelFutures;
+import io.minio.ObjectWriteResponse;
+import io.minio.UploadObjectArgs;
+import io.minio.UploadPartResponse;
+import io.minio.messages.Part;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code MultipartUploadEngine}
+ * <p>
+ * Uploads a local file as a multipart upload with several parts in flight.
+ * Every part gets its own {@link RandomAccessFile} positioned at the part offset, the {@code MinIO} SDK streams
+ * it to the socket through the file channel, so no part is copied into the heap.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class MultipartUploadEngine implements SilentCall {
+
+    private static final int MAX_PARTS = 10_000;
+    private static final long MEBIBYTE = 1024L * 1024;
+
+    private final ExtendedMinioAsyncClient minioClient;
+    private final long partSize;
+    private final int parallelism;
+
+    public MultipartUploadEngine(ExtendedMinioAsyncClient minioClient, MinIOProperties properties) {
+        this.minioClient = minioClient;
+        this.partSize = properties.getUpload().getPartSize().toBytes();
+        this.parallelism = properties.getUpload().getParallelism();
+    }
+
+    public CompletableFuture<ObjectWriteResponse> upload(String bucket, String object, Path file, UploadOptions options) {
+        return this.call(() -> {
+            long size = Files.size(file);
+            long partSize = this.determinePartSize(size, options);
+            String contentType = options.getContentType() != null
+                ? options.getContentType()
+                : StreamingTemplate.DEFAULT_STREAM_CONTENT_TYPE;
+
+            if (size <= partSize) {
+                UploadObjectArgs args = UploadObjectArgs.builder()
+                    .bucket(bucket)
+                    .object(object)
+                    .filename(file.toString(), partSize)
+                    .contentType(contentType)
+                    .build();
+
+                return this.minioClient.uploadObject(args);
+            }
+
+            Multimap<String, String> headers = HashMultimap.create();
+            headers.put("Content-Type", contentType);
+
+            int parallelism = options.getParallelism() > 0 ? options.getParallelism() : this.parallelism;
+
+            return this.minioClient.createMultipartUploadAsync(bucket, null, object, headers, null)
+                .thenCompose(created -> {
+                    String uploadId = created.result().uploadId();
+                    Multipart multipart = new Multipart(bucket, object, uploadId, file, size, partSize);
+
+                    return this.uploadParts(multipart, parallelism);
+                });
+        });
+    }
+
+    // ----------------------------------------------------------------
+
+    private CompletableFuture<ObjectWriteResponse> uploadParts(Multipart multipart, int parallelism) {
+        List<Integer> partNumbers = new ArrayList<>(multipart.partCount());
+        for (int partNumber = 1; partNumber <= multipart.partCount(); partNumber++) {
+            partNumbers.add(partNumber);
+        }
+
+        CompletableFuture<ObjectWriteResponse> upload = ParallelFutures.traverse(
+                partNumbers, parallelism, (partNumber) -> this.uploadPart(multipart, partNumber))
+            .thenCompose(responses -> {
+                Part[] parts = new Part[responses.size()];
+                for (int i = 0; i < parts.length; i++) {
+                    UploadPartResponse response = responses.get(i);
+                    parts[i] = new Part(response.partNumber(), response.etag());
+                }
+
+                return this.call(() -> this.minioClient.completeMultipartUploadAsync(
+                    multipart.bucket, null, multipart.object, multipart.uploadId, parts, null, null));
+            });
+
+        CompletableFuture<ObjectWriteResponse> fx = new CompletableFuture<>();
+        upload.whenComplete((response, ex) -> {
+            if (ex == null) {
+                fx.complete(response);
+
+                return;
+            }
+
+            this.abort(multipart).whenComplete((x, abortEx) -> {
+                if (abortEx != null) {
+                    ex.addSuppressed(abortEx);
+                }
+                fx.completeExceptionally(ex);
+            });
+        });
+
+        return fx;
+    }
+
+    private CompletableFuture<UploadPartResponse> uploadPart(Multipart multipart, int partNumber) {
+        return this.call(() -> {
+            long offset = (partNumber - 1) * multipart.partSize;
+            long length = Math.min(multipart.partSize, multipart.size - offset);
+
+            RandomAccessFile part = new RandomAccessFile(multipart.file.toFile(), "r");
+            try {
+                part.seek(offset);
+
+                return this.minioClient.uploadPartAsync(
+                        multipart.bucket, null, multipart.object, part, length, multipart.uploadId, partNumber, null, null)
+                    .whenComplete((response, ex) -> Responses.closeQuietly(part));
+            } catch (Exception e) {
+                Responses.closeQuietly(part);
+                throw e;
+            }
+        });
+    }
+
+    private CompletableFuture<?> abort(Multipart multipart) {
+        try {
+            return this.minioClient.abortMultipartUploadAsync(
+                multipart.bucket, null, multipart.object, multipart.uploadId, null, null);
+        } catch (Exception e) {
+            CompletableFuture<?> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+
+            return failed;
+        }
+    }
+
+    private long determinePartSize(long size, UploadOptions options) {
+        long partSize = options.getPartSize() > 0 ? options.getPartSize() : this.partSize;
+        long minPartSize = (size + MAX_PARTS - 1) / MAX_PARTS;
+        if (partSize < minPartSize) {
+            partSize = ((minPartSize + MEBIBYTE - 1) / MEBIBYTE) * MEBIBYTE;
+        }
+
+        return Math.max(partSize, MinIOProperties.Upload.MIN_PART_SIZE);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static final class Multipart {
+
+        private final String bucket;
+        private final String object;
+        private final String uploadId;
+        private final Path file;
+        private final long size;
+        private final long partSize;
+
+        private Multipart(String bucket, String object, String uploadId, Path file, long size, long partSize) {
+            this.bucket = bucket;
+            this.object = object;
+            this.uploadId = uploadId;
+            this.file = file;
+            this.size = size;
+            this.partSize = partSize;
+        }
+
+        private int partCount() {
+            return (int) ((this.size + this.partSize - 1) / this.partSize);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.transfer;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.client.ExtendedMinioAsyncClient;
+import io.github.photowey.minio.spring.boot.autoconfigure.http.Responses;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.SilentCall;
+import io.github.photowey.minio.spring.boot.core.async.ParallelFutures;
+import io.github.photowey.minio.spring.boot.core.buffer.BufferPool;
+import io.github.photowey.minio.spring.boot.core.buffer.PooledBuffer;
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code RangedDownloadEngine}
+ * <p>
+ * Downloads an object into a local file as byte ranges with several ranges in flight.
+ * The object is stat-ed once, every range is requested with its {@code ETag} as precondition and written at its
+ * own position of a shared {@link FileChannel}, so ranges neither seek nor lock each other.
+ * The ranges land in a {@code .part} file that is moved over the target once every range has matched the {@code ETag}.
+ * The bodies are copied through direct buffers of the shared {@link BufferPool}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class RangedDownloadEngine implements SilentCall {
+
+
+    private final ExtendedMinioAsyncClient minioClient;
+    private final long partSize;
+    private final int parallelism;
+    private final BufferPool bufferPool = BufferPool.shared();
+
+    public RangedDownloadEngine(ExtendedMinioAsyncClient minioClient, MinIOProperties properties) {
+        this.minioClient = minioClient;
+        this.partSize = properties.getDownload().getPartSize().toBytes();
+        this.parallelism = properties.getDownload().getParallelism();
+    }
+
+    public CompletableFuture<StatObjectResponse> download(String bucket, String object, Path file, DownloadOptions options) {
+        return this.call(() -> {
+            StatObjectArgs args = StatObjectArgs.builder()
+                .bucket(bucket)
+                .object(object)
+                .build();
+
+            return this.minioClient.statObject(args)
+                .thenCompose(stat -> this.call(() -> this.download(new Download(stat, file, options))));
+        });
+    }
+
+    // ----------------------------------------------------------------
+
+    private CompletableFuture<StatObjectResponse> download(Download download) throws IOException {
+        download.partFile = Transfers.createPartFile(download.file);
+        try {
+            download.channel = FileChannel.open(download.partFile, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            deleteQuietly(download.partFile, e);
+            throw e;
+        }
+
+        List<Range> ranges = new ArrayList<>();
+        for (long offset = 0; offset < download.size(); offset += download.partSize) {
+            ranges.add(new Range(offset, Math.min(download.partSize, download.size() - offset)));
+        }
+
+        CompletableFuture<StatObjectResponse> fx = new CompletableFuture<>();
+        ParallelFutures.traverse(ranges, download.parallelism, (range) -> this.downloadRange(download, range))
+            .whenComplete((x, ex) -> {
+                try {
+                    download.channel.close();
+                    if (ex != null) {
+                        throw ex;
+                    }
+
+                    this.commit(download);
+                    fx.complete(download.stat);
+                } catch (Throwable e) {
+                    deleteQuietly(download.partFile, e);
+                    fx.completeExceptionally(e);
+                }
+            });
+
+        return fx;
+    }
+
+    private CompletableFuture<Long> downloadRange(Download download, Range range) {
+        return this.call(() -> {
+            GetObjectArgs args = GetObjectArgs.builder()
+                .bucket(download.stat.bucket())
+                .object(download.stat.object())
+                .offset(range.offset)
+                .length(range.length)
+                .matchETag(download.stat.etag())
+                .build();
+
+            // The body is drained on the thread completing the response, the way OkHttp callbacks consume it.
+            return this.minioClient.getObject(args)
+                .thenApply(response -> this.write(download, range, response));
+        });
+    }
+
+    private long write(Download download, Range range, GetObjectResponse response) {
+        try (ReadableByteChannel source = Channels.newChannel(response)) {
+            String etag = Responses.trimETag(response.headers().get("ETag"));
+            if (!download.stat.etag().equals(etag)) {
+                throw new MinioException(String.format(
+                    "object: %s changed during download, ETag %s != %s", download.stat.object(), etag, download.stat.etag()));
+            }
+
+            long position = range.offset;
+            try (PooledBuffer pooled = this.bufferPool.acquire(BufferPool.CHUNK_SIZE)) {
+                ByteBuffer buffer = pooled.buffer();
+                while (source.read(buffer) >= 0) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        position += download.channel.write(buffer, position);
+                    }
+                    buffer.clear();
+                }
+            }
+
+            long written = position - range.offset;
+            if (written != range.length) {
+                throw new MinioException(String.format(
+                    "object: %s range %d-%d truncated, got %d of %d bytes",
+                    download.stat.object(), range.offset, range.offset + range.length - 1, written, range.length));
+            }
+
+            return written;
+        } catch (IOException e) {
+            throw new MinioException(e);
+        }
+    }
+
+    private void commit(Download download) throws IOException {
+        long size = Files.size(download.partFile);
+        if (size != download.size()) {
+            throw new MinioException(String.format(
+                "object: %s size mismatch, got %d of %d bytes", download.stat.object(), size, download.size()));
+        }
+
+        try {
+            Files.move(download.partFile, download.file,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(download.partFile, download.file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file, Throwable cause) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private final class Download {
+
+        private final StatObjectResponse stat;
+        private final Path file;
+        private final long partSize;
+        private final int parallelism;
+
+        private Path partFile;
+        private FileChannel channel;
+
+        private Download(StatObjectResponse stat, Path file, DownloadOptions options) {
+            this.stat = stat;
+            this.file = file;
+            this.partSize = options.getPartSize() > 0 ? options.getPartSize() : RangedDownloadEngine.this.partSize;
+            this.parallelism = options.getParallelism() > 0 ? options.getParallelism() : RangedDownloadEngine.this.parallelism;
+        }
+
+        private long size() {
+            return this.stat.size();
+        }
+    }
+
+    private static final class Range {
+
+        private final long offset;
+        private final long length;
+
+        private Range(long offset, long length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
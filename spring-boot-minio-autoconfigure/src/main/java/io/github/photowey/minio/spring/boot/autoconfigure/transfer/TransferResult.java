@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.transfer;
+
+import lombok.Getter;
+
+/**
+ * {@code TransferResult}
+ * <p>
+ * The outcome of a {@code transferTo}: the bytes moved and the {@code ETag} of the object they were read from.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+@Getter
+public final class TransferResult {
+
+    private final long bytes;
+    private final String etag;
+
+    public TransferResult(long bytes, String etag) {
+        this.bytes = bytes;
+        this.etag = etag;
+    }
+
+    @Override
+    public String toString() {
+        return "TransferResult(bytes=" + this.bytes + ", etag=" + this.etag + ")";
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.transfer;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.http.Responses;
+import io.github.photowey.minio.spring.boot.core.buffer.BufferPool;
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+import io.minio.DownloadObjectArgs;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@code Transfers}
+ * <p>
+ * Moves an object body into a channel, a stream or a file, closing the response whatever happens.
+ * A body shorter than its {@code Content-Length} fails the transfer.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class Transfers {
+
+    private static final String PART_FILE_SUFFIX = ".part";
+    private static final int STREAM_BUFFER_SIZE = 16 * 1024;
+
+    private Transfers() {
+        // utility class; can't create
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    /**
+     * Copy through a pooled direct buffer, which a file or socket channel writes as it is rather than through a
+     * temporary direct copy of its own. The body still reaches it through the array of {@link Channels#newChannel},
+     * a stream can't fill a direct buffer. A {@link FileObjectResponse} is copied with {@link FileChannel#transferTo}.
+     *
+     * @param response the {@link GetObjectResponse}
+     * @param target   the {@link WritableByteChannel}, left open
+     * @return the {@link TransferResult}
+     */
+    public static TransferResult transfer(GetObjectResponse response, WritableByteChannel target) {
+        if (response instanceof FileObjectResponse) {
+            try (FileObjectResponse source = (FileObjectResponse) response) {
+                return result(response, transferTo(source.channel(), target));
+            } catch (IOException e) {
+                throw new MinioException(e);
+            }
+        }
+
+        try (ReadableByteChannel source = Channels.newChannel(response)) {
+            return result(response, BufferPool.shared().copy(source, target));
+        } catch (IOException e) {
+            throw new MinioException(e);
+        }
+    }
+
+    /**
+     * Copy through a heap array, a stream takes one anyway and a direct buffer in between would add two copies.
+     *
+     * @param response the {@link GetObjectResponse}
+     * @param target   the {@link OutputStream}, left open
+     * @return the {@link TransferResult}
+     */
+    public static TransferResult transfer(GetObjectResponse response, OutputStream target) {
+        try (GetObjectResponse source = response) {
+            byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+            long bytes = 0;
+            int n;
+            while ((n = source.read(buffer)) >= 0) {
+                target.write(buffer, 0, n);
+                bytes += n;
+            }
+
+            return result(response, bytes);
+        } catch (IOException e) {
+            throw new MinioException(e);
+        }
+    }
+
+    /**
+     * Copy with {@link FileChannel#transferFrom} into a {@code .part} sibling, moved over {@code file} once complete,
+     * a {@link FileObjectResponse} with {@link FileChannel#transferTo}. Each copy gets a part file of its own, see
+     * {@link #createPartFile(Path)}.
+     *
+     * @param response the {@link GetObjectResponse}
+     * @param file     the local file
+     * @return the {@link TransferResult}
+     */
+    public static TransferResult transfer(GetObjectResponse response, Path file) {
+        Path partFile = null;
+        try (ReadableByteChannel source = Channels.newChannel(response)) {
+            partFile = createPartFile(file);
+
+            long bytes = 0;
+            try (FileChannel target = FileChannel.open(partFile, StandardOpenOption.WRITE)) {
+                if (response instanceof FileObjectResponse) {
+                    bytes = transferTo(((FileObjectResponse) response).channel(), target);
+                } else {
+                    long n;
+                    while ((n = target.transferFrom(source, bytes, Long.MAX_VALUE)) > 0) {
+                        bytes += n;
+                    }
+                }
+            }
+
+            TransferResult result = result(response, bytes);
+            try {
+                Files.move(partFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(partFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            return result;
+        } catch (IOException | RuntimeException e) {
+            if (partFile != null) {
+                try {
+                    Files.deleteIfExists(partFile);
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+
+            throw e instanceof MinioException ? (MinioException) e : new MinioException(e);
+        }
+    }
+
+    /**
+     * The {@link GetObjectArgs} reading the object of a {@link DownloadObjectArgs}, so the download goes through
+     * {@code getObject} and its response headers rather than the stat the SDK sends ahead of it.
+     *
+     * @param args the {@link DownloadObjectArgs}
+     * @return the {@link GetObjectArgs}
+     * @throws IllegalArgumentException if the file exists and {@code overwrite} isn't set, as the SDK does
+     */
+    public static GetObjectArgs getObjectArgs(DownloadObjectArgs args) {
+        if (!args.overwrite() && Files.exists(Paths.get(args.filename()))) {
+            throw new IllegalArgumentException("Destination file " + args.filename() + " already exists");
+        }
+
+        return GetObjectArgs.builder()
+            .extraHeaders(args.extraHeaders())
+            .extraQueryParams(args.extraQueryParams())
+            .bucket(args.bucket())
+            .region(args.region())
+            .object(args.object())
+            .versionId(args.versionId())
+            .ssec(args.ssec())
+            .build();
+    }
+
+    // ----------------------------------------------------------------
+
+    private static long transferTo(FileChannel source, WritableByteChannel target) throws IOException {
+        long start = source.position();
+        long size = source.size();
+        long position = start;
+        while (position < size) {
+            position += source.transferTo(position, size - position, target);
+        }
+
+        return position - start;
+    }
+
+    private static TransferResult result(GetObjectResponse response, long bytes) {
+        long length = Responses.contentLength(response.headers());
+        if (length >= 0 && bytes != length) {
+            throw new MinioException(String.format(
+                "object: %s truncated, got %d of %d bytes", response.object(), bytes, length));
+        }
+
+        return new TransferResult(bytes, Responses.trimETag(response.headers().get("ETag")));
+    }
+
+    /**
+     * Create an empty part file next to {@code file}, and its directories. The name is unique, so concurrent
+     * downloads to one target don't write into each other's part file.
+     *
+     * @param file the local file
+     * @return the part file
+     * @throws IOException if it can't be created
+     */
+    public static Path createPartFile(Path file) throws IOException {
+        Path target = file.toAbsolutePath();
+        Path parent = target.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        return Files.createTempFile(parent, target.getFileName() + ".", PART_FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.transfer;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * {@code UploadOptions}
+ * <p>
+ * Unset(non-positive/{@code null}) options fall back to {@code spring.minio.upload.*}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+@Getter
+@Builder
+public class UploadOptions {
+
+    /**
+     * Part size in bytes, raised automatically when the file would need more than 10000 parts.
+     */
+    private final long partSize;
+    /**
+     * Max parts in flight.
+     */
+    private final int parallelism;
+    private final String contentType;
+
+    public static UploadOptions defaults() {
+        return UploadOptions.builder().build();
+    }
+}
@@ -0,0 +1,410 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * {@code InMemoryS3Dispatcher}
+ * <p>
+ * A {@code MockWebServer} stand-in for an S3 server, the test counterpart of the benchmarks dispatcher, with
+ * user metadata, ranged and conditional({@code If-Match}/{@code If-None-Match}) reads and multi-delete. On top of
+ * the object API it records every request and fails or intercepts the next request matching a rule, see
+ * {@link #failNext(Predicate, int, String)} and {@link #onNext(Predicate, Runnable)}. Signatures aren't checked.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class InMemoryS3Dispatcher extends Dispatcher {
+
+    private static final String NS = "http://s3.amazonaws.com/doc/2006-03-01/";
+    private static final String LAST_MODIFIED = "Mon, 01 Jan 2024 00:00:00 GMT";
+    private static final String USER_METADATA_PREFIX = "x-amz-meta-";
+    private static final Pattern KEY = Pattern.compile("<Key>(.*?)</Key>");
+
+    private final ConcurrentMap<String, ConcurrentMap<String, StoredObject>> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<Integer, Buffer>> uploads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, String>> uploadMetadata = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<RecordedRequest> requests = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Fault> faults = new ConcurrentLinkedQueue<>();
+    private final Set<String> denied = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+        this.requests.add(request);
+        MockResponse fault = this.fault(request);
+        if (fault != null) {
+            return fault;
+        }
+
+        HttpUrl url = request.getRequestUrl();
+        List<String> segments = url.pathSegments();
+        String bucket = segments.get(0);
+        if (bucket.isEmpty()) {
+            return error(501, "NotImplemented", request.getMethod() + " " + request.getPath());
+        }
+
+        String object = String.join("/", segments.subList(1, segments.size()));
+        if (object.isEmpty()) {
+            return this.bucket(request, bucket);
+        }
+
+        return this.object(request, bucket, object);
+    }
+
+    // ----------------------------------------------------------------
+
+    public void createBucket(String bucket) {
+        this.buckets.putIfAbsent(bucket, new ConcurrentHashMap<>());
+    }
+
+    public void putObject(String bucket, String object, byte[] data) {
+        this.buckets.get(bucket).put(object, new StoredObject(data, null, Collections.emptyMap()));
+    }
+
+    /**
+     * @return the stored bytes, {@code null} if there is no such object
+     */
+    public byte[] object(String bucket, String object) {
+        StoredObject stored = this.buckets.get(bucket).get(object);
+
+        return stored != null ? stored.data : null;
+    }
+
+    /**
+     * Flip the first byte of a stored object, keeping its metadata.
+     */
+    public void corruptObject(String bucket, String object) {
+        StoredObject stored = this.buckets.get(bucket).get(object);
+        byte[] data = stored.data.clone();
+        data[0] ^= 0x01;
+        this.buckets.get(bucket).put(object, new StoredObject(data, stored.contentType, stored.metadata));
+    }
+
+    /**
+     * Multi-delete reports {@code AccessDenied} for {@code object} instead of removing it.
+     */
+    public void denyDelete(String object) {
+        this.denied.add(object);
+    }
+
+    /**
+     * @return the multipart uploads neither completed nor aborted
+     */
+    public int pendingUploads() {
+        return this.uploads.size();
+    }
+
+    /**
+     * Answers the next request matching {@code matcher} with an S3 error, once.
+     */
+    public void failNext(Predicate<RecordedRequest> matcher, int code, String errorCode) {
+        this.faults.add(new Fault(matcher, () -> error(code, errorCode, "injected")));
+    }
+
+    /**
+     * Runs {@code action} before serving the next request matching {@code matcher}, once.
+     */
+    public void onNext(Predicate<RecordedRequest> matcher, Runnable action) {
+        this.faults.add(new Fault(matcher, () -> {
+            action.run();
+
+            return null;
+        }));
+    }
+
+    public List<RecordedRequest> requests(Predicate<RecordedRequest> matcher) {
+        return this.requests.stream()
+            .filter(matcher)
+            .collect(Collectors.toList());
+    }
+
+    public void clearRequests() {
+        this.requests.clear();
+    }
+
+    // ----------------------------------------------------------------
+
+    public static Predicate<RecordedRequest> method(String method) {
+        return (request) -> method.equals(request.getMethod());
+    }
+
+    public static Predicate<RecordedRequest> query(String method, String parameter) {
+        return method(method).and((request) -> request.getRequestUrl().queryParameterNames().contains(parameter));
+    }
+
+    /**
+     * @return the {@code <Key>}s of a multi-delete request
+     */
+    public static List<String> keys(RecordedRequest request) {
+        List<String> keys = new ArrayList<>();
+        Matcher matcher = KEY.matcher(request.getBody().clone().readUtf8());
+        while (matcher.find()) {
+            keys.add(matcher.group(1));
+        }
+
+        return keys;
+    }
+
+    // ---------------------------------------------------------------- bucket
+
+    private MockResponse bucket(RecordedRequest request, String bucket) {
+        switch (request.getMethod()) {
+            case "HEAD":
+                return new MockResponse().setResponseCode(this.buckets.containsKey(bucket) ? 200 : 404);
+            case "PUT":
+                this.createBucket(bucket);
+                return new MockResponse().setResponseCode(200);
+            case "POST":
+                if (request.getRequestUrl().queryParameterNames().contains("delete")) {
+                    return this.deleteObjects(request, bucket);
+                }
+                return error(501, "NotImplemented", request.getMethod() + " " + request.getPath());
+            default:
+                return error(501, "NotImplemented", request.getMethod() + " " + request.getPath());
+        }
+    }
+
+    private MockResponse deleteObjects(RecordedRequest request, String bucket) {
+        ConcurrentMap<String, StoredObject> objects = this.buckets.get(bucket);
+        if (objects == null) {
+            return error(404, "NoSuchBucket", bucket);
+        }
+
+        // Quiet mode, only the failed keys are listed.
+        StringBuilder xml = new StringBuilder("<DeleteResult xmlns=\"" + NS + "\">");
+        for (String object : keys(request)) {
+            if (this.denied.contains(object)) {
+                xml.append("<Error><Key>").append(object)
+                    .append("</Key><Code>AccessDenied</Code><Message>Access Denied.</Message></Error>");
+            } else {
+                objects.remove(object);
+            }
+        }
+        xml.append("</DeleteResult>");
+
+        return xml(200, xml.toString());
+    }
+
+    // ---------------------------------------------------------------- object
+
+    private MockResponse object(RecordedRequest request, String bucket, String object) {
+        ConcurrentMap<String, StoredObject> objects = this.buckets.get(bucket);
+        if (objects == null) {
+            return error(404, "NoSuchBucket", bucket);
+        }
+
+        HttpUrl url = request.getRequestUrl();
+        String uploadId = url.queryParameter("uploadId");
+        switch (request.getMethod()) {
+            case "POST":
+                if (url.queryParameterNames().contains("uploads")) {
+                    String id = UUID.randomUUID().toString();
+                    this.uploads.put(id, new ConcurrentHashMap<>());
+                    this.uploadMetadata.put(id, userMetadata(request));
+
+                    return xml(200, "<InitiateMultipartUploadResult xmlns=\"" + NS + "\"><Bucket>" + bucket
+                        + "</Bucket><Key>" + object + "</Key><UploadId>" + id + "</UploadId></InitiateMultipartUploadResult>");
+                }
+
+                return this.completeMultipartUpload(objects, bucket, object, uploadId);
+            case "PUT": {
+                Buffer body = request.getBody().clone();
+                if (uploadId != null) {
+                    ConcurrentMap<Integer, Buffer> parts = this.uploads.get(uploadId);
+                    if (parts == null) {
+                        return error(404, "NoSuchUpload", uploadId);
+                    }
+                    parts.put(Integer.parseInt(url.queryParameter("partNumber")), body);
+
+                    return new MockResponse().setResponseCode(200).setHeader("ETag", "\"" + body.md5().hex() + "\"");
+                }
+
+                StoredObject stored = new StoredObject(
+                    body.readByteArray(), request.getHeader("Content-Type"), userMetadata(request));
+                objects.put(object, stored);
+
+                return new MockResponse().setResponseCode(200).setHeader("ETag", stored.quotedETag);
+            }
+            case "DELETE":
+                if (uploadId != null) {
+                    this.uploads.remove(uploadId);
+                    this.uploadMetadata.remove(uploadId);
+                } else {
+                    objects.remove(object);
+                }
+
+                return new MockResponse().setResponseCode(204);
+            case "HEAD":
+            case "GET": {
+                StoredObject stored = objects.get(object);
+                if (stored == null) {
+                    return "HEAD".equals(request.getMethod())
+                        ? new MockResponse().setResponseCode(404)
+                        : error(404, "NoSuchKey", object);
+                }
+
+                String ifMatch = request.getHeader("If-Match");
+                if (ifMatch != null && !ifMatch.equals(stored.quotedETag) && !ifMatch.equals(stored.etag)) {
+                    return "HEAD".equals(request.getMethod())
+                        ? new MockResponse().setResponseCode(412)
+                        : error(412, "PreconditionFailed", object);
+                }
+                String ifNoneMatch = request.getHeader("If-None-Match");
+                if (ifNoneMatch != null && (ifNoneMatch.equals(stored.quotedETag) || ifNoneMatch.equals(stored.etag))) {
+                    return new MockResponse().setResponseCode(304).setHeader("ETag", stored.quotedETag);
+                }
+
+                MockResponse response = new MockResponse()
+                    .setResponseCode(200)
+                    .setHeader("ETag", stored.quotedETag)
+                    .setHeader("Content-Type", stored.contentType)
+                    .setHeader("Last-Modified", LAST_MODIFIED);
+                stored.metadata.forEach(response::setHeader);
+                if ("HEAD".equals(request.getMethod())) {
+                    return response.setHeader("Content-Length", stored.data.length);
+                }
+
+                String range = request.getHeader("Range");
+                if (range == null) {
+                    return response.setBody(new Buffer().write(stored.data));
+                }
+
+                // bytes=<first>-[<last>], the only form the SDK sends.
+                String[] bounds = range.substring("bytes=".length()).split("-", -1);
+                int first = Integer.parseInt(bounds[0]);
+                int last = bounds[1].isEmpty()
+                    ? stored.data.length - 1
+                    : Math.min(Integer.parseInt(bounds[1]), stored.data.length - 1);
+
+                return response
+                    .setResponseCode(206)
+                    .setHeader("Content-Range", "bytes " + first + "-" + last + "/" + stored.data.length)
+                    .setBody(new Buffer().write(stored.data, first, last - first + 1));
+            }
+            default:
+                return error(501, "NotImplemented", request.getMethod() + " " + request.getPath());
+        }
+    }
+
+    private MockResponse completeMultipartUpload(
+        Map<String, StoredObject> objects, String bucket, String object, String uploadId) {
+        ConcurrentMap<Integer, Buffer> parts = uploadId != null ? this.uploads.remove(uploadId) : null;
+        if (parts == null) {
+            return error(404, "NoSuchUpload", String.valueOf(uploadId));
+        }
+
+        Buffer data = new Buffer();
+        new TreeMap<>(parts).values().forEach((part) -> data.write(part, part.size()));
+        StoredObject stored = new StoredObject(data.readByteArray(), null, this.uploadMetadata.remove(uploadId));
+        objects.put(object, stored);
+
+        return xml(200, "<CompleteMultipartUploadResult xmlns=\"" + NS + "\"><Location>/" + bucket + "/" + object
+            + "</Location><Bucket>" + bucket + "</Bucket><Key>" + object + "</Key><ETag>&quot;" + stored.etag
+            + "&quot;</ETag></CompleteMultipartUploadResult>");
+    }
+
+    // ----------------------------------------------------------------
+
+    private MockResponse fault(RecordedRequest request) {
+        for (Fault fault : this.faults) {
+            if (fault.matcher.test(request) && this.faults.remove(fault)) {
+                return fault.response.get();
+            }
+        }
+
+        return null;
+    }
+
+    private static Map<String, String> userMetadata(RecordedRequest request) {
+        Map<String, String> metadata = new TreeMap<>();
+        for (String name : request.getHeaders().names()) {
+            if (name.toLowerCase(Locale.ROOT).startsWith(USER_METADATA_PREFIX)) {
+                metadata.put(name, request.getHeader(name));
+            }
+        }
+
+        return metadata;
+    }
+
+    private static MockResponse xml(int code, String body) {
+        return new MockResponse()
+            .setResponseCode(code)
+            .setHeader("Content-Type", "application/xml")
+            .setBody(body);
+    }
+
+    private static MockResponse error(int code, String errorCode, String message) {
+        return xml(code, "<Error><Code>" + errorCode + "</Code><Message>" + message
+            + "</Message><Resource>/</Resource><RequestId>test</RequestId><HostId>test</HostId></Error>");
+    }
+
+    private static final class Fault {
+
+        private final Predicate<RecordedRequest> matcher;
+        /**
+         * The response served instead, {@code null} to serve the request.
+         */
+        private final Supplier<MockResponse> response;
+
+        private Fault(Predicate<RecordedRequest> matcher, Supplier<MockResponse> response) {
+            this.matcher = matcher;
+            this.response = response;
+        }
+    }
+
+    private static final class StoredObject {
+
+        private final byte[] data;
+        private final String contentType;
+        /**
+         * The {@code x-amz-meta-*} headers the object was uploaded with.
+         */
+        private final Map<String, String> metadata;
+        private final String etag;
+        private final String quotedETag;
+
+        private StoredObject(byte[] data, String contentType, Map<String, String> metadata) {
+            this.data = data;
+            this.contentType = contentType != null ? contentType : "application/octet-stream";
+            this.metadata = metadata;
+            this.etag = new Buffer().write(data).md5().hex();
+            this.quotedETag = "\"" + this.etag + "\"";
+        }
+    }
+}
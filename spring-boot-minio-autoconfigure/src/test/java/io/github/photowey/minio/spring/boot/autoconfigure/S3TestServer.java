@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.client.ExtendedMinioAsyncClient;
+import io.github.photowey.minio.spring.boot.autoconfigure.client.MinioClients;
+import io.github.photowey.minio.spring.boot.autoconfigure.http.OkHttpClients;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockWebServer;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@code S3TestServer}
+ * <p>
+ * An in-process {@link MockWebServer} backed by an {@link InMemoryS3Dispatcher} with the {@link #BUCKET} bucket,
+ * plus clients configured the way the starters configure them. Properties changed before the first client is
+ * created apply to it.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class S3TestServer implements AutoCloseable {
+
+    public static final String BUCKET = "tests";
+
+    private final MockWebServer server;
+    private final InMemoryS3Dispatcher dispatcher;
+    private final MinIOProperties properties;
+
+    private OkHttpClient httpClient;
+
+    private S3TestServer(MockWebServer server, InMemoryS3Dispatcher dispatcher, MinIOProperties properties) {
+        this.server = server;
+        this.dispatcher = dispatcher;
+        this.properties = properties;
+    }
+
+    public static S3TestServer start() throws IOException {
+        InMemoryS3Dispatcher dispatcher = new InMemoryS3Dispatcher();
+        dispatcher.createBucket(BUCKET);
+
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(dispatcher);
+        server.start();
+
+        MinIOProperties properties = new MinIOProperties();
+        properties.setEndpoint(server.url("/").toString());
+        properties.setAccessKey("tests");
+        properties.setSecretKey("tests");
+        properties.setRegion("us-east-1");
+
+        return new S3TestServer(server, dispatcher, properties);
+    }
+
+    public InMemoryS3Dispatcher dispatcher() {
+        return this.dispatcher;
+    }
+
+    public MinIOProperties properties() {
+        return this.properties;
+    }
+
+    public MinioClient syncClient() {
+        return MinioClients.sync(this.properties, this.httpClient());
+    }
+
+    public MinioAsyncClient asyncClient() {
+        return MinioClients.async(this.properties, this.httpClient());
+    }
+
+    public ExtendedMinioAsyncClient extendedClient() {
+        return ExtendedMinioAsyncClient.of(this.asyncClient());
+    }
+
+    public static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        return bytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.httpClient != null) {
+            this.httpClient.dispatcher().executorService().shutdown();
+            this.httpClient.connectionPool().evictAll();
+        }
+        this.server.shutdown();
+    }
+
+    // ----------------------------------------------------------------
+
+    private synchronized OkHttpClient httpClient() {
+        if (this.httpClient == null) {
+            this.httpClient = OkHttpClients.create(this.properties.getHttp());
+        }
+
+        return this.httpClient;
+    }
+}
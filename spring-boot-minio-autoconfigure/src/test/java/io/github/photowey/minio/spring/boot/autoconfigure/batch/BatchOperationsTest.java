@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.batch;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.InMemoryS3Dispatcher;
+import io.github.photowey.minio.spring.boot.autoconfigure.S3TestServer;
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * {@code BatchOperationsTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class BatchOperationsTest {
+
+    private S3TestServer server;
+    private InMemoryS3Dispatcher dispatcher;
+    private BatchOperations batchOperations;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.server = S3TestServer.start();
+        this.dispatcher = this.server.dispatcher();
+        this.batchOperations = new BatchOperations(this.server.extendedClient(), this.server.properties());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        this.server.close();
+    }
+
+    @Test
+    void testRemoveObjects_sendsChunksOfMaxDeleteKeys() {
+        List<String> objects = this.putObjects(2 * BatchOperations.MAX_DELETE_KEYS + 500);
+        List<BatchResult<Boolean>> reported = new ArrayList<>();
+
+        List<BatchResult<Boolean>> results = this.batchOperations
+            .removeObjects(S3TestServer.BUCKET, objects, reported::add)
+            .join();
+
+        Assertions.assertEquals(objects, results.stream().map(BatchResult::getObject).collect(Collectors.toList()));
+        Assertions.assertTrue(results.stream().allMatch(BatchResult::succeeded));
+        Assertions.assertEquals(objects.size(), reported.size());
+
+        List<Integer> chunkSizes = this.dispatcher.requests(InMemoryS3Dispatcher.query("POST", "delete")).stream()
+            .map((request) -> InMemoryS3Dispatcher.keys(request).size())
+            .sorted()
+            .collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(500, 1000, 1000), chunkSizes);
+        for (String object : objects) {
+            Assertions.assertNull(this.dispatcher.object(S3TestServer.BUCKET, object));
+        }
+    }
+
+    @Test
+    void testRemoveObjects_reportsFailedKeys() {
+        List<String> objects = this.putObjects(3);
+        this.dispatcher.denyDelete(objects.get(1));
+
+        List<BatchResult<Boolean>> results = this.batchOperations
+            .removeObjects(S3TestServer.BUCKET, objects, (result) -> {})
+            .join();
+
+        Assertions.assertTrue(results.get(0).succeeded());
+        Assertions.assertTrue(results.get(2).succeeded());
+
+        BatchResult<Boolean> denied = results.get(1);
+        Assertions.assertFalse(denied.succeeded());
+        Assertions.assertEquals(objects.get(1), denied.getObject());
+        Assertions.assertInstanceOf(MinioException.class, denied.getError());
+        Assertions.assertEquals("AccessDenied: Access Denied.", denied.getError().getMessage());
+        Assertions.assertNotNull(this.dispatcher.object(S3TestServer.BUCKET, objects.get(1)));
+    }
+
+    @Test
+    void testRemoveObjects_failsWholeChunkWhenRequestFails() {
+        List<String> objects = this.putObjects(BatchOperations.MAX_DELETE_KEYS + 500);
+        String secondChunk = objects.get(BatchOperations.MAX_DELETE_KEYS);
+        this.dispatcher.failNext(InMemoryS3Dispatcher.query("POST", "delete")
+            .and((request) -> InMemoryS3Dispatcher.keys(request).contains(secondChunk)), 500, "InternalError");
+
+        List<BatchResult<Boolean>> results = this.batchOperations
+            .removeObjects(S3TestServer.BUCKET, objects, (result) -> {})
+            .join();
+
+        Assertions.assertEquals(objects.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            BatchResult<Boolean> result = results.get(i);
+            if (i < BatchOperations.MAX_DELETE_KEYS) {
+                Assertions.assertTrue(result.succeeded(), result.toString());
+                continue;
+            }
+
+            ErrorResponseException error = Assertions.assertInstanceOf(ErrorResponseException.class, result.getError());
+            Assertions.assertEquals("InternalError", error.errorResponse().code());
+            Assertions.assertNotNull(this.dispatcher.object(S3TestServer.BUCKET, result.getObject()));
+        }
+    }
+
+    @Test
+    void testStatObjects_reportsMissingObject() {
+        List<String> objects = this.putObjects(2);
+        objects.add(1, "missing.bin");
+
+        List<BatchResult<StatObjectResponse>> results = this.batchOperations
+            .statObjects(S3TestServer.BUCKET, objects)
+            .join();
+
+        Assertions.assertEquals(objects, results.stream().map(BatchResult::getObject).collect(Collectors.toList()));
+        Assertions.assertEquals(1, results.get(0).getValue().size());
+        Assertions.assertEquals(1, results.get(2).getValue().size());
+
+        BatchResult<StatObjectResponse> missing = results.get(1);
+        Assertions.assertFalse(missing.succeeded());
+        Assertions.assertNull(missing.getValue());
+        ErrorResponseException error = Assertions.assertInstanceOf(ErrorResponseException.class, missing.getError());
+        Assertions.assertEquals("NoSuchKey", error.errorResponse().code());
+    }
+
+    // ----------------------------------------------------------------
+
+    private List<String> putObjects(int count) {
+        List<String> objects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String object = String.format("object-%05d", i);
+            this.dispatcher.putObject(S3TestServer.BUCKET, object, new byte[]{(byte) i});
+            objects.add(object);
+        }
+
+        return objects;
+    }
+}
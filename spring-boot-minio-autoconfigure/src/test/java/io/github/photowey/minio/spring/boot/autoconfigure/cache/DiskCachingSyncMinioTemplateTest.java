@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.cache;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.InMemoryS3Dispatcher;
+import io.github.photowey.minio.spring.boot.autoconfigure.S3TestServer;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.DefaultSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.FileObjectResponse;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.TransferResult;
+import io.github.photowey.minio.spring.boot.core.cache.CacheStats;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@code DiskCachingSyncMinioTemplateTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class DiskCachingSyncMinioTemplateTest {
+
+    @TempDir
+    Path dir;
+
+    private S3TestServer server;
+    private InMemoryS3Dispatcher dispatcher;
+    private DiskCache cache;
+    private DiskCachingSyncMinioTemplate template;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.server = S3TestServer.start();
+        this.dispatcher = this.server.dispatcher();
+        this.server.properties().getCache().getDisk().setDirectory(this.dir.resolve("cache").toString());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        this.cache.close();
+        this.server.close();
+    }
+
+    @Test
+    void testDownloadObject_revalidatesHitWithConditionalGet() throws Exception {
+        this.createTemplate(Duration.ZERO);
+        byte[] data = this.putObject("cached.bin", 32 * 1024);
+
+        Assertions.assertArrayEquals(data, this.read("cached.bin"));
+        Assertions.assertArrayEquals(data, this.read("cached.bin"));
+
+        List<RecordedRequest> gets = this.dispatcher.requests(InMemoryS3Dispatcher.method("GET"));
+        Assertions.assertEquals(2, gets.size());
+        Assertions.assertNull(gets.get(0).getHeader("If-None-Match"));
+        Assertions.assertNotNull(gets.get(1).getHeader("If-None-Match"));
+
+        CacheStats stats = this.cache.stats();
+        Assertions.assertEquals(1, stats.misses());
+        Assertions.assertEquals(1, stats.hits());
+        Assertions.assertEquals(1, this.cache.revalidations());
+    }
+
+    @Test
+    void testDownloadObject_servesFreshHitFromDisk() throws Exception {
+        this.createTemplate(Duration.ofMinutes(1));
+        byte[] data = this.putObject("cached.bin", 32 * 1024);
+        this.read("cached.bin");
+        this.dispatcher.clearRequests();
+
+        GetObjectArgs args = GetObjectArgs.builder()
+            .bucket(S3TestServer.BUCKET)
+            .object("cached.bin")
+            .build();
+        GetObjectResponse response = this.template.downloadObject(args);
+
+        Assertions.assertInstanceOf(FileObjectResponse.class, response);
+        Assertions.assertArrayEquals(data, read(response));
+        Assertions.assertTrue(this.dispatcher.requests(InMemoryS3Dispatcher.method("GET")).isEmpty());
+    }
+
+    @Test
+    void testDownloadObject_refetchesChangedObject() throws Exception {
+        this.createTemplate(Duration.ZERO);
+        this.putObject("changed.bin", 32 * 1024);
+        this.read("changed.bin");
+
+        byte[] changed = this.putObject("changed.bin", 16 * 1024);
+
+        Assertions.assertArrayEquals(changed, this.read("changed.bin"));
+        Assertions.assertEquals(2, this.cache.stats().misses());
+        Assertions.assertEquals(16 * 1024, this.cache.size());
+    }
+
+    @Test
+    void testDownloadObject_readsRangesPastCache() throws Exception {
+        this.createTemplate(Duration.ofMinutes(1));
+        byte[] data = this.putObject("ranged.bin", 32 * 1024);
+        GetObjectArgs args = GetObjectArgs.builder()
+            .bucket(S3TestServer.BUCKET)
+            .object("ranged.bin")
+            .offset(100L)
+            .length(1000L)
+            .build();
+
+        Assertions.assertArrayEquals(Arrays.copyOfRange(data, 100, 1100), read(this.template.downloadObject(args)));
+        Assertions.assertArrayEquals(Arrays.copyOfRange(data, 100, 1100), read(this.template.downloadObject(args)));
+
+        Assertions.assertEquals(0, this.cache.entries());
+        Assertions.assertEquals(2, this.dispatcher.requests(InMemoryS3Dispatcher.method("GET")).size());
+    }
+
+    @Test
+    void testTransferTo_copiesHitIntoFile() throws Exception {
+        this.createTemplate(Duration.ofMinutes(1));
+        byte[] data = this.putObject("cached.bin", 256 * 1024);
+        this.read("cached.bin");
+        Path file = this.dir.resolve("transferred.bin");
+
+        TransferResult result = this.template.transferTo(S3TestServer.BUCKET, "cached.bin", file);
+
+        Assertions.assertEquals(data.length, result.getBytes());
+        Assertions.assertArrayEquals(data, Files.readAllBytes(file));
+        Assertions.assertEquals(1, this.dispatcher.requests(InMemoryS3Dispatcher.method("GET")).size());
+    }
+
+    @Test
+    void testDownloadFile_copiesCachedObject() throws Exception {
+        this.createTemplate(Duration.ofMinutes(1));
+        byte[] data = this.putObject("cached.bin", 256 * 1024);
+        this.read("cached.bin");
+        this.dispatcher.clearRequests();
+        Path file = this.dir.resolve("downloaded.bin");
+
+        this.template.downloadFile(S3TestServer.BUCKET, "cached.bin", file, DownloadOptions.defaults());
+
+        Assertions.assertArrayEquals(data, Files.readAllBytes(file));
+        Assertions.assertTrue(this.dispatcher.requests(InMemoryS3Dispatcher.method("GET")).isEmpty());
+    }
+
+    @Test
+    void testPutObject_invalidatesEntry() throws Exception {
+        this.createTemplate(Duration.ofMinutes(1));
+        this.putObject("written.bin", 32 * 1024);
+        this.read("written.bin");
+        Assertions.assertEquals(1, this.cache.entries());
+
+        byte[] written = S3TestServer.randomBytes(8 * 1024);
+        this.template.putObject(S3TestServer.BUCKET, "written.bin", "application/octet-stream",
+            new ByteArrayInputStream(written), written.length);
+
+        Assertions.assertEquals(0, this.cache.entries());
+        Assertions.assertArrayEquals(written, this.read("written.bin"));
+    }
+
+    // ----------------------------------------------------------------
+
+    private void createTemplate(Duration freshFor) {
+        this.server.properties().getCache().getDisk().setFreshFor(freshFor);
+        this.cache = new DiskCache(this.server.properties().getCache().getDisk());
+        DefaultSyncMinioTemplate delegate = new DefaultSyncMinioTemplate(
+            this.server.syncClient(), this.server.asyncClient(), this.server.properties());
+        this.template = new DiskCachingSyncMinioTemplate(delegate, this.cache);
+    }
+
+    private byte[] putObject(String object, int size) {
+        byte[] data = S3TestServer.randomBytes(size);
+        this.dispatcher.putObject(S3TestServer.BUCKET, object, data);
+
+        return data;
+    }
+
+    private byte[] read(String object) throws IOException {
+        return read(this.template.downloadObject(S3TestServer.BUCKET, object));
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        try (InputStream body = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int n; (n = body.read(buffer)) >= 0; ) {
+                out.write(buffer, 0, n);
+            }
+
+            return out.toByteArray();
+        }
+    }
+}
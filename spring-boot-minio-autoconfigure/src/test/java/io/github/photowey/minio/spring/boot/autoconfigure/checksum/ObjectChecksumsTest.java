@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.checksum;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.InMemoryS3Dispatcher;
+import io.github.photowey.minio.spring.boot.autoconfigure.S3TestServer;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.DefaultAsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.DefaultSyncMinioTemplate;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@code ObjectChecksumsTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class ObjectChecksumsTest {
+
+    private static final String CRC32C_HEADER = "x-amz-meta-" + ChecksumAlgorithm.CRC32C.metadata();
+    private static final String SHA256_HEADER = "x-amz-meta-" + ChecksumAlgorithm.SHA256.metadata();
+
+    private S3TestServer server;
+    private InMemoryS3Dispatcher dispatcher;
+    private DefaultSyncMinioTemplate syncTemplate;
+    private DefaultAsyncMinioTemplate asyncTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.server = S3TestServer.start();
+        this.dispatcher = this.server.dispatcher();
+        this.server.properties().getChecksum().setEnabled(true);
+        this.server.properties().getUpload().setPartSize(DataSize.ofMegabytes(5));
+
+        this.syncTemplate = new DefaultSyncMinioTemplate(
+            this.server.syncClient(), this.server.asyncClient(), this.server.properties());
+        this.asyncTemplate = new DefaultAsyncMinioTemplate(this.server.asyncClient(), this.server.properties());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        this.server.close();
+    }
+
+    @Test
+    void testPutObject_sendsChecksumMetadata() throws Exception {
+        byte[] data = S3TestServer.randomBytes(100 * 1024);
+
+        this.putObject("checked.bin", data, data.length);
+
+        RecordedRequest put = this.lastRequest("PUT");
+        Assertions.assertEquals(checksum(ChecksumAlgorithm.CRC32C, data), put.getHeader(CRC32C_HEADER));
+        InputStream in = this.syncTemplate.downloadObject(S3TestServer.BUCKET, "checked.bin");
+        Assertions.assertArrayEquals(data, this.read(in));
+    }
+
+    @Test
+    void testPutObject_checksumsBodyOfUnknownSizeWithinPartSize() throws Exception {
+        byte[] data = S3TestServer.randomBytes(100 * 1024);
+
+        this.putObject("unknown-size.bin", data, -1);
+
+        RecordedRequest put = this.lastRequest("PUT");
+        Assertions.assertEquals(checksum(ChecksumAlgorithm.CRC32C, data), put.getHeader(CRC32C_HEADER));
+        Assertions.assertEquals(data.length, put.getBodySize());
+        Assertions.assertTrue(this.dispatcher.requests(InMemoryS3Dispatcher.query("POST", "uploads")).isEmpty());
+    }
+
+    @Test
+    void testPutObject_streamsBodyLargerThanPartSizeUnchecksummed() throws Exception {
+        byte[] data = S3TestServer.randomBytes(6 * 1024 * 1024);
+
+        this.putObject("large.bin", data, -1);
+
+        List<RecordedRequest> initiated = this.dispatcher.requests(InMemoryS3Dispatcher.query("POST", "uploads"));
+        Assertions.assertEquals(1, initiated.size());
+        Assertions.assertNull(initiated.get(0).getHeader(CRC32C_HEADER));
+        Assertions.assertArrayEquals(data, this.dispatcher.object(S3TestServer.BUCKET, "large.bin"));
+    }
+
+    @Test
+    void testDownloadObject_failsCorruptedBodyAtItsEnd() throws Exception {
+        byte[] data = S3TestServer.randomBytes(100 * 1024);
+        this.putObject("corrupted.bin", data, data.length);
+        this.dispatcher.corruptObject(S3TestServer.BUCKET, "corrupted.bin");
+
+        IOException sync = Assertions.assertThrows(IOException.class,
+            () -> this.read(this.syncTemplate.downloadObject(S3TestServer.BUCKET, "corrupted.bin")));
+        IOException async = Assertions.assertThrows(IOException.class,
+            () -> this.read(this.asyncTemplate.downloadObject(S3TestServer.BUCKET, "corrupted.bin").join()));
+
+        Assertions.assertTrue(sync.getMessage().contains("failed its CRC32C check"), sync.getMessage());
+        Assertions.assertTrue(async.getMessage().contains("failed its CRC32C check"), async.getMessage());
+    }
+
+    @Test
+    void testDownloadObject_skipsRanges() throws Exception {
+        byte[] data = S3TestServer.randomBytes(100 * 1024);
+        this.putObject("corrupted.bin", data, data.length);
+        this.dispatcher.corruptObject(S3TestServer.BUCKET, "corrupted.bin");
+        GetObjectArgs args = GetObjectArgs.builder()
+            .bucket(S3TestServer.BUCKET)
+            .object("corrupted.bin")
+            .offset(1L)
+            .length(1024L)
+            .build();
+
+        GetObjectResponse response = this.syncTemplate.downloadObject(args);
+
+        Assertions.assertArrayEquals(Arrays.copyOfRange(data, 1, 1025), this.read(response));
+    }
+
+    @Test
+    void testDownloadObject_verifiesUncompressedBody() throws Exception {
+        this.server.properties().getChecksum().setAlgorithm(ChecksumAlgorithm.SHA256);
+        this.server.properties().getCompression().setEnabled(true);
+        DefaultSyncMinioTemplate template = new DefaultSyncMinioTemplate(
+            this.server.syncClient(), this.server.asyncClient(), this.server.properties());
+        byte[] data = new byte[256 * 1024];
+        Arrays.fill(data, (byte) 'a');
+
+        template.putObject(
+            S3TestServer.BUCKET, "compressed.txt", "text/plain", new ByteArrayInputStream(data), data.length);
+
+        RecordedRequest put = this.lastRequest("PUT");
+        Assertions.assertEquals(checksum(ChecksumAlgorithm.SHA256, data), put.getHeader(SHA256_HEADER));
+        Assertions.assertNotNull(put.getHeader("x-amz-meta-minio-codec"));
+        InputStream in = template.downloadObject(S3TestServer.BUCKET, "compressed.txt");
+        Assertions.assertArrayEquals(data, this.read(in));
+    }
+
+    // ----------------------------------------------------------------
+
+    private void putObject(String object, byte[] data, long size) {
+        this.syncTemplate.putObject(
+            S3TestServer.BUCKET, object, "application/octet-stream", new ByteArrayInputStream(data), size);
+    }
+
+    private RecordedRequest lastRequest(String method) {
+        List<RecordedRequest> requests = this.dispatcher.requests(InMemoryS3Dispatcher.method(method));
+
+        return requests.get(requests.size() - 1);
+    }
+
+    private byte[] read(InputStream in) throws IOException {
+        try (InputStream body = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int n; (n = body.read(buffer)) >= 0; ) {
+                out.write(buffer, 0, n);
+            }
+
+            return out.toByteArray();
+        }
+    }
+
+    private static String checksum(ChecksumAlgorithm algorithm, byte[] data) {
+        Hasher hasher = algorithm.newHasher();
+        hasher.update(data, 0, data.length);
+
+        return hasher.value();
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.compress;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.InMemoryS3Dispatcher;
+import io.github.photowey.minio.spring.boot.autoconfigure.S3TestServer;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.DefaultAsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.DefaultSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.transfer.DownloadOptions;
+import io.github.photowey.minio.spring.boot.core.exception.MinioException;
+import io.minio.DownloadObjectArgs;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@code ObjectCompressionTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class ObjectCompressionTest {
+
+    private static final String CODEC_HEADER = "x-amz-meta-" + ObjectCompression.CODEC_METADATA;
+    private static final String UNCOMPRESSED_SIZE_HEADER = "x-amz-meta-" + ObjectCompression.UNCOMPRESSED_SIZE_METADATA;
+
+    @TempDir
+    Path dir;
+
+    private S3TestServer server;
+    private InMemoryS3Dispatcher dispatcher;
+    private ExecutorService completionExecutor;
+    private DefaultSyncMinioTemplate syncTemplate;
+    private DefaultAsyncMinioTemplate asyncTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.server = S3TestServer.start();
+        this.dispatcher = this.server.dispatcher();
+        this.server.properties().getCompression().setEnabled(true);
+        this.server.properties().getUpload().setPartSize(DataSize.ofMegabytes(5));
+
+        this.completionExecutor = Executors.newSingleThreadExecutor();
+        this.syncTemplate = new DefaultSyncMinioTemplate(
+            this.server.syncClient(), this.server.asyncClient(), this.server.properties());
+        this.asyncTemplate = new DefaultAsyncMinioTemplate(
+            this.server.asyncClient(), this.server.properties(), this.completionExecutor);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        this.completionExecutor.shutdown();
+        this.server.close();
+    }
+
+    @Test
+    void testPutObject_storesListedContentTypeCompressed() throws Exception {
+        byte[] data = text(256 * 1024);
+
+        this.putText(data);
+
+        byte[] stored = this.dispatcher.object(S3TestServer.BUCKET, "text.txt");
+        Assertions.assertTrue(stored.length < data.length / 4, "stored " + stored.length + " bytes");
+        Assertions.assertEquals((byte) 0x1f, stored[0]);
+        Assertions.assertEquals((byte) 0x8b, stored[1]);
+
+        RecordedRequest put = this.lastRequest("PUT");
+        Assertions.assertEquals(ObjectCompression.GZIP, put.getHeader(CODEC_HEADER));
+        Assertions.assertEquals(Integer.toString(data.length), put.getHeader(UNCOMPRESSED_SIZE_HEADER));
+
+        try (InputStream in = this.syncTemplate.downloadObject(S3TestServer.BUCKET, "text.txt")) {
+            Assertions.assertArrayEquals(data, readAll(in));
+        }
+    }
+
+    @Test
+    void testPutObject_storesOtherContentTypesAsTheyAre() throws Exception {
+        byte[] data = text(64 * 1024);
+
+        this.syncTemplate.putObject(
+            S3TestServer.BUCKET, "data.bin", "application/octet-stream", new ByteArrayInputStream(data), data.length);
+
+        Assertions.assertArrayEquals(data, this.dispatcher.object(S3TestServer.BUCKET, "data.bin"));
+        Assertions.assertNull(this.lastRequest("PUT").getHeader(CODEC_HEADER));
+    }
+
+    @Test
+    void testPutObject_compressesMultipartUploads() throws Exception {
+        // Random base64 shrinks by a quarter only, two 5MiB parts once compressed.
+        byte[] data = Base64.getEncoder().encode(S3TestServer.randomBytes(6 * 1024 * 1024));
+
+        this.asyncTemplate.putObject(
+            S3TestServer.BUCKET, "large.txt", "text/plain", new ByteArrayInputStream(data), data.length).join();
+
+        List<RecordedRequest> initiated = this.dispatcher.requests(InMemoryS3Dispatcher.query("POST", "uploads"));
+        Assertions.assertEquals(1, initiated.size());
+        Assertions.assertEquals(ObjectCompression.GZIP, initiated.get(0).getHeader(CODEC_HEADER));
+
+        try (InputStream in = this.asyncTemplate.<InputStream>downloadObject(S3TestServer.BUCKET, "large.txt").join()) {
+            Assertions.assertArrayEquals(data, readAll(in));
+        }
+    }
+
+    @Test
+    void testDownloadObject_decompressesWithOneGet() throws Exception {
+        byte[] data = text(128 * 1024);
+        this.putText(data);
+        this.dispatcher.clearRequests();
+
+        Path syncFile = this.dir.resolve("sync.txt");
+        Assertions.assertTrue(this.syncTemplate.downloadObject(downloadObjectArgs(syncFile)));
+        Path asyncFile = this.dir.resolve("async.txt");
+        Assertions.assertTrue(this.asyncTemplate.downloadObject(downloadObjectArgs(asyncFile)).join());
+
+        Assertions.assertArrayEquals(data, Files.readAllBytes(syncFile));
+        Assertions.assertArrayEquals(data, Files.readAllBytes(asyncFile));
+        Assertions.assertEquals(2, this.dispatcher.requests(InMemoryS3Dispatcher.method("GET")).size());
+        Assertions.assertTrue(this.dispatcher.requests(InMemoryS3Dispatcher.method("HEAD")).isEmpty());
+    }
+
+    @Test
+    void testDownloadObject_rejectsRangesOfCompressedObject() {
+        byte[] data = text(64 * 1024);
+        this.putText(data);
+        GetObjectArgs args = GetObjectArgs.builder()
+            .bucket(S3TestServer.BUCKET)
+            .object("text.txt")
+            .offset(10L)
+            .length(100L)
+            .build();
+
+        MinioException e = Assertions.assertThrows(MinioException.class, () -> {
+            try (GetObjectResponse response = this.syncTemplate.downloadObject(args)) {
+                readAll(response);
+            }
+        });
+
+        Assertions.assertTrue(e.getMessage().contains("byte ranges can't be read"), e.getMessage());
+    }
+
+    @Test
+    void testDownloadFile_decompressesRangedDownload() throws Exception {
+        byte[] data = text(256 * 1024);
+        this.putText(data);
+        Path file = this.dir.resolve("ranged.txt");
+        DownloadOptions options = DownloadOptions.builder()
+            .partSize(1024)
+            .build();
+
+        this.asyncTemplate.downloadFile(S3TestServer.BUCKET, "text.txt", file, options).join();
+
+        Assertions.assertArrayEquals(data, Files.readAllBytes(file));
+    }
+
+    // ----------------------------------------------------------------
+
+    private void putText(byte[] data) {
+        this.syncTemplate.putObject(
+            S3TestServer.BUCKET, "text.txt", "text/plain", new ByteArrayInputStream(data), data.length);
+    }
+
+    private RecordedRequest lastRequest(String method) {
+        List<RecordedRequest> requests = this.dispatcher.requests(InMemoryS3Dispatcher.method(method));
+
+        return requests.get(requests.size() - 1);
+    }
+
+    private static DownloadObjectArgs downloadObjectArgs(Path file) throws Exception {
+        return DownloadObjectArgs.builder()
+            .bucket(S3TestServer.BUCKET)
+            .object("text.txt")
+            .filename(file.toString())
+            .build();
+    }
+
+    private static byte[] text(int size) {
+        StringBuilder text = new StringBuilder(size + 32);
+        for (int line = 0; text.length() < size; line++) {
+            text.append("line ").append(line).append(": the quick brown fox jumps over the lazy dog\n");
+        }
+
+        return text.substring(0, size).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readAll(InputStream in) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        for (int n; (n = in.read(buffer)) >= 0; ) {
+            out.write(buffer, 0, n);
+        }
+
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.template;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.CachingSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.DiskCacheDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.DiskCachingSyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.cache.MetadataCacheDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.coalesce.CoalescingDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.hedge.HedgeDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.limits.LimitsDecorator;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.github.photowey.minio.spring.boot.autoconfigure.retry.RetryDecorator;
+import io.minio.MinioClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * {@code MinioTemplateDecoratorsTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class MinioTemplateDecoratorsTest {
+
+    private final List<MinioTemplateDecorator> decorators = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (MinioTemplateDecorator decorator : this.decorators) {
+            if (decorator instanceof AutoCloseable) {
+                ((AutoCloseable) decorator).close();
+            }
+        }
+    }
+
+    @Test
+    void testCreate_ordersDecoratorsFromClientOutwards() {
+        MinIOProperties properties = new MinIOProperties();
+        properties.getAsync().setEnabled(true);
+        properties.getLimits().setEnabled(true);
+        properties.getRetry().setEnabled(true);
+        properties.getHedge().setEnabled(true);
+        properties.getCoalesce().setEnabled(true);
+        properties.getCache().getDisk().setEnabled(true);
+        properties.getCache().getMetadata().setEnabled(true);
+
+        this.decorators.addAll(MinioTemplateDecorators.create(properties, null));
+
+        List<Class<?>> types = this.decorators.stream()
+            .map(Object::getClass)
+            .collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(
+            LimitsDecorator.class,
+            HedgeDecorator.class,
+            RetryDecorator.class,
+            CoalescingDecorator.class,
+            DiskCacheDecorator.class,
+            MetadataCacheDecorator.class), types);
+    }
+
+    @Test
+    void testCreate_skipsHedgeWithoutAsync() {
+        MinIOProperties properties = new MinIOProperties();
+        properties.getHedge().setEnabled(true);
+        properties.getRetry().setEnabled(true);
+
+        this.decorators.addAll(MinioTemplateDecorators.create(properties, null));
+
+        Assertions.assertEquals(1, this.decorators.size());
+        Assertions.assertInstanceOf(RetryDecorator.class, this.decorators.get(0));
+    }
+
+    @Test
+    void testDecorate_wrapsFirstDecoratorClosestToClient() {
+        MinIOProperties properties = new MinIOProperties();
+        properties.getCache().getDisk().setEnabled(true);
+        properties.getCache().getMetadata().setEnabled(true);
+        this.decorators.addAll(MinioTemplateDecorators.create(properties, null));
+        MinioClient client = MinioClient.builder()
+            .endpoint("http://localhost:9000")
+            .credentials("tests", "tests")
+            .build();
+        SyncMinioTemplate template = new DefaultSyncMinioTemplate(client);
+
+        SyncMinioTemplate decorated = MinioTemplateDecorators.decorate(template, this.decorators);
+
+        // The metadata cache answers before the disk cache is asked.
+        ForwardingSyncMinioTemplate outer = Assertions.assertInstanceOf(CachingSyncMinioTemplate.class, decorated);
+        ForwardingSyncMinioTemplate inner =
+            Assertions.assertInstanceOf(DiskCachingSyncMinioTemplate.class, outer.delegate());
+        Assertions.assertSame(template, inner.delegate());
+    }
+}
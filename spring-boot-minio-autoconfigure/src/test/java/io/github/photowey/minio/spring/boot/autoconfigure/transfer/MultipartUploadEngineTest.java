@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.transfer;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.InMemoryS3Dispatcher;
+import io.github.photowey.minio.spring.boot.autoconfigure.S3TestServer;
+import io.minio.ObjectWriteResponse;
+import io.minio.errors.ErrorResponseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
+
+/**
+ * {@code MultipartUploadEngineTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class MultipartUploadEngineTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    private S3TestServer server;
+    private InMemoryS3Dispatcher dispatcher;
+    private MultipartUploadEngine engine;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.server = S3TestServer.start();
+        this.dispatcher = this.server.dispatcher();
+        this.engine = new MultipartUploadEngine(this.server.extendedClient(), this.server.properties());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        this.server.close();
+    }
+
+    @Test
+    void testUpload_sendsPartsOfPartSize() throws Exception {
+        byte[] data = S3TestServer.randomBytes(2 * PART_SIZE + 1024);
+        Path file = Files.write(this.dir.resolve("large.bin"), data);
+        UploadOptions options = UploadOptions.builder()
+            .partSize(PART_SIZE)
+            .parallelism(2)
+            .build();
+
+        ObjectWriteResponse response = this.engine.upload(S3TestServer.BUCKET, "large.bin", file, options).join();
+
+        Assertions.assertEquals("large.bin", response.object());
+        Assertions.assertArrayEquals(data, this.dispatcher.object(S3TestServer.BUCKET, "large.bin"));
+        Assertions.assertEquals(1, this.dispatcher.requests(InMemoryS3Dispatcher.query("POST", "uploads")).size());
+        Assertions.assertEquals(3, this.dispatcher.requests(InMemoryS3Dispatcher.query("PUT", "partNumber")).size());
+        Assertions.assertEquals(0, this.dispatcher.pendingUploads());
+    }
+
+    @Test
+    void testUpload_sendsSmallFileInOnePut() throws Exception {
+        byte[] data = S3TestServer.randomBytes(64 * 1024);
+        Path file = Files.write(this.dir.resolve("small.bin"), data);
+
+        this.engine.upload(S3TestServer.BUCKET, "small.bin", file, UploadOptions.defaults()).join();
+
+        Assertions.assertArrayEquals(data, this.dispatcher.object(S3TestServer.BUCKET, "small.bin"));
+        Assertions.assertEquals(1, this.dispatcher.requests(InMemoryS3Dispatcher.method("PUT")).size());
+        Assertions.assertTrue(this.dispatcher.requests(InMemoryS3Dispatcher.query("POST", "uploads")).isEmpty());
+    }
+
+    @Test
+    void testUpload_abortsUploadWhenPartFails() throws Exception {
+        Path file = Files.write(this.dir.resolve("failing.bin"), S3TestServer.randomBytes(2 * PART_SIZE + 1024));
+        UploadOptions options = UploadOptions.builder()
+            .partSize(PART_SIZE)
+            .parallelism(1)
+            .build();
+        this.dispatcher.failNext(InMemoryS3Dispatcher.query("PUT", "partNumber")
+            .and((request) -> "2".equals(request.getRequestUrl().queryParameter("partNumber"))), 500, "InternalError");
+
+        CompletionException e = Assertions.assertThrows(CompletionException.class,
+            () -> this.engine.upload(S3TestServer.BUCKET, "failing.bin", file, options).join());
+
+        ErrorResponseException cause = Assertions.assertInstanceOf(ErrorResponseException.class, e.getCause());
+        Assertions.assertEquals("InternalError", cause.errorResponse().code());
+        Assertions.assertNull(this.dispatcher.object(S3TestServer.BUCKET, "failing.bin"));
+        Assertions.assertEquals(1, this.dispatcher.requests(InMemoryS3Dispatcher.query("DELETE", "uploadId")).size());
+        Assertions.assertTrue(this.dispatcher.requests(InMemoryS3Dispatcher.query("POST", "uploadId")).isEmpty());
+        Assertions.assertEquals(0, this.dispatcher.pendingUploads());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.autoconfigure.transfer;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.InMemoryS3Dispatcher;
+import io.github.photowey.minio.spring.boot.autoconfigure.S3TestServer;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@code RangedDownloadEngineTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class RangedDownloadEngineTest {
+
+    private static final int PART_SIZE = 64 * 1024;
+    private static final Predicate<RecordedRequest> RANGED_GET =
+        InMemoryS3Dispatcher.method("GET").and((request) -> request.getHeader("Range") != null);
+
+    @TempDir
+    Path dir;
+
+    private S3TestServer server;
+    private InMemoryS3Dispatcher dispatcher;
+    private RangedDownloadEngine engine;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.server = S3TestServer.start();
+        this.dispatcher = this.server.dispatcher();
+        this.engine = new RangedDownloadEngine(this.server.extendedClient(), this.server.properties());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        this.server.close();
+    }
+
+    @Test
+    void testDownload_writesRangesIntoFile() throws Exception {
+        byte[] data = S3TestServer.randomBytes(16 * PART_SIZE + 123);
+        this.dispatcher.putObject(S3TestServer.BUCKET, "ranged.bin", data);
+        Path file = this.dir.resolve("ranged.bin");
+        DownloadOptions options = DownloadOptions.builder()
+            .partSize(PART_SIZE)
+            .parallelism(4)
+            .build();
+
+        StatObjectResponse stat = this.engine.download(S3TestServer.BUCKET, "ranged.bin", file, options).join();
+
+        Assertions.assertEquals(data.length, stat.size());
+        Assertions.assertArrayEquals(data, Files.readAllBytes(file));
+
+        List<RecordedRequest> ranges = this.dispatcher.requests(RANGED_GET);
+        Assertions.assertEquals(17, ranges.size());
+        for (RecordedRequest range : ranges) {
+            Assertions.assertEquals(stat.etag(), range.getHeader("If-Match"));
+        }
+        Assertions.assertEquals(1, this.files().size());
+    }
+
+    @Test
+    void testDownload_failsWhenObjectChanges() throws Exception {
+        this.dispatcher.putObject(S3TestServer.BUCKET, "changing.bin", S3TestServer.randomBytes(4 * PART_SIZE));
+        // Overwritten between the stat and the first range.
+        this.dispatcher.onNext(RANGED_GET, () -> this.dispatcher.putObject(
+            S3TestServer.BUCKET, "changing.bin", S3TestServer.randomBytes(4 * PART_SIZE)));
+        Path file = this.dir.resolve("changing.bin");
+        DownloadOptions options = DownloadOptions.builder()
+            .partSize(PART_SIZE)
+            .parallelism(1)
+            .build();
+
+        CompletionException e = Assertions.assertThrows(CompletionException.class,
+            () -> this.engine.download(S3TestServer.BUCKET, "changing.bin", file, options).join());
+
+        ErrorResponseException cause = Assertions.assertInstanceOf(ErrorResponseException.class, e.getCause());
+        Assertions.assertEquals("PreconditionFailed", cause.errorResponse().code());
+        Assertions.assertTrue(this.files().isEmpty(), this.files().toString());
+    }
+
+    // ----------------------------------------------------------------
+
+    private List<Path> files() throws Exception {
+        try (Stream<Path> files = Files.list(this.dir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.benchmarks;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.template.AsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.DefaultAsyncMinioTemplate;
+import io.github.photowey.minio.spring.boot.autoconfigure.template.StreamingTemplate;
+import io.minio.ObjectWriteResponse;
+import io.minio.StatObjectResponse;
+import io.minio.messages.Bucket;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code AsyncMinioTemplateBenchmark}
+ * <p>
+ * {@link DefaultAsyncMinioTemplate} operations against the in-process {@link BenchmarkServer},
+ * each one waited for, so the numbers compare with {@link SyncMinioTemplateBenchmark}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncMinioTemplateBenchmark {
+
+    private BenchmarkServer server;
+    private AsyncMinioTemplate template;
+
+    private byte[] small;
+    private byte[] large;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.server = BenchmarkServer.start();
+        this.template = new DefaultAsyncMinioTemplate(this.server.asyncClient(), this.server.properties());
+
+        this.small = BenchmarkServer.randomBytes(BenchmarkServer.SMALL_OBJECT_SIZE);
+        this.large = BenchmarkServer.randomBytes(BenchmarkServer.LARGE_OBJECT_SIZE);
+
+        this.template.createBucket(BenchmarkServer.BUCKET).join();
+        this.template.putObject(BenchmarkServer.BUCKET, BenchmarkServer.SMALL_OBJECT,
+            StreamingTemplate.DEFAULT_STREAM_CONTENT_TYPE, new ByteArrayInputStream(this.small), this.small.length).join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.server.close();
+    }
+
+    // ----------------------------------------------------------------- object
+
+    @Benchmark
+    public ObjectWriteResponse putSmallObject() {
+        return this.template.putObject(BenchmarkServer.BUCKET, "put-small.bin",
+            StreamingTemplate.DEFAULT_STREAM_CONTENT_TYPE, new ByteArrayInputStream(this.small), this.small.length).join();
+    }
+
+    @Benchmark
+    public void getSmallObject(Blackhole blackhole) throws IOException {
+        try (InputStream in = this.template.downloadObject(BenchmarkServer.BUCKET, BenchmarkServer.SMALL_OBJECT).join()) {
+            SyncMinioTemplateBenchmark.drain(in, blackhole);
+        }
+    }
+
+    /**
+     * Unknown length, so the object is streamed in {@link BenchmarkServer#PART_SIZE} parts.
+     */
+    @Benchmark
+    @Warmup(iterations = 2, time = 5)
+    @Measurement(iterations = 3, time = 5)
+    public ObjectWriteResponse putLargeObjectStreaming() {
+        return this.template.putObject(BenchmarkServer.BUCKET, "put-large.bin",
+            StreamingTemplate.DEFAULT_STREAM_CONTENT_TYPE, new ByteArrayInputStream(this.large), StreamingTemplate.UNKNOWN_SIZE).join();
+    }
+
+    @Benchmark
+    public StatObjectResponse statObject() {
+        return this.template.statObject(BenchmarkServer.BUCKET, BenchmarkServer.SMALL_OBJECT).join();
+    }
+
+    @Benchmark
+    public String presignedUrl() {
+        return this.template.url(BenchmarkServer.BUCKET, BenchmarkServer.SMALL_OBJECT, 1, TimeUnit.HOURS);
+    }
+
+    // ----------------------------------------------------------------- bucket
+
+    @Benchmark
+    public boolean bucketExists() {
+        return this.template.bucketExists(BenchmarkServer.BUCKET).join();
+    }
+
+    @Benchmark
+    public List<Bucket> buckets() {
+        return this.template.buckets().join();
+    }
+}
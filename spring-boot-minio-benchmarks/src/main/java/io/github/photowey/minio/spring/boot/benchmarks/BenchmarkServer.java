@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.benchmarks;
+
+import io.github.photowey.minio.spring.boot.autoconfigure.client.MinioClients;
+import io.github.photowey.minio.spring.boot.autoconfigure.http.OkHttpClients;
+import io.github.photowey.minio.spring.boot.autoconfigure.property.MinIOProperties;
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockWebServer;
+import org.springframework.util.unit.DataSize;
+
+import javax.net.ServerSocketFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@code BenchmarkServer}
+ * <p>
+ * An in-process {@link MockWebServer} backed by an {@link InMemoryS3Dispatcher}, plus clients configured the way
+ * the starters configure them.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class BenchmarkServer implements AutoCloseable {
+
+    public static final String BUCKET = "benchmarks";
+    public static final String SMALL_OBJECT = "small.bin";
+
+    public static final int SMALL_OBJECT_SIZE = 4 * 1024;
+    public static final int LARGE_OBJECT_SIZE = 32 * 1024 * 1024;
+    public static final DataSize PART_SIZE = DataSize.ofMegabytes(8);
+
+    private final MockWebServer server;
+    private final MinIOProperties properties;
+    private final OkHttpClient httpClient;
+
+    private BenchmarkServer(MockWebServer server, MinIOProperties properties, OkHttpClient httpClient) {
+        this.server = server;
+        this.properties = properties;
+        this.httpClient = httpClient;
+    }
+
+    public static BenchmarkServer start() throws IOException {
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(new InMemoryS3Dispatcher());
+        server.setServerSocketFactory(new NoDelayServerSocketFactory());
+        server.start();
+
+        MinIOProperties properties = new MinIOProperties();
+        properties.setEndpoint(server.url("/").toString());
+        properties.setAccessKey("benchmarks");
+        properties.setSecretKey("benchmarks");
+        properties.setRegion("us-east-1");
+        properties.getUpload().setPartSize(PART_SIZE);
+
+        return new BenchmarkServer(server, properties, OkHttpClients.create(properties.getHttp()));
+    }
+
+    public MinIOProperties properties() {
+        return this.properties;
+    }
+
+    public MinioClient syncClient() {
+        return MinioClients.sync(this.properties, this.httpClient);
+    }
+
+    public MinioAsyncClient asyncClient() {
+        return MinioClients.async(this.properties, this.httpClient);
+    }
+
+    public static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        return bytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.httpClient.dispatcher().executorService().shutdown();
+        this.httpClient.connectionPool().evictAll();
+        this.server.shutdown();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * {@code MockWebServer} writes the headers and the body of a response separately, without {@code TCP_NODELAY}
+     * the body waits for the delayed ACK of the client and every response with a body takes ~40ms.
+     */
+    private static final class NoDelayServerSocketFactory extends ServerSocketFactory {
+
+        private static final int DEFAULT_BACKLOG = 50;
+
+        @Override
+        public ServerSocket createServerSocket() throws IOException {
+            return new NoDelayServerSocket();
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port) throws IOException {
+            return new NoDelayServerSocket(port, DEFAULT_BACKLOG, null);
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog) throws IOException {
+            return new NoDelayServerSocket(port, backlog, null);
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog, InetAddress address) throws IOException {
+            return new NoDelayServerSocket(port, backlog, address);
+        }
+    }
+
+    private static final class NoDelayServerSocket extends ServerSocket {
+
+        private NoDelayServerSocket() throws IOException {
+            super();
+        }
+
+        private NoDelayServerSocket(int port, int backlog, InetAddress address) throws IOException {
+            super(port, backlog, address);
+        }
+
+        @Override
+        public Socket accept() throws IOException {
+            Socket socket = super.accept();
+            socket.setTcpNoDelay(true);
+
+            return socket;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.benchmarks;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@code InMemoryS3Dispatcher}
+ * <p>
+ * A {@code MockWebServer} stand-in for an S3 server, just enough of the API for the benchmarks: bucket
+ * {@code HEAD}/{@code PUT}/{@code DELETE}/location, bucket listing and object {@code PUT}(single and multipart),
+ * {@code GET}, {@code HEAD} and {@code DELETE}. Signatures aren't checked.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class InMemoryS3Dispatcher extends Dispatcher {
+
+    private static final String NS = "http://s3.amazonaws.com/doc/2006-03-01/";
+    private static final String LAST_MODIFIED = "Mon, 01 Jan 2024 00:00:00 GMT";
+
+    private final ConcurrentMap<String, ConcurrentMap<String, StoredObject>> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<Integer, Buffer>> uploads = new ConcurrentHashMap<>();
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+        HttpUrl url = request.getRequestUrl();
+        List<String> segments = url.pathSegments();
+        String bucket = segments.get(0);
+        if (bucket.isEmpty()) {
+            return this.listBuckets();
+        }
+
+        String object = String.join("/", segments.subList(1, segments.size()));
+        if (object.isEmpty()) {
+            return this.bucket(request, bucket);
+        }
+
+        return this.object(request, bucket, object);
+    }
+
+    // ---------------------------------------------------------------- bucket
+
+    private MockResponse listBuckets() {
+        StringBuilder xml = new StringBuilder("<ListAllMyBucketsResult xmlns=\"" + NS + "\">")
+            .append("<Owner><ID>bench</ID><DisplayName>bench</DisplayName></Owner><Buckets>");
+        for (String bucket : new TreeMap<>(this.buckets).keySet()) {
+            xml.append("<Bucket><Name>").append(bucket)
+                .append("</Name><CreationDate>2024-01-01T00:00:00.000Z</CreationDate></Bucket>");
+        }
+        xml.append("</Buckets></ListAllMyBucketsResult>");
+
+        return xml(200, xml.toString());
+    }
+
+    private MockResponse bucket(RecordedRequest request, String bucket) {
+        if (request.getRequestUrl().queryParameterNames().contains("location")) {
+            return xml(200, "<LocationConstraint xmlns=\"" + NS + "\">us-east-1</LocationConstraint>");
+        }
+
+        switch (request.getMethod()) {
+            case "HEAD":
+                return new MockResponse().setResponseCode(this.buckets.containsKey(bucket) ? 200 : 404);
+            case "PUT":
+                this.buckets.putIfAbsent(bucket, new ConcurrentHashMap<>());
+                return new MockResponse().setResponseCode(200);
+            case "DELETE":
+                this.buckets.remove(bucket);
+                return new MockResponse().setResponseCode(204);
+            default:
+                return error(501, "NotImplemented", request.getMethod() + " " + request.getPath());
+        }
+    }
+
+    // ---------------------------------------------------------------- object
+
+    private MockResponse object(RecordedRequest request, String bucket, String object) {
+        ConcurrentMap<String, StoredObject> objects = this.buckets.get(bucket);
+        if (objects == null) {
+            return error(404, "NoSuchBucket", bucket);
+        }
+
+        HttpUrl url = request.getRequestUrl();
+        String uploadId = url.queryParameter("uploadId");
+        switch (request.getMethod()) {
+            case "POST":
+                if (url.queryParameterNames().contains("uploads")) {
+                    String id = UUID.randomUUID().toString();
+                    this.uploads.put(id, new ConcurrentHashMap<>());
+
+                    return xml(200, "<InitiateMultipartUploadResult xmlns=\"" + NS + "\"><Bucket>" + bucket
+                        + "</Bucket><Key>" + object + "</Key><UploadId>" + id + "</UploadId></InitiateMultipartUploadResult>");
+                }
+
+                return this.completeMultipartUpload(objects, bucket, object, uploadId);
+            case "PUT": {
+                Buffer body = request.getBody();
+                if (uploadId != null) {
+                    ConcurrentMap<Integer, Buffer> parts = this.uploads.get(uploadId);
+                    if (parts == null) {
+                        return error(404, "NoSuchUpload", uploadId);
+                    }
+                    parts.put(Integer.parseInt(url.queryParameter("partNumber")), body);
+
+                    return new MockResponse().setResponseCode(200).setHeader("ETag", "\"" + etag(body) + "\"");
+                }
+
+                String contentType = request.getHeader("Content-Type");
+                StoredObject stored = new StoredObject(body.readByteArray(), contentType);
+                objects.put(object, stored);
+
+                return new MockResponse().setResponseCode(200).setHeader("ETag", stored.quotedETag);
+            }
+            case "DELETE":
+                if (uploadId != null) {
+                    this.uploads.remove(uploadId);
+                } else {
+                    objects.remove(object);
+                }
+
+                return new MockResponse().setResponseCode(204);
+            case "HEAD":
+            case "GET": {
+                StoredObject stored = objects.get(object);
+                if (stored == null) {
+                    return "HEAD".equals(request.getMethod())
+                        ? new MockResponse().setResponseCode(404)
+                        : error(404, "NoSuchKey", object);
+                }
+
+                MockResponse response = new MockResponse()
+                    .setResponseCode(200)
+                    .setHeader("ETag", stored.quotedETag)
+                    .setHeader("Content-Type", stored.contentType)
+                    .setHeader("Last-Modified", LAST_MODIFIED);
+                if ("HEAD".equals(request.getMethod())) {
+                    return response.setHeader("Content-Length", stored.data.length);
+                }
+
+                return response.setBody(new Buffer().write(stored.data));
+            }
+            default:
+                return error(501, "NotImplemented", request.getMethod() + " " + request.getPath());
+        }
+    }
+
+    private MockResponse completeMultipartUpload(
+        Map<String, StoredObject> objects, String bucket, String object, String uploadId) {
+        ConcurrentMap<Integer, Buffer> parts = uploadId != null ? this.uploads.remove(uploadId) : null;
+        if (parts == null) {
+            return error(404, "NoSuchUpload", String.valueOf(uploadId));
+        }
+
+        Buffer data = new Buffer();
+        new TreeMap<>(parts).values().forEach((part) -> data.write(part, part.size()));
+        StoredObject stored = new StoredObject(data.readByteArray(), null);
+        objects.put(object, stored);
+
+        return xml(200, "<CompleteMultipartUploadResult xmlns=\"" + NS + "\"><Location>/" + bucket + "/" + object
+            + "</Location><Bucket>" + bucket + "</Bucket><Key>" + object + "</Key><ETag>&quot;" + stored.etag
+            + "&quot;</ETag></CompleteMultipartUploadResult>");
+    }
+
+    // ----------------------------------------------------------------
+
+    private static String etag(Buffer body) {
+        return body.md5().hex();
+    }
+
+    private static MockResponse xml(int code, String body) {
+        return new MockResponse()
+            .setResponseCode(code)
+            .setHeader("Content-Type", "application/xml")
+            .setBody(body);
+    }
+
+    private static MockResponse error(int code, String errorCode, String message) {
+        return xml(code, "<Error><Code>" + errorCode + "</Code><Message>" + message
+            + "</Message><Resource>/</Resource><RequestId>bench</RequestId><HostId>bench</HostId></Error>");
+    }
+
+    private static final class StoredObject {
+
+        private final byte[] data;
+        private final String contentType;
+        private final String etag;
+        private final String quotedETag;
+
+        private StoredObject(byte[] data, String contentType) {
+            this.data = data;
+            this.contentType = contentType != null ? contentType : "application/octet-stream";
+            this.etag = new Buffer().write(data).md5().hex();
+            this.quotedETag = "\"" + this.etag + "\"";
+        }
+    }
+}
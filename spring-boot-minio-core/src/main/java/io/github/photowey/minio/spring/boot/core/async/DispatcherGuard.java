@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.async;
+
+import java.util.concurrent.Future;
+
+/**
+ * {@code DispatcherGuard}
+ * <p>
+ * Keeps the template code from parking an {@code OkHttp} dispatcher thread, one of those completing the
+ * {@code MinioAsyncClient} futures, on an incomplete {@link Future}: the wait could need that very thread.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class DispatcherGuard {
+
+    private static final String DISPATCHER_THREAD_NAME_PREFIX = "OkHttp";
+
+    private DispatcherGuard() {
+        // utility class; can't create
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    /**
+     * @param thread the {@link Thread}
+     * @return {@code true} if {@code thread} is an {@code OkHttp} dispatcher thread
+     */
+    public static boolean isDispatcherThread(Thread thread) {
+        return thread.getName().startsWith(DISPATCHER_THREAD_NAME_PREFIX);
+    }
+
+    /**
+     * Flags a blocking wait on a dispatcher thread.
+     *
+     * @param future the {@link Future} about to be waited on
+     * @throws IllegalStateException if the {@link Future} is incomplete and the current thread is a dispatcher thread
+     */
+    public static void checkBlocking(Future<?> future) {
+        if (future.isDone()) {
+            return;
+        }
+
+        Thread current = Thread.currentThread();
+        if (isDispatcherThread(current)) {
+            throw new IllegalStateException(
+                "Blocking wait on OkHttp dispatcher thread: " + current.getName() + ", compose the future instead");
+        }
+    }
+}
@@ -15,8 +15,12 @@
  */
 package io.github.photowey.minio.spring.boot.core.async;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 
 /**
@@ -61,4 +65,54 @@ public final class Futures {
 
         return defaultValue;
     }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Complete a copy of {@code future} on {@code executor}, so the dependents chained on the copy without an
+     * executor of their own run there, not on the thread completing {@code future}.
+     * A rejected hand-off fails the copy with the {@link RejectedExecutionException}.
+     *
+     * @param future   the {@link CompletableFuture}
+     * @param executor the completion {@link Executor}, {@code null} returns {@code future} itself
+     * @param <T>      the result type
+     * @return the copy completed on {@code executor}
+     */
+    public static <T> CompletableFuture<T> handOff(CompletableFuture<T> future, Executor executor) {
+        if (executor == null) {
+            return future;
+        }
+
+        CompletableFuture<T> fx = new CompletableFuture<>();
+        future.whenComplete((value, ex) -> {
+            try {
+                executor.execute(() -> {
+                    if (ex != null) {
+                        fx.completeExceptionally(ex);
+                    } else {
+                        fx.complete(value);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                fx.completeExceptionally(e);
+            }
+        });
+
+        return fx;
+    }
+
+    /**
+     * Strips the {@link CompletionException}/{@link ExecutionException} wrappers of a future failure.
+     *
+     * @param ex the failure
+     * @return the root failure
+     */
+    public static Throwable unwrap(Throwable ex) {
+        Throwable cause = ex;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        return cause;
+    }
 }
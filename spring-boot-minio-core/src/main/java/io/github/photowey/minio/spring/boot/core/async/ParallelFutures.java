@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.async;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * {@code ParallelFutures}
+ * <p>
+ * Runs asynchronous tasks with at most {@code parallelism} of them in flight, without parking any thread.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class ParallelFutures {
+
+    private ParallelFutures() {
+        // utility class; can't create
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    /**
+     * Applies {@code task} to every item, keeping at most {@code parallelism} tasks in flight.
+     * <p>
+     * Results keep the order of {@code items}. After the first failure no new task is started, and the returned
+     * future fails once the tasks already in flight have settled.
+     *
+     * @param items       the items
+     * @param parallelism the max tasks in flight
+     * @param task        the asynchronous task
+     * @param <T>         the item type
+     * @param <R>         the result type
+     * @return the ordered results
+     */
+    public static <T, R> CompletableFuture<List<R>> traverse(
+        List<T> items, int parallelism, Function<? super T, ? extends CompletableFuture<? extends R>> task) {
+        if (items.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        Traversal<T, R> traversal = new Traversal<>(items, task, Math.max(1, Math.min(parallelism, items.size())));
+        traversal.start();
+
+        return traversal.result;
+    }
+
+    private static final class Traversal<T, R> {
+
+        private final List<T> items;
+        private final Function<? super T, ? extends CompletableFuture<? extends R>> task;
+        private final Object[] results;
+        private final int lanes;
+
+        private final AtomicInteger cursor = new AtomicInteger();
+        private final AtomicInteger activeLanes;
+        private final CompletableFuture<List<R>> result = new CompletableFuture<>();
+
+        private volatile Throwable failure;
+
+        private Traversal(List<T> items, Function<? super T, ? extends CompletableFuture<? extends R>> task, int lanes) {
+            this.items = items;
+            this.task = task;
+            this.results = new Object[items.size()];
+            this.lanes = lanes;
+            this.activeLanes = new AtomicInteger(lanes);
+        }
+
+        private void start() {
+            for (int i = 0; i < this.lanes; i++) {
+                this.lane();
+            }
+        }
+
+        private void lane() {
+            while (true) {
+                int index;
+                if (this.failure != null || (index = this.cursor.getAndIncrement()) >= this.items.size()) {
+                    if (this.activeLanes.decrementAndGet() == 0) {
+                        this.finish();
+                    }
+
+                    return;
+                }
+
+                CompletableFuture<? extends R> future = this.apply(index);
+                if (future.isDone()) {
+                    // Trampoline over synchronously completed tasks instead of recursing.
+                    this.settle(index, future);
+                    continue;
+                }
+
+                future.whenComplete((value, ex) -> {
+                    this.settle(index, value, ex);
+                    this.lane();
+                });
+
+                return;
+            }
+        }
+
+        private CompletableFuture<? extends R> apply(int index) {
+            try {
+                return this.task.apply(this.items.get(index));
+            } catch (Throwable e) {
+                CompletableFuture<R> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+
+                return failed;
+            }
+        }
+
+        private void settle(int index, CompletableFuture<? extends R> future) {
+            try {
+                this.settle(index, future.join(), null);
+            } catch (Throwable e) {
+                this.settle(index, null, e);
+            }
+        }
+
+        private void settle(int index, R value, Throwable ex) {
+            if (ex != null) {
+                if (this.failure == null) {
+                    this.failure = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                }
+
+                return;
+            }
+
+            this.results[index] = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void finish() {
+            if (this.failure != null) {
+                this.result.completeExceptionally(this.failure);
+
+                return;
+            }
+
+            List<R> values = new ArrayList<>(this.results.length);
+            for (Object value : this.results) {
+                values.add((R) value);
+            }
+
+            this.result.complete(values);
+        }
+    }
+}
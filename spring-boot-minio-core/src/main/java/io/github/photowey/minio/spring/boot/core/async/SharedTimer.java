@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.async;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code SharedTimer}
+ * <p>
+ * A lease of the single daemon timer thread shared by the limits, retries, hedges and health checks of every
+ * template, so a tenant doesn't start timers of its own. Tasks run on that one thread and must not block.
+ * <p>
+ * Closing a lease cancels its periodic tasks, turns its pending one-shot tasks into no-ops, fails its pending
+ * {@link #delay(long, TimeUnit) delays} and rejects new ones, the thread itself keeps serving the other leases.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class SharedTimer implements AutoCloseable {
+
+    private final Set<ScheduledFuture<?>> periodic = ConcurrentHashMap.newKeySet();
+    private final Set<CompletableFuture<Void>> delays = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed;
+
+    private SharedTimer() {
+    }
+
+    public static SharedTimer lease() {
+        return new SharedTimer();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Run {@code task} once after {@code delay}, unless the lease is closed by then.
+     *
+     * @param task  the task
+     * @param delay the delay
+     * @param unit  the {@link TimeUnit} of {@code delay}
+     * @return the {@link ScheduledFuture} of the task
+     * @throws RejectedExecutionException if the lease is closed
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        this.checkOpen();
+
+        return Holder.TIMER.schedule(() -> {
+            if (!this.closed) {
+                task.run();
+            }
+        }, delay, unit);
+    }
+
+    /**
+     * A future completed after {@code delay}, on the timer thread. Unlike a task scheduled by
+     * {@link #schedule(Runnable, long, TimeUnit)}, it isn't dropped silently when the lease is closed first: it fails
+     * with a {@link RejectedExecutionException}, so whoever waits on it is told. Cancelling it unschedules it.
+     *
+     * @param delay the delay
+     * @param unit  the {@link TimeUnit} of {@code delay}
+     * @return the future of the delay
+     * @throws RejectedExecutionException if the lease is closed
+     */
+    public CompletableFuture<Void> delay(long delay, TimeUnit unit) {
+        this.checkOpen();
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        this.delays.add(future);
+        ScheduledFuture<?> scheduled = Holder.TIMER.schedule(() -> future.complete(null), delay, unit);
+        future.whenComplete((x, ex) -> {
+            this.delays.remove(future);
+            if (future.isCancelled()) {
+                scheduled.cancel(false);
+            }
+        });
+        if (this.closed) {
+            // Closed while scheduling, close() may have missed it.
+            future.completeExceptionally(closedException());
+        }
+
+        return future;
+    }
+
+    /**
+     * Run {@code task} repeatedly until cancelled or the lease is closed.
+     *
+     * @param task         the task
+     * @param initialDelay the delay of the first run
+     * @param delay        the delay between the end of a run and the start of the next
+     * @param unit         the {@link TimeUnit} of the delays
+     * @return the {@link ScheduledFuture} of the task
+     * @throws RejectedExecutionException if the lease is closed
+     */
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long initialDelay, long delay, TimeUnit unit) {
+        this.checkOpen();
+
+        ScheduledFuture<?> future = Holder.TIMER.scheduleWithFixedDelay(task, initialDelay, delay, unit);
+        this.periodic.add(future);
+        if (this.closed) {
+            // Closed while scheduling, close() may have missed it.
+            future.cancel(false);
+        }
+
+        return future;
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        for (ScheduledFuture<?> future : this.periodic) {
+            future.cancel(false);
+        }
+        this.periodic.clear();
+        for (CompletableFuture<Void> future : this.delays) {
+            future.completeExceptionally(closedException());
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private void checkOpen() {
+        if (this.closed) {
+            throw closedException();
+        }
+    }
+
+    private static RejectedExecutionException closedException() {
+        return new RejectedExecutionException("Timer lease closed");
+    }
+
+    /**
+     * Started on the first lease.
+     */
+    private static final class Holder {
+
+        private static final ScheduledThreadPoolExecutor TIMER = create();
+
+        private static ScheduledThreadPoolExecutor create() {
+            ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, (task) -> {
+                Thread thread = new Thread(task, "minio-timer");
+                thread.setDaemon(true);
+
+                return thread;
+            });
+            timer.setRemoveOnCancelPolicy(true);
+
+            return timer;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@code SingleFlight}
+ * <p>
+ * Coalesces concurrent calls of one key: the first caller runs the call, the ones arriving while it's in flight
+ * share its outcome. A call arriving after it completed runs again, nothing is cached.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * Run {@code call} on the current thread, or wait for the one in flight.
+     *
+     * @param key  the key
+     * @param call the call
+     * @return the value
+     */
+    public V call(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = this.flights.putIfAbsent(key, flight);
+        if (running != null) {
+            this.shared.increment();
+
+            return join(running);
+        }
+
+        try {
+            V value = call.get();
+            this.land(key, flight, value, null);
+
+            return value;
+        } catch (RuntimeException | Error e) {
+            this.land(key, flight, null, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Start {@code call}, or share the one in flight.
+     *
+     * @param key  the key
+     * @param call the call
+     * @return a future of its own per caller, so cancelling one doesn't cancel the others
+     */
+    public CompletableFuture<V> submit(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = this.flights.putIfAbsent(key, flight);
+        if (running != null) {
+            this.shared.increment();
+
+            return running.thenApply(Function.identity());
+        }
+
+        try {
+            call.get().whenComplete((value, ex) -> this.land(key, flight, value, ex));
+        } catch (RuntimeException | Error e) {
+            this.land(key, flight, null, e);
+        }
+
+        return flight.thenApply(Function.identity());
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the calls that shared another caller's flight
+     */
+    public long shared() {
+        return this.shared.sum();
+    }
+
+    /**
+     * @return the keys in flight
+     */
+    public int inFlight() {
+        return this.flights.size();
+    }
+
+    // ----------------------------------------------------------------
+
+    private void land(K key, CompletableFuture<V> flight, V value, Throwable ex) {
+        // Removed first, so a caller chained on the flight starts a new one instead of joining a completed one.
+        this.flights.remove(key, flight);
+        if (ex != null) {
+            flight.completeExceptionally(Futures.unwrap(ex));
+        } else {
+            flight.complete(value);
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> flight) {
+        DispatcherGuard.checkBlocking(flight);
+        try {
+            return flight.join();
+        } catch (RuntimeException e) {
+            Throwable cause = Futures.unwrap(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw e;
+        }
+    }
+}
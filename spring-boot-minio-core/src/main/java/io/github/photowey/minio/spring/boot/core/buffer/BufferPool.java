@@ -0,0 +1,350 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.buffer;
+
+import io.github.photowey.minio.spring.boot.core.async.VirtualThreads;
+
+import java.io.IOException;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code BufferPool}
+ * <p>
+ * Off-heap {@link ByteBuffer}s for chunk copies, pooled by power-of-two size class from {@value #MIN_BUFFER_SIZE}
+ * to {@value #MAX_BUFFER_SIZE} bytes. A released buffer goes to a small cache of the releasing platform thread first,
+ * then to a pool shared by all threads, which keeps at most {@code maxPooledBytes}. Larger requests aren't pooled.
+ * <p>
+ * A direct buffer saves the temporary direct copy the JDK makes of a heap buffer written to a file or socket
+ * channel. It saves nothing on the read side of a stream: {@link java.nio.channels.Channels#newChannel} reads into
+ * an array of its own first, and reading into a heap array instead only moves that copy to the write.
+ * <p>
+ * The thread caches aren't counted against {@code maxPooledBytes}: a cache dies with its thread, the GC freeing
+ * its buffers, so counting them would strand that budget. They add at most {@code threadCacheSize} buffers per size
+ * class and thread.
+ * <p>
+ * With leak detection on, every acquisition records its stack trace and a buffer collected before its release is
+ * counted as a leak, the trace of the latest one being kept in {@link #lastLeak()}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class BufferPool {
+
+    public static final int MIN_BUFFER_SIZE = 4 * 1024;
+    public static final int MAX_BUFFER_SIZE = 1024 * 1024;
+    /**
+     * The buffer size of {@link #copy(ReadableByteChannel, WritableByteChannel)}.
+     */
+    public static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final int SIZE_CLASSES =
+        Integer.numberOfTrailingZeros(MAX_BUFFER_SIZE) - Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE) + 1;
+
+    private static final BufferPool SHARED = new BufferPool(64L * 1024 * 1024, 4);
+
+    private final long maxPooledBytes;
+    private final int threadCacheSize;
+
+    private final ConcurrentLinkedDeque<ByteBuffer>[] pools;
+    private final ThreadLocal<ThreadCache> threadCaches;
+
+    private final AtomicLong pooledBytes = new AtomicLong();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    private final ReferenceQueue<PooledBuffer> collected = new ReferenceQueue<>();
+    private final Set<Leak> tracked = ConcurrentHashMap.newKeySet();
+    private final LongAdder leaks = new LongAdder();
+
+    private volatile boolean leakDetection;
+    private volatile Throwable lastLeak;
+
+    @SuppressWarnings("unchecked")
+    public BufferPool(long maxPooledBytes, int threadCacheSize) {
+        this.maxPooledBytes = maxPooledBytes;
+        this.threadCacheSize = threadCacheSize;
+        this.pools = new ConcurrentLinkedDeque[SIZE_CLASSES];
+        for (int i = 0; i < SIZE_CLASSES; i++) {
+            this.pools[i] = new ConcurrentLinkedDeque<>();
+        }
+        this.threadCaches = ThreadLocal.withInitial(() -> new ThreadCache(threadCacheSize));
+    }
+
+    /**
+     * The pool shared by the templates of every context, {@code 64MB} pooled at most.
+     *
+     * @return the shared {@link BufferPool}
+     */
+    public static BufferPool shared() {
+        return SHARED;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Acquire a cleared direct buffer, to be released by {@link PooledBuffer#close()}.
+     *
+     * @param capacity the bytes needed, the buffer's limit
+     * @return the {@link PooledBuffer}
+     */
+    public PooledBuffer acquire(int capacity) {
+        if (this.leakDetection) {
+            this.pollLeaks();
+        }
+
+        int sizeClass = sizeClass(capacity);
+        ByteBuffer buffer = sizeClass >= 0 ? this.poll(sizeClass) : null;
+        if (buffer != null) {
+            this.hits.increment();
+        } else {
+            int size = sizeClass >= 0 ? MIN_BUFFER_SIZE << sizeClass : capacity;
+            buffer = ByteBuffer.allocateDirect(size);
+            this.misses.increment();
+            this.allocatedBytes.add(size);
+        }
+
+        buffer.clear().limit(capacity);
+        this.inUse.incrementAndGet();
+
+        PooledBuffer pooled = new PooledBuffer(this, buffer, sizeClass);
+        if (this.leakDetection) {
+            Leak leak = new Leak(pooled, this.collected);
+            this.tracked.add(leak);
+            pooled.leak = leak;
+        }
+
+        return pooled;
+    }
+
+    /**
+     * Copy {@code source} to its end into {@code target} through a pooled buffer.
+     *
+     * @param source the source
+     * @param target the target
+     * @return the bytes copied
+     * @throws IOException if either channel fails
+     */
+    public long copy(ReadableByteChannel source, WritableByteChannel target) throws IOException {
+        long copied = 0;
+        try (PooledBuffer pooled = this.acquire(CHUNK_SIZE)) {
+            ByteBuffer buffer = pooled.buffer();
+            while (source.read(buffer) >= 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    copied += target.write(buffer);
+                }
+                buffer.clear();
+            }
+        }
+
+        return copied;
+    }
+
+    public void leakDetection(boolean leakDetection) {
+        this.leakDetection = leakDetection;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the acquisitions served by a pooled buffer
+     */
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @return the acquisitions that allocated a buffer
+     */
+    public long misses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @return the direct bytes allocated so far
+     */
+    public long allocatedBytes() {
+        return this.allocatedBytes.sum();
+    }
+
+    /**
+     * @return the bytes held by the shared pool, thread caches excluded
+     */
+    public long pooledBytes() {
+        return this.pooledBytes.get();
+    }
+
+    public int inUse() {
+        return this.inUse.get();
+    }
+
+    public long leaks() {
+        if (this.leakDetection) {
+            this.pollLeaks();
+        }
+
+        return this.leaks.sum();
+    }
+
+    /**
+     * @return the acquisition trace of the latest leaked buffer, {@code null} if none
+     */
+    public Throwable lastLeak() {
+        return this.lastLeak;
+    }
+
+    // ----------------------------------------------------------------
+
+    void release(PooledBuffer pooled) {
+        this.inUse.decrementAndGet();
+        Leak leak = pooled.leak;
+        if (leak != null) {
+            this.tracked.remove(leak);
+            leak.clear();
+        }
+
+        int sizeClass = pooled.sizeClass;
+        if (sizeClass < 0) {
+            return;
+        }
+
+        ByteBuffer buffer = pooled.buffer;
+        if (this.threadCached() && this.threadCaches.get().offer(sizeClass, buffer)) {
+            return;
+        }
+        if (this.pooledBytes.addAndGet(buffer.capacity()) > this.maxPooledBytes) {
+            // Dropped, the GC frees its memory.
+            this.pooledBytes.addAndGet(-buffer.capacity());
+            return;
+        }
+
+        this.pools[sizeClass].offerFirst(buffer);
+    }
+
+    private ByteBuffer poll(int sizeClass) {
+        if (this.threadCached()) {
+            ByteBuffer buffer = this.threadCaches.get().poll(sizeClass);
+            if (buffer != null) {
+                return buffer;
+            }
+        }
+
+        ByteBuffer buffer = this.pools[sizeClass].pollFirst();
+        if (buffer != null) {
+            this.pooledBytes.addAndGet(-buffer.capacity());
+        }
+
+        return buffer;
+    }
+
+    // Virtual threads are too many and too short-lived to keep a cache each.
+    private boolean threadCached() {
+        return this.threadCacheSize > 0 && !VirtualThreads.isVirtual(Thread.currentThread());
+    }
+
+    private void pollLeaks() {
+        Reference<? extends PooledBuffer> reference;
+        while ((reference = this.collected.poll()) != null) {
+            Leak leak = (Leak) reference;
+            if (this.tracked.remove(leak)) {
+                this.inUse.decrementAndGet();
+                this.leaks.increment();
+                this.lastLeak = leak.acquired;
+            }
+        }
+    }
+
+    private static int sizeClass(int capacity) {
+        if (capacity > MAX_BUFFER_SIZE) {
+            return -1;
+        }
+        if (capacity <= MIN_BUFFER_SIZE) {
+            return 0;
+        }
+
+        return 32 - Integer.numberOfLeadingZeros(capacity - 1) - Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The buffers cached by one thread, touched by that thread only.
+     */
+    private static final class ThreadCache {
+
+        private final ByteBuffer[][] stacks = new ByteBuffer[SIZE_CLASSES][];
+        private final int[] sizes = new int[SIZE_CLASSES];
+
+        private ThreadCache(int size) {
+            for (int i = 0; i < SIZE_CLASSES; i++) {
+                this.stacks[i] = new ByteBuffer[size];
+            }
+        }
+
+        private ByteBuffer poll(int sizeClass) {
+            int size = this.sizes[sizeClass];
+            if (size == 0) {
+                return null;
+            }
+
+            ByteBuffer buffer = this.stacks[sizeClass][--size];
+            this.stacks[sizeClass][size] = null;
+            this.sizes[sizeClass] = size;
+
+            return buffer;
+        }
+
+        private boolean offer(int sizeClass, ByteBuffer buffer) {
+            int size = this.sizes[sizeClass];
+            if (size == this.stacks[sizeClass].length) {
+                return false;
+            }
+
+            this.stacks[sizeClass][size] = buffer;
+            this.sizes[sizeClass] = size + 1;
+
+            return true;
+        }
+    }
+
+    /**
+     * Tracks a {@link PooledBuffer} until released, enqueued if collected before.
+     */
+    static final class Leak extends PhantomReference<PooledBuffer> {
+
+        private final Throwable acquired;
+
+        private Leak(PooledBuffer referent, ReferenceQueue<? super PooledBuffer> queue) {
+            super(referent, queue);
+            this.acquired = new Throwable("Buffer of " + referent.buffer().capacity()
+                + " bytes acquired here was never released");
+        }
+    }
+}
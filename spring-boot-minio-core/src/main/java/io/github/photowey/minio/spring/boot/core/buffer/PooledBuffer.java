@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code PooledBuffer}
+ * <p>
+ * A buffer of a {@link BufferPool}, returned to it by {@link #close()}. The buffer mustn't be used once closed.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class PooledBuffer implements AutoCloseable {
+
+    final ByteBuffer buffer;
+    final int sizeClass;
+    BufferPool.Leak leak;
+
+    private final BufferPool pool;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    PooledBuffer(BufferPool pool, ByteBuffer buffer, int sizeClass) {
+        this.pool = pool;
+        this.buffer = buffer;
+        this.sizeClass = sizeClass;
+    }
+
+    public ByteBuffer buffer() {
+        return this.buffer;
+    }
+
+    @Override
+    public void close() {
+        if (this.released.compareAndSet(false, true)) {
+            this.pool.release(this);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.cache;
+
+/**
+ * {@code CacheStats}
+ * <p>
+ * A snapshot of the cumulative counters of an {@link ExpiringLruCache}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public final class CacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    public CacheStats(long hits, long misses, long evictions) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    public long hits() {
+        return this.hits;
+    }
+
+    public long misses() {
+        return this.misses;
+    }
+
+    public long evictions() {
+        return this.evictions;
+    }
+
+    public long requests() {
+        return this.hits + this.misses;
+    }
+
+    public double hitRate() {
+        long requests = this.requests();
+
+        return requests == 0 ? 1.0D : (double) this.hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + this.hits + ", misses=" + this.misses + ", evictions=" + this.evictions + "}";
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * {@code ExpiringLruCache}
+ * <p>
+ * A size-bounded cache whose entries expire after their own time-to-live, the least recently used entry is evicted
+ * once {@code maxEntries} is exceeded. Expired entries are not swept, they are dropped when {@link #get(Object)} meets
+ * them or when they age out of the LRU order.
+ * <p>
+ * A value loaded remotely may race with an invalidation, so loads take a {@link #stamp()} first and
+ * {@link #put(Object, Object, long, TimeUnit, long)} drops the value if anything was invalidated since.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final int maxEntries;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long invalidations;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpiringLruCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Get a live value.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if absent or expired
+     */
+    public V get(K key) {
+        long now = System.nanoTime();
+        synchronized (this) {
+            Entry<V> entry = this.entries.get(key);
+            if (entry != null) {
+                if (now - entry.expiresAt < 0) {
+                    this.hits.increment();
+                    return entry.value;
+                }
+
+                this.entries.remove(key);
+                this.evictions.increment();
+            }
+        }
+
+        this.misses.increment();
+
+        return null;
+    }
+
+    public synchronized long stamp() {
+        return this.invalidations;
+    }
+
+    public void put(K key, V value, long ttl, TimeUnit unit) {
+        long expiresAt = System.nanoTime() + unit.toNanos(ttl);
+        synchronized (this) {
+            this.store(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    /**
+     * Put a loaded value, unless an invalidation happened after the load began.
+     *
+     * @param key   the key
+     * @param value the value
+     * @param ttl   the time-to-live
+     * @param unit  the {@link TimeUnit} of {@code ttl}
+     * @param stamp the {@link #stamp()} taken before the load
+     * @return {@code true} if the value was cached
+     */
+    public boolean put(K key, V value, long ttl, TimeUnit unit, long stamp) {
+        long expiresAt = System.nanoTime() + unit.toNanos(ttl);
+        synchronized (this) {
+            if (this.invalidations != stamp) {
+                return false;
+            }
+
+            this.store(key, new Entry<>(value, expiresAt));
+
+            return true;
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        this.invalidations++;
+        this.entries.remove(key);
+    }
+
+    public synchronized void invalidateIf(Predicate<? super K> predicate) {
+        this.invalidations++;
+        this.entries.keySet().removeIf(predicate);
+    }
+
+    public synchronized void clear() {
+        this.invalidations++;
+        this.entries.clear();
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    public int maxEntries() {
+        return this.maxEntries;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum());
+    }
+
+    // ----------------------------------------------------------------
+
+    private void store(K key, Entry<V> entry) {
+        this.entries.put(key, entry);
+        if (this.entries.size() <= this.maxEntries) {
+            return;
+        }
+
+        // Only the least recently used head goes, expired entries are dropped lazily by get.
+        Iterator<K> it = this.entries.keySet().iterator();
+        it.next();
+        it.remove();
+        this.evictions.increment();
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@code CountingInputStream}
+ * <p>
+ * Counts the bytes read, or skipped. A {@link #reset()} rewinds the count to the {@link #mark(int)},
+ * so a body read again by a retry is counted once.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class CountingInputStream extends FilterInputStream {
+
+    private volatile long count;
+    private long mark = -1;
+
+    public CountingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = this.in.read();
+        if (b >= 0) {
+            this.count++;
+        }
+
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = this.in.read(b, off, len);
+        if (n > 0) {
+            this.count += n;
+        }
+
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = this.in.skip(n);
+        this.count += skipped;
+
+        return skipped;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        this.in.mark(readLimit);
+        this.mark = this.count;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        if (this.mark < 0) {
+            throw new IOException("Mark not set");
+        }
+
+        this.in.reset();
+        this.count = this.mark;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the bytes read since the stream was created, or since the {@link #mark(int)} it was reset to
+     */
+    public long count() {
+        return this.count;
+    }
+
+    /**
+     * @return the stream counted
+     */
+    public InputStream delegate() {
+        return this.in;
+    }
+
+    /**
+     * Strip the counting wrappers of a stream.
+     *
+     * @param in the stream
+     * @return the innermost stream that isn't a {@link CountingInputStream}
+     */
+    public static InputStream unwrap(InputStream in) {
+        InputStream source = in;
+        while (source instanceof CountingInputStream) {
+            source = ((CountingInputStream) source).delegate();
+        }
+
+        return source;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.limit;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code AsyncSemaphore}
+ * <p>
+ * A fair semaphore whose {@link #acquire()} returns a future instead of blocking.
+ * Waiters are granted permits in arrival order, on the thread calling {@link #release()}.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class AsyncSemaphore {
+
+    private final int maxPermits;
+    private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+    private int permits;
+
+    public AsyncSemaphore(int permits) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be positive");
+        }
+
+        this.maxPermits = permits;
+        this.permits = permits;
+    }
+
+    /**
+     * Acquire a permit.
+     *
+     * @return a future completing once the permit is granted, already complete if one was free
+     */
+    public CompletableFuture<Void> acquire() {
+        synchronized (this) {
+            if (this.permits > 0 && this.waiters.isEmpty()) {
+                this.permits--;
+
+                return CompletableFuture.completedFuture(null);
+            }
+
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            this.waiters.add(waiter);
+
+            return waiter;
+        }
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (this.permits > 0 && this.waiters.isEmpty()) {
+            this.permits--;
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Give up waiting for a permit.
+     *
+     * @param waiter a future returned by {@link #acquire()}
+     * @return {@code true} if cancelled, {@code false} if the permit was granted already and must be released
+     */
+    public boolean cancel(CompletableFuture<Void> waiter) {
+        synchronized (this) {
+            this.waiters.remove(waiter);
+        }
+
+        return waiter.cancel(false);
+    }
+
+    public void release() {
+        while (true) {
+            CompletableFuture<Void> next;
+            synchronized (this) {
+                next = this.waiters.poll();
+                if (next == null) {
+                    if (this.permits >= this.maxPermits) {
+                        throw new IllegalStateException("Released more permits than acquired");
+                    }
+                    this.permits++;
+
+                    return;
+                }
+            }
+
+            // Completed outside the lock, a waiter cancelled in between passes the permit on.
+            if (next.complete(null)) {
+                return;
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public int maxPermits() {
+        return this.maxPermits;
+    }
+
+    public synchronized int availablePermits() {
+        return this.permits;
+    }
+
+    public synchronized int queueLength() {
+        return this.waiters.size();
+    }
+}
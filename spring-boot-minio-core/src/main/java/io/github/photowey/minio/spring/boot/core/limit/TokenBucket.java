@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * {@code TokenBucket}
+ * <p>
+ * A token bucket refilled at {@code permitsPerSecond} up to {@code capacity} tokens, starting full.
+ * A caller reserves a token and is told how long to wait for it, so waiting needs no thread:
+ * tokens reserved ahead of time drive the balance negative and push the next reservations further out.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(double permitsPerSecond, double capacity) {
+        this(permitsPerSecond, capacity, System::nanoTime);
+    }
+
+    public TokenBucket(double permitsPerSecond, double capacity, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = capacity;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Reserve a token, unless it becomes available only after {@code maxWaitNanos}.
+     *
+     * @param maxWaitNanos the longest acceptable wait
+     * @return the nanos to wait before using the token, {@code 0} to go right away,
+     * or {@code -1} if the wait would be longer than {@code maxWaitNanos}(nothing is reserved)
+     */
+    public synchronized long reserve(long maxWaitNanos) {
+        this.refill();
+
+        if (this.tokens >= 1) {
+            this.tokens -= 1;
+
+            return 0;
+        }
+
+        long wait = (long) Math.ceil((1 - this.tokens) / this.permitsPerNano);
+        if (wait > maxWaitNanos) {
+            return -1;
+        }
+
+        this.tokens -= 1;
+
+        return wait;
+    }
+
+    /**
+     * Give back a token reserved by {@link #reserve(long)} and never used.
+     */
+    public synchronized void cancel() {
+        this.refill();
+
+        this.tokens = Math.min(this.capacity, this.tokens + 1);
+    }
+
+    /**
+     * @return the tokens available right now, negative while reservations are outstanding
+     */
+    public synchronized double availableTokens() {
+        this.refill();
+
+        return this.tokens;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void refill() {
+        long now = this.nanoClock.getAsLong();
+        long elapsed = now - this.refilledAt;
+        if (elapsed > 0) {
+            this.tokens = Math.min(this.capacity, this.tokens + elapsed * this.permitsPerNano);
+            this.refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@code Backoff}
+ * <p>
+ * Exponential backoff with full jitter: the wait before a retry is drawn uniformly from
+ * {@code [0, min(max, base * 2^(attempt - 1))]}, so clients failing together don't retry together.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class Backoff {
+
+    private final long baseNanos;
+    private final long maxNanos;
+
+    public Backoff(Duration base, Duration max) {
+        if (base.isNegative() || max.compareTo(base) < 0) {
+            throw new IllegalArgumentException("0 <= base <= max required");
+        }
+
+        this.baseNanos = base.toNanos();
+        this.maxNanos = max.toNanos();
+    }
+
+    /**
+     * The wait before the retry following {@code attempt}.
+     *
+     * @param attempt the failed attempt, from {@code 1}
+     * @return the nanos to wait
+     */
+    public long delayNanos(int attempt) {
+        long ceiling = this.ceilingNanos(attempt);
+
+        return ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling + 1) : 0;
+    }
+
+    /**
+     * @param attempt the failed attempt, from {@code 1}
+     * @return the longest wait before the retry following {@code attempt}
+     */
+    public long ceilingNanos(int attempt) {
+        if (this.baseNanos == 0) {
+            return 0;
+        }
+
+        // Shifting past the leading zeros would overflow, the ceiling is long past any sane max by then.
+        int shift = Math.min(Math.max(0, attempt - 1), Long.numberOfLeadingZeros(this.baseNanos) - 1);
+
+        return Math.min(this.maxNanos, this.baseNanos << shift);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.stats;
+
+import java.util.Arrays;
+
+/**
+ * {@code SlidingQuantile}
+ * <p>
+ * A quantile of the last {@code window} recorded values. Recording is cheap, the quantile is recomputed
+ * every {@code window / 16} records and read without a lock.
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+public class SlidingQuantile {
+
+    private final long[] samples;
+    private final double quantile;
+    private final int minSamples;
+    private final int refreshEvery;
+
+    private int next;
+    private int count;
+    private long recorded;
+    private volatile long value = -1;
+
+    /**
+     * @param window     the number of recent values kept
+     * @param quantile   the quantile, in {@code (0, 1]}
+     * @param minSamples the values needed before {@link #get()} answers
+     */
+    public SlidingQuantile(int window, double quantile, int minSamples) {
+        if (window < 1 || minSamples < 1 || minSamples > window) {
+            throw new IllegalArgumentException("1 <= minSamples <= window required");
+        }
+        if (quantile <= 0 || quantile > 1) {
+            throw new IllegalArgumentException("quantile must be in (0, 1]");
+        }
+
+        this.samples = new long[window];
+        this.quantile = quantile;
+        this.minSamples = minSamples;
+        this.refreshEvery = Math.max(1, window / 16);
+    }
+
+    public synchronized void record(long value) {
+        this.samples[this.next] = value;
+        this.next = (this.next + 1) % this.samples.length;
+        if (this.count < this.samples.length) {
+            this.count++;
+        }
+
+        this.recorded++;
+        if (this.count >= this.minSamples && (this.count == this.minSamples || this.recorded % this.refreshEvery == 0)) {
+            this.refresh();
+        }
+    }
+
+    /**
+     * @return the quantile of the recent values, {@code -1} until {@code minSamples} values were recorded
+     */
+    public long get() {
+        return this.value;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void refresh() {
+        long[] sorted = Arrays.copyOf(this.samples, this.count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(this.quantile * sorted.length) - 1;
+
+        this.value = sorted[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.async;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@code DispatcherGuardTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class DispatcherGuardTest {
+
+    @Test
+    void testCheckBlocking_rejectsDispatcherThread() throws Exception {
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        Throwable thrown = runOn("OkHttp http://127.0.0.1:9000/...", () -> DispatcherGuard.checkBlocking(future));
+
+        Assertions.assertTrue(thrown instanceof IllegalStateException);
+    }
+
+    @Test
+    void testCheckBlocking_allowsOtherThread() throws Exception {
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        Assertions.assertNull(runOn("minio-worker-1", () -> DispatcherGuard.checkBlocking(future)));
+    }
+
+    @Test
+    void testCheckBlocking_allowsCompletedFutureOnDispatcherThread() throws Exception {
+        CompletableFuture<String> future = CompletableFuture.completedFuture("done");
+
+        Assertions.assertNull(runOn("OkHttp Dispatcher", () -> DispatcherGuard.checkBlocking(future)));
+    }
+
+    @Test
+    void testFuturesGet_doesNotGuard() throws Exception {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        AtomicReference<String> value = new AtomicReference<>();
+
+        Thread completer = new Thread(() -> future.complete("done"));
+        Throwable thrown = runOn("OkHttp Dispatcher", () -> {
+            completer.start();
+            value.set(Futures.get(future));
+        });
+
+        Assertions.assertNull(thrown);
+        Assertions.assertEquals("done", value.get());
+    }
+
+    // ----------------------------------------------------------------
+
+    private static Throwable runOn(String threadName, Runnable task) throws InterruptedException {
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                thrown.set(e);
+            }
+        }, threadName);
+        thread.start();
+        thread.join(5_000);
+
+        return thrown.get();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.async;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@code SharedTimerTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class SharedTimerTest {
+
+    @Test
+    void testSchedule_leasesShareOneThread() throws InterruptedException {
+        AtomicReference<Thread> first = new AtomicReference<>();
+        AtomicReference<Thread> second = new AtomicReference<>();
+        CountDownLatch ran = new CountDownLatch(2);
+
+        try (SharedTimer a = SharedTimer.lease(); SharedTimer b = SharedTimer.lease()) {
+            a.schedule(() -> {
+                first.set(Thread.currentThread());
+                ran.countDown();
+            }, 0, TimeUnit.MILLISECONDS);
+            b.schedule(() -> {
+                second.set(Thread.currentThread());
+                ran.countDown();
+            }, 0, TimeUnit.MILLISECONDS);
+
+            Assertions.assertTrue(ran.await(5, TimeUnit.SECONDS));
+        }
+
+        Assertions.assertSame(first.get(), second.get());
+        Assertions.assertTrue(first.get().isDaemon());
+    }
+
+    @Test
+    void testClose_skipsPendingTask() throws InterruptedException {
+        SharedTimer timer = SharedTimer.lease();
+        AtomicBoolean ran = new AtomicBoolean();
+        ScheduledFuture<?> future = timer.schedule(() -> ran.set(true), 50, TimeUnit.MILLISECONDS);
+
+        timer.close();
+        Thread.sleep(150);
+
+        Assertions.assertTrue(future.isDone());
+        Assertions.assertFalse(ran.get());
+    }
+
+    @Test
+    void testDelay_completesAfterDelay() throws Exception {
+        try (SharedTimer timer = SharedTimer.lease()) {
+            CompletableFuture<Void> delay = timer.delay(10, TimeUnit.MILLISECONDS);
+
+            delay.get(5, TimeUnit.SECONDS);
+            Assertions.assertFalse(delay.isCompletedExceptionally());
+        }
+    }
+
+    @Test
+    void testClose_failsPendingDelay() {
+        SharedTimer timer = SharedTimer.lease();
+        CompletableFuture<Void> delay = timer.delay(1, TimeUnit.HOURS);
+
+        timer.close();
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, delay::get);
+        Assertions.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        Assertions.assertThrows(RejectedExecutionException.class, () -> timer.delay(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testClose_cancelsPeriodicTask() {
+        SharedTimer timer = SharedTimer.lease();
+        ScheduledFuture<?> future = timer.scheduleWithFixedDelay(() -> {
+        }, 1, 1, TimeUnit.SECONDS);
+
+        timer.close();
+
+        Assertions.assertTrue(future.isCancelled());
+    }
+
+    @Test
+    void testSchedule_rejectsAfterClose() {
+        SharedTimer timer = SharedTimer.lease();
+        timer.close();
+
+        Assertions.assertThrows(RejectedExecutionException.class, () -> timer.schedule(() -> {
+        }, 0, TimeUnit.MILLISECONDS));
+        Assertions.assertThrows(RejectedExecutionException.class, () -> timer.scheduleWithFixedDelay(() -> {
+        }, 0, 1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testClose_keepsOtherLeases() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+
+        SharedTimer.lease().close();
+        try (SharedTimer timer = SharedTimer.lease()) {
+            timer.schedule(ran::countDown, 0, TimeUnit.MILLISECONDS);
+
+            Assertions.assertTrue(ran.await(5, TimeUnit.SECONDS));
+        }
+    }
+}
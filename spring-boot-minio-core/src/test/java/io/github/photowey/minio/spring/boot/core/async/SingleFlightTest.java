@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.async;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code SingleFlightTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class SingleFlightTest {
+
+    @Test
+    void testCall_sharesFlightInProgress() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch landing = new CountDownLatch(1);
+
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> flights.call("k", () -> {
+            started.countDown();
+            await(landing);
+
+            return calls.incrementAndGet();
+        }));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Integer> second = CompletableFuture.supplyAsync(
+            () -> flights.call("k", calls::incrementAndGet));
+        while (flights.shared() == 0) {
+            Thread.yield();
+        }
+        landing.countDown();
+
+        Assertions.assertEquals(1, first.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, second.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(0, flights.inFlight());
+    }
+
+    @Test
+    void testCall_runsAgainAfterLanding() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        flights.call("k", calls::incrementAndGet);
+        flights.call("k", calls::incrementAndGet);
+
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(0, flights.shared());
+    }
+
+    @Test
+    void testCall_rethrowsFailure() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> flights.call("k", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        Assertions.assertEquals(0, flights.inFlight());
+    }
+
+    @Test
+    void testSubmit_sharesFlightWithFutureOfItsOwn() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        CompletableFuture<Integer> call = new CompletableFuture<>();
+
+        CompletableFuture<Integer> first = flights.submit("k", () -> call);
+        CompletableFuture<Integer> second = flights.submit("k", () -> CompletableFuture.completedFuture(2));
+        first.cancel(false);
+        call.complete(1);
+
+        Assertions.assertEquals(1, second.join());
+        Assertions.assertEquals(1, flights.shared());
+        Assertions.assertEquals(0, flights.inFlight());
+    }
+
+    @Test
+    void testSubmit_failsSharedFlight() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        CompletableFuture<Integer> call = new CompletableFuture<>();
+
+        CompletableFuture<Integer> first = flights.submit("k", () -> call);
+        CompletableFuture<Integer> second = flights.submit("k", () -> CompletableFuture.completedFuture(2));
+        call.completeExceptionally(new IllegalStateException("boom"));
+
+        Assertions.assertTrue(first.isCompletedExceptionally());
+        Assertions.assertTrue(second.isCompletedExceptionally());
+        Assertions.assertTrue(Futures.unwrap(
+            Assertions.assertThrows(RuntimeException.class, second::join)) instanceof IllegalStateException);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
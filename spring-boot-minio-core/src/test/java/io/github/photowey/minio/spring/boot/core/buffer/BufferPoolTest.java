@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.buffer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+/**
+ * {@code BufferPoolTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class BufferPoolTest {
+
+    @Test
+    void testAcquire_reusesReleasedBuffer() {
+        BufferPool pool = new BufferPool(1024 * 1024, 0);
+
+        ByteBuffer first;
+        try (PooledBuffer pooled = pool.acquire(5_000)) {
+            first = pooled.buffer();
+            Assertions.assertEquals(5_000, first.limit());
+            Assertions.assertEquals(8 * 1024, first.capacity());
+        }
+        Assertions.assertEquals(8 * 1024, pool.pooledBytes());
+
+        try (PooledBuffer pooled = pool.acquire(6_000)) {
+            Assertions.assertSame(first, pooled.buffer());
+            Assertions.assertEquals(6_000, pooled.buffer().limit());
+            Assertions.assertEquals(0, pooled.buffer().position());
+        }
+
+        Assertions.assertEquals(1, pool.hits());
+        Assertions.assertEquals(1, pool.misses());
+        Assertions.assertEquals(0, pool.inUse());
+    }
+
+    @Test
+    void testRelease_doesNotPoolLargeBuffer() {
+        BufferPool pool = new BufferPool(64L * 1024 * 1024, 0);
+
+        pool.acquire(BufferPool.MAX_BUFFER_SIZE + 1).close();
+
+        Assertions.assertEquals(0, pool.pooledBytes());
+        Assertions.assertEquals(0, pool.inUse());
+    }
+
+    @Test
+    void testRelease_dropsBufferPastMaxPooledBytes() {
+        BufferPool pool = new BufferPool(4 * 1024, 0);
+        PooledBuffer first = pool.acquire(1);
+        PooledBuffer second = pool.acquire(1);
+
+        first.close();
+        second.close();
+        second.close();
+
+        Assertions.assertEquals(4 * 1024, pool.pooledBytes());
+        Assertions.assertEquals(0, pool.inUse());
+    }
+
+    @Test
+    void testRelease_doesNotCountThreadCache() throws Exception {
+        BufferPool pool = new BufferPool(4 * 1024, 1);
+        PooledBuffer first = pool.acquire(1);
+        PooledBuffer second = pool.acquire(1);
+
+        Thread thread = new Thread(first::close);
+        thread.start();
+        thread.join();
+        Assertions.assertEquals(0, pool.pooledBytes());
+
+        second.close();
+        Assertions.assertEquals(0, pool.pooledBytes());
+
+        PooledBuffer third = pool.acquire(1);
+        PooledBuffer fourth = pool.acquire(1);
+        Assertions.assertSame(second.buffer(), third.buffer());
+        third.close();
+        fourth.close();
+
+        Assertions.assertEquals(4 * 1024, pool.pooledBytes());
+        Assertions.assertEquals(0, pool.inUse());
+    }
+
+    @Test
+    void testCopy_copiesToEnd() throws Exception {
+        BufferPool pool = new BufferPool(1024 * 1024, 0);
+        byte[] bytes = new byte[BufferPool.CHUNK_SIZE * 2 + 7];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long copied = pool.copy(Channels.newChannel(new ByteArrayInputStream(bytes)), Channels.newChannel(out));
+
+        Assertions.assertEquals(bytes.length, copied);
+        Assertions.assertArrayEquals(bytes, out.toByteArray());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ExpiringLruCacheTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class ExpiringLruCacheTest {
+
+    @Test
+    void testPut_evictsLeastRecentlyUsed() {
+        ExpiringLruCache<String, Integer> cache = new ExpiringLruCache<>(2);
+        cache.put("a", 1, 1, TimeUnit.MINUTES);
+        cache.put("b", 2, 1, TimeUnit.MINUTES);
+        cache.get("a");
+
+        cache.put("c", 3, 1, TimeUnit.MINUTES);
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, cache.get("a"));
+        Assertions.assertNull(cache.get("b"));
+        Assertions.assertEquals(3, cache.get("c"));
+        Assertions.assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    void testGet_dropsExpiredEntry() throws InterruptedException {
+        ExpiringLruCache<String, Integer> cache = new ExpiringLruCache<>(2);
+        cache.put("a", 1, 1, TimeUnit.MILLISECONDS);
+        Thread.sleep(5);
+
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertNull(cache.get("a"));
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testPut_dropsValueLoadedBeforeInvalidation() {
+        ExpiringLruCache<String, Integer> cache = new ExpiringLruCache<>(2);
+        long stamp = cache.stamp();
+        cache.invalidate("a");
+
+        Assertions.assertFalse(cache.put("a", 1, 1, TimeUnit.MINUTES, stamp));
+        Assertions.assertNull(cache.get("a"));
+    }
+}
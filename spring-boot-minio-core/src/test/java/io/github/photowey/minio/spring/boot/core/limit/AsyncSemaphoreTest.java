@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.limit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code AsyncSemaphoreTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class AsyncSemaphoreTest {
+
+    @Test
+    void testAcquire_grantsFreePermitRightAway() {
+        AsyncSemaphore semaphore = new AsyncSemaphore(2);
+
+        Assertions.assertTrue(semaphore.acquire().isDone());
+        Assertions.assertTrue(semaphore.tryAcquire());
+        Assertions.assertFalse(semaphore.tryAcquire());
+        Assertions.assertEquals(0, semaphore.availablePermits());
+    }
+
+    @Test
+    void testRelease_grantsWaitersInArrivalOrder() {
+        AsyncSemaphore semaphore = new AsyncSemaphore(1);
+        semaphore.acquire();
+        CompletableFuture<Void> first = semaphore.acquire();
+        CompletableFuture<Void> second = semaphore.acquire();
+
+        semaphore.release();
+
+        Assertions.assertTrue(first.isDone());
+        Assertions.assertFalse(second.isDone());
+        Assertions.assertEquals(1, semaphore.queueLength());
+        Assertions.assertEquals(0, semaphore.availablePermits());
+    }
+
+    @Test
+    void testCancel_passesPermitToNextWaiter() {
+        AsyncSemaphore semaphore = new AsyncSemaphore(1);
+        semaphore.acquire();
+        CompletableFuture<Void> cancelled = semaphore.acquire();
+        CompletableFuture<Void> next = semaphore.acquire();
+
+        Assertions.assertTrue(semaphore.cancel(cancelled));
+        semaphore.release();
+
+        Assertions.assertTrue(next.isDone());
+        Assertions.assertEquals(0, semaphore.queueLength());
+    }
+
+    @Test
+    void testCancel_grantedWaiterMustBeReleased() {
+        AsyncSemaphore semaphore = new AsyncSemaphore(1);
+
+        Assertions.assertFalse(semaphore.cancel(semaphore.acquire()));
+    }
+
+    @Test
+    void testRelease_rejectsReleaseWithoutAcquire() {
+        AsyncSemaphore semaphore = new AsyncSemaphore(1);
+
+        Assertions.assertThrows(IllegalStateException.class, semaphore::release);
+    }
+}
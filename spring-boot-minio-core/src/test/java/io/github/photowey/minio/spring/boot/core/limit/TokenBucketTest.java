@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.limit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code TokenBucketTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testReserve_startsFull() {
+        TokenBucket bucket = new TokenBucket(10, 2, new AtomicLong()::get);
+
+        Assertions.assertEquals(0, bucket.reserve(0));
+        Assertions.assertEquals(0, bucket.reserve(0));
+    }
+
+    @Test
+    void testReserve_waitsForNextToken() {
+        TokenBucket bucket = new TokenBucket(10, 1, new AtomicLong()::get);
+        bucket.reserve(0);
+
+        Assertions.assertEquals(SECOND / 10, bucket.reserve(SECOND));
+        Assertions.assertEquals(2 * SECOND / 10, bucket.reserve(SECOND));
+        Assertions.assertEquals(-2, bucket.availableTokens(), 1e-9);
+    }
+
+    @Test
+    void testReserve_rejectsWaitPastMax() {
+        TokenBucket bucket = new TokenBucket(10, 1, new AtomicLong()::get);
+        bucket.reserve(0);
+
+        Assertions.assertEquals(-1, bucket.reserve(SECOND / 20));
+        Assertions.assertEquals(0, bucket.availableTokens(), 1e-9);
+    }
+
+    @Test
+    void testReserve_refillsUpToCapacity() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 2, clock::get);
+        bucket.reserve(0);
+        bucket.reserve(0);
+
+        clock.addAndGet(10 * SECOND);
+
+        Assertions.assertEquals(2, bucket.availableTokens(), 1e-9);
+    }
+
+    @Test
+    void testCancel_returnsReservedToken() {
+        TokenBucket bucket = new TokenBucket(10, 1, new AtomicLong()::get);
+        bucket.reserve(0);
+
+        bucket.cancel();
+
+        Assertions.assertEquals(0, bucket.reserve(0));
+    }
+
+    @Test
+    void testCancel_keepsCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 1, new AtomicLong()::get);
+
+        bucket.cancel();
+
+        Assertions.assertEquals(1, bucket.availableTokens(), 1e-9);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.retry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ * {@code BackoffTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class BackoffTest {
+
+    @Test
+    void testCeilingNanos_doublesUpToMax() {
+        Backoff backoff = new Backoff(Duration.ofMillis(100), Duration.ofMillis(500));
+
+        Assertions.assertEquals(Duration.ofMillis(100).toNanos(), backoff.ceilingNanos(1));
+        Assertions.assertEquals(Duration.ofMillis(200).toNanos(), backoff.ceilingNanos(2));
+        Assertions.assertEquals(Duration.ofMillis(400).toNanos(), backoff.ceilingNanos(3));
+        Assertions.assertEquals(Duration.ofMillis(500).toNanos(), backoff.ceilingNanos(4));
+    }
+
+    @Test
+    void testCeilingNanos_doesNotOverflow() {
+        Backoff backoff = new Backoff(Duration.ofMillis(100), Duration.ofDays(365));
+
+        Assertions.assertEquals(Duration.ofDays(365).toNanos(), backoff.ceilingNanos(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testDelayNanos_staysWithinCeiling() {
+        Backoff backoff = new Backoff(Duration.ofMillis(10), Duration.ofMillis(80));
+
+        for (int attempt = 1; attempt <= 8; attempt++) {
+            for (int i = 0; i < 100; i++) {
+                long delay = backoff.delayNanos(attempt);
+                Assertions.assertTrue(delay >= 0 && delay <= backoff.ceilingNanos(attempt));
+            }
+        }
+    }
+
+    @Test
+    void testDelayNanos_zeroBase() {
+        Backoff backoff = new Backoff(Duration.ZERO, Duration.ofSeconds(1));
+
+        Assertions.assertEquals(0, backoff.delayNanos(5));
+    }
+
+    @Test
+    void testNew_rejectsMaxBelowBase() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new Backoff(Duration.ofSeconds(2), Duration.ofSeconds(1)));
+    }
+}
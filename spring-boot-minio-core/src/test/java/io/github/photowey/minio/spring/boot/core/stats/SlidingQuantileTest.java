@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.minio.spring.boot.core.stats;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code SlidingQuantileTest}
+ *
+ * @author photowey
+ * @version 1.2.0
+ * @since 2026/10/18
+ */
+class SlidingQuantileTest {
+
+    @Test
+    void testGet_unknownBeforeMinSamples() {
+        SlidingQuantile quantile = new SlidingQuantile(16, 0.5, 4);
+        quantile.record(1);
+        quantile.record(2);
+        quantile.record(3);
+
+        Assertions.assertEquals(-1, quantile.get());
+
+        quantile.record(4);
+
+        Assertions.assertEquals(2, quantile.get());
+    }
+
+    @Test
+    void testGet_quantileOfWindow() {
+        SlidingQuantile quantile = new SlidingQuantile(64, 0.5, 1);
+        for (int i = 64; i >= 1; i--) {
+            quantile.record(i);
+        }
+
+        Assertions.assertEquals(32, quantile.get());
+    }
+
+    @Test
+    void testGet_forgetsValuesOutOfWindow() {
+        SlidingQuantile quantile = new SlidingQuantile(16, 1, 1);
+        quantile.record(1_000);
+        for (int i = 0; i < 16; i++) {
+            quantile.record(10);
+        }
+
+        Assertions.assertEquals(10, quantile.get());
+    }
+
+    @Test
+    void testNew_rejectsQuantileOutOfRange() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SlidingQuantile(16, 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SlidingQuantile(16, 0.5, 32));
+    }
+}